@@ -0,0 +1,441 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import org.apache.commons.dbutils.Column;
+import org.apache.commons.dbutils.DbRow;
+
+/**
+ * Generates a {@code RowProcessor} for each JavaBean annotated with
+ * {@link DbRow}.  For a bean {@code Person} the generated class is
+ * {@code PersonRowProcessor} in the same package.  It creates beans with
+ * their no-argument constructor and sets each public setter whose property
+ * matches a column, reading the column with the {@code ResultSet} getter for
+ * the property type.  Columns are matched to properties when the mapping is
+ * built for a result set, ignoring case, by property name or by the name
+ * given in a {@link Column} annotation on the property's getter.
+ *
+ * <p>
+ * Conversions follow {@code BeanProcessor}: primitive properties are set to
+ * their default for SQL NULL, {@code char} properties take the first
+ * character of the column's string value, enum properties are read with
+ * {@code Enum.valueOf} and types without a dedicated getter are read with
+ * {@code ResultSet.getObject(int, Class)}.  {@code toArray} and {@code toMap}
+ * and beans of other classes are delegated to a {@code BasicRowProcessor}
+ * created on first use.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+@SupportedAnnotationTypes("org.apache.commons.dbutils.DbRow")
+public class DbRowProcessor extends AbstractProcessor {
+
+    /**
+     * A bean property set from a column.
+     */
+    private static final class Property {
+
+        private final String column;
+
+        private final String setter;
+
+        private final TypeMirror type;
+
+        private Property(final String column, final String setter, final TypeMirror type) {
+            this.column = column;
+            this.setter = setter;
+            this.type = type;
+        }
+    }
+
+    /**
+     * The typed getters of the boxed primitive types, keyed by class name.
+     */
+    private static final Map<String, String> BOXED_GETTERS = new HashMap<>();
+
+    /**
+     * The typed getters of other types with a dedicated getter, keyed by class name.
+     */
+    private static final Map<String, String> GETTERS = new HashMap<>();
+
+    static {
+        BOXED_GETTERS.put("java.lang.Boolean", "getBoolean");
+        BOXED_GETTERS.put("java.lang.Byte", "getByte");
+        BOXED_GETTERS.put("java.lang.Double", "getDouble");
+        BOXED_GETTERS.put("java.lang.Float", "getFloat");
+        BOXED_GETTERS.put("java.lang.Integer", "getInt");
+        BOXED_GETTERS.put("java.lang.Long", "getLong");
+        BOXED_GETTERS.put("java.lang.Short", "getShort");
+
+        GETTERS.put("java.lang.Object", "getObject");
+        GETTERS.put("java.lang.String", "getString");
+        GETTERS.put("java.math.BigDecimal", "getBigDecimal");
+        GETTERS.put("java.sql.Date", "getDate");
+        GETTERS.put("java.sql.SQLXML", "getSQLXML");
+        GETTERS.put("java.sql.Time", "getTime");
+        GETTERS.put("java.sql.Timestamp", "getTimestamp");
+        GETTERS.put("java.util.Date", "getTimestamp");
+    }
+
+    /**
+     * Converts a property name as {@code java.beans.Introspector.decapitalize} does.
+     *
+     * @param name The capitalized name.
+     * @return The property name.
+     */
+    private static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Quotes a string as a Java string literal.
+     *
+     * @param value The string.
+     * @return The literal.
+     */
+    private static String literal(final String value) {
+        final StringBuilder literal = new StringBuilder("\"");
+        for (final char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < ' ' || c > '~') {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Gets the property name of an accessor method.
+     *
+     * @param methodName The method name.
+     * @param prefix The accessor prefix, such as {@code get}.
+     * @return The property name or {@code null} if the method name doesn't start with the prefix.
+     */
+    private static String propertyName(final String methodName, final String prefix) {
+        if (!methodName.startsWith(prefix) || methodName.length() == prefix.length()) {
+            return null;
+        }
+        return decapitalize(methodName.substring(prefix.length()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(DbRow.class)) {
+            if (valid(element)) {
+                try {
+                    write((TypeElement) element);
+                } catch (final IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write row processor: " + e.getMessage(), element);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the column name of each property with a public one-parameter
+     * setter, in property name order like {@code java.beans.Introspector}.
+     *
+     * @param bean The bean class.
+     * @return The properties.
+     */
+    private List<Property> properties(final TypeElement bean) {
+        final Map<String, ExecutableElement> setters = new TreeMap<>();
+        final Map<String, ExecutableElement> getters = new HashMap<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(bean))) {
+            final Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String name = method.getSimpleName().toString();
+            final String setter = propertyName(name, "set");
+            if (setter != null && method.getParameters().size() == 1 && method.getReturnType().getKind() == TypeKind.VOID) {
+                setters.put(setter, method);
+            } else if (method.getParameters().isEmpty()) {
+                final String getter = propertyName(name, "get");
+                if (getter != null) {
+                    getters.put(getter, method);
+                } else if (propertyName(name, "is") != null) {
+                    getters.putIfAbsent(propertyName(name, "is"), method);
+                }
+            }
+        }
+
+        final List<Property> properties = new ArrayList<>();
+        for (final Map.Entry<String, ExecutableElement> entry : setters.entrySet()) {
+            final ExecutableElement getter = getters.get(entry.getKey());
+            final Column column = getter == null ? null : getter.getAnnotation(Column.class);
+            final ExecutableElement setter = entry.getValue();
+            properties.add(new Property(column != null ? column.name() : entry.getKey(), setter.getSimpleName().toString(),
+                    setter.getParameters().get(0).asType()));
+        }
+        return properties;
+    }
+
+    /**
+     * Checks that an annotated element is a class the generated code can instantiate.
+     *
+     * @param element The annotated element.
+     * @return Whether the element is valid, errors have been reported otherwise.
+     */
+    private boolean valid(final Element element) {
+        final String error;
+        if (element.getKind() != ElementKind.CLASS) {
+            error = "@DbRow is only supported on classes";
+        } else if (element.getModifiers().contains(Modifier.ABSTRACT)) {
+            error = "@DbRow classes must not be abstract";
+        } else if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            error = "@DbRow classes must not be private";
+        } else if (((TypeElement) element).getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC)) {
+            error = "@DbRow classes must not be inner classes";
+        } else if (ElementFilter.constructorsIn(element.getEnclosedElements()).stream()
+                .noneMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE))) {
+            error = "@DbRow classes need a non-private constructor without parameters";
+        } else {
+            return true;
+        }
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, error, element);
+        return false;
+    }
+
+    /**
+     * Generates the row processor for a bean class.
+     *
+     * @param bean The bean class.
+     * @throws IOException if the source file can't be written.
+     */
+    private void write(final TypeElement bean) throws IOException {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(bean);
+        final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final String beanName = bean.getQualifiedName().toString();
+        final String simpleName = (packageName.isEmpty() ? beanName : beanName.substring(packageName.length() + 1)).replace('.', '_')
+                + "RowProcessor";
+        final List<Property> properties = properties(bean);
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, bean).openWriter();
+                PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("import java.sql.ResultSet;");
+            out.println("import java.sql.ResultSetMetaData;");
+            out.println("import java.sql.SQLException;");
+            out.println("import java.util.ArrayList;");
+            out.println("import java.util.List;");
+            out.println("import java.util.Locale;");
+            out.println("import java.util.Map;");
+            out.println();
+            out.println("import org.apache.commons.dbutils.BasicRowProcessor;");
+            out.println("import org.apache.commons.dbutils.RowProcessor;");
+            out.println();
+            out.println("/**");
+            out.println(" * Maps {@code ResultSet} rows to {@link " + beanName + "} without reflection.");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + DbRowProcessor.class.getName() + "\")");
+            out.println("public final class " + simpleName + " implements RowProcessor {");
+            out.println();
+            out.println("    /**");
+            out.println("     * Delegate for everything but {@link " + beanName + "}, created on first use.");
+            out.println("     */");
+            out.println("    private static final class Fallback {");
+            out.println("        private static final RowProcessor INSTANCE = new BasicRowProcessor();");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * The shared instance, the processor is stateless.");
+            out.println("     */");
+            out.println("    public static final " + simpleName + " INSTANCE = new " + simpleName + "();");
+            out.println();
+            out.println("    private static int[] columns(final ResultSetMetaData rsmd) throws SQLException {");
+            out.println("        final int[] columns = new int[" + properties.size() + "];");
+            out.println("        final int cols = rsmd.getColumnCount();");
+            out.println("        for (int col = 1; col <= cols; col++) {");
+            out.println("            String columnName = rsmd.getColumnLabel(col);");
+            out.println("            if (null == columnName || 0 == columnName.length()) {");
+            out.println("                columnName = rsmd.getColumnName(col);");
+            out.println("            }");
+            out.println("            if (columnName == null) {");
+            out.println("                continue;");
+            out.println("            }");
+            out.println("            switch (columnName.toLowerCase(Locale.ROOT)) {");
+            final Set<String> cases = new HashSet<>();
+            for (int i = 0; i < properties.size(); i++) {
+                final String key = properties.get(i).column.toLowerCase(Locale.ROOT);
+                // like BeanProcessor, a column maps to the first matching property
+                if (cases.add(key)) {
+                    out.println("            case " + literal(key) + ":");
+                    out.println("                columns[" + i + "] = col;");
+                    out.println("                break;");
+                }
+            }
+            out.println("            default:");
+            out.println("                break;");
+            out.println("            }");
+            out.println("        }");
+            out.println("        return columns;");
+            out.println("    }");
+            out.println();
+            out.println("    private static " + beanName + " row(final ResultSet resultSet, final int[] columns) throws SQLException {");
+            out.println("        final " + beanName + " bean = new " + beanName + "();");
+            for (int i = 0; i < properties.size(); i++) {
+                writeProperty(out, properties.get(i), i);
+            }
+            out.println("        return bean;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Object[] toArray(final ResultSet resultSet) throws SQLException {");
+            out.println("        return Fallback.INSTANCE.toArray(resultSet);");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * Converts the current row into a {@link " + beanName + "}.");
+            out.println("     *");
+            out.println("     * @param resultSet the result set positioned on a row");
+            out.println("     * @return the new bean");
+            out.println("     * @throws SQLException if a database access error occurs");
+            out.println("     */");
+            out.println("    public " + beanName + " toBean(final ResultSet resultSet) throws SQLException {");
+            out.println("        return row(resultSet, columns(resultSet.getMetaData()));");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public <T> T toBean(final ResultSet resultSet, final Class<? extends T> type) throws SQLException {");
+            out.println("        if (type != " + beanName + ".class) {");
+            out.println("            return Fallback.INSTANCE.toBean(resultSet, type);");
+            out.println("        }");
+            out.println("        return type.cast(toBean(resultSet));");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * Converts the remaining rows into a list of {@link " + beanName + "}.");
+            out.println("     *");
+            out.println("     * @param resultSet the result set");
+            out.println("     * @return the new beans");
+            out.println("     * @throws SQLException if a database access error occurs");
+            out.println("     */");
+            out.println("    public List<" + beanName + "> toBeanList(final ResultSet resultSet) throws SQLException {");
+            out.println("        final List<" + beanName + "> results = new ArrayList<>();");
+            out.println("        if (!resultSet.next()) {");
+            out.println("            return results;");
+            out.println("        }");
+            out.println("        final int[] columns = columns(resultSet.getMetaData());");
+            out.println("        do {");
+            out.println("            results.add(row(resultSet, columns));");
+            out.println("        } while (resultSet.next());");
+            out.println("        return results;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    public <T> List<T> toBeanList(final ResultSet resultSet, final Class<? extends T> type) throws SQLException {");
+            out.println("        if (type != " + beanName + ".class) {");
+            out.println("            return Fallback.INSTANCE.toBeanList(resultSet, type);");
+            out.println("        }");
+            out.println("        return (List<T>) toBeanList(resultSet);");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Map<String, Object> toMap(final ResultSet resultSet) throws SQLException {");
+            out.println("        return Fallback.INSTANCE.toMap(resultSet);");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    /**
+     * Writes the statements that read a column and set it on the bean.
+     *
+     * @param out The generated source.
+     * @param property The property.
+     * @param index The property's index in the column array.
+     */
+    private void writeProperty(final PrintWriter out, final Property property, final int index) {
+        final TypeMirror type = property.type;
+        final String column = "columns[" + index + "]";
+        final String set = "bean." + property.setter + "(";
+        out.println("        if (" + column + " != 0) {");
+        if (type.getKind() == TypeKind.CHAR) {
+            out.println("            final String value = resultSet.getString(" + column + ");");
+            out.println("            if (value != null && !value.isEmpty()) {");
+            out.println("                " + set + "value.charAt(0));");
+            out.println("            }");
+        } else if (type.getKind().isPrimitive()) {
+            final String kind = type.getKind().name();
+            final String getter = "get" + kind.charAt(0) + kind.substring(1).toLowerCase(Locale.ROOT);
+            out.println("            " + set + "resultSet." + getter + "(" + column + "));");
+        } else if (type.getKind() == TypeKind.ARRAY && "byte[]".equals(type.toString())) {
+            out.println("            " + set + "resultSet.getBytes(" + column + "));");
+        } else {
+            final String name = processingEnv.getTypeUtils().erasure(type).toString();
+            final Element typeElement = processingEnv.getTypeUtils().asElement(type);
+            if (BOXED_GETTERS.containsKey(name)) {
+                final String primitive = processingEnv.getTypeUtils().unboxedType(type).toString();
+                out.println("            final " + primitive + " value = resultSet." + BOXED_GETTERS.get(name) + "(" + column + ");");
+                out.println("            " + set + "resultSet.wasNull() ? null : " + name + ".valueOf(value));");
+            } else if (GETTERS.containsKey(name)) {
+                out.println("            " + set + "resultSet." + GETTERS.get(name) + "(" + column + "));");
+            } else if (typeElement != null && typeElement.getKind() == ElementKind.ENUM) {
+                out.println("            final String value = resultSet.getString(" + column + ");");
+                out.println("            " + set + "value == null ? null : " + name + ".valueOf(value));");
+            } else {
+                out.println("            " + set + "resultSet.getObject(" + column + ", " + name + ".class));");
+            }
+        }
+        out.println("        }");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.dbutils.RowProcessor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DbRowProcessorTest {
+
+    private static final String PERSON = String.join("\n",
+            "package test;",
+            "import org.apache.commons.dbutils.Column;",
+            "import org.apache.commons.dbutils.DbRow;",
+            "@DbRow",
+            "public class Person {",
+            "    public enum Kind { ADMIN, USER }",
+            "    private long id;",
+            "    private Integer age;",
+            "    private String name;",
+            "    private Kind kind;",
+            "    public Integer getAge() { return age; }",
+            "    public long getId() { return id; }",
+            "    public Kind getKind() { return kind; }",
+            "    @Column(name = \"full_name\")",
+            "    public String getName() { return name; }",
+            "    public void setAge(Integer age) { this.age = age; }",
+            "    public void setId(long id) { this.id = id; }",
+            "    public void setKind(Kind kind) { this.kind = kind; }",
+            "    public void setName(String name) { this.name = name; }",
+            "}");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private boolean compile(final String className, final String source, final DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+        final File sourceFile = new File(folder.getRoot(), className.replace('.', '/') + ".java");
+        sourceFile.getParentFile().mkdirs();
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    Arrays.asList("-d", folder.getRoot().getPath(), "-classpath", System.getProperty("java.class.path")),
+                    null, fileManager.getJavaFileObjects(sourceFile));
+            task.setProcessors(Arrays.asList(new DbRowProcessor()));
+            return task.call();
+        }
+    }
+
+    @Test
+    public void testGeneratedProcessor() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(diagnostics.getDiagnostics().toString(), compile("test.Person", PERSON, diagnostics));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {folder.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            final Class<?> beanClass = loader.loadClass("test.Person");
+            final RowProcessor processor = (RowProcessor) loader.loadClass("test.PersonRowProcessor").getField("INSTANCE").get(null);
+
+            final ResultSetMetaData rsmd = mock(ResultSetMetaData.class);
+            when(rsmd.getColumnCount()).thenReturn(4);
+            when(rsmd.getColumnLabel(1)).thenReturn("ID");
+            when(rsmd.getColumnLabel(2)).thenReturn("full_name");
+            when(rsmd.getColumnLabel(3)).thenReturn("age");
+            when(rsmd.getColumnLabel(4)).thenReturn("kind");
+            final ResultSet rs = mock(ResultSet.class);
+            when(rs.getMetaData()).thenReturn(rsmd);
+            when(rs.next()).thenReturn(true, true, false);
+            when(rs.getLong(1)).thenReturn(1L, 2L);
+            when(rs.getString(2)).thenReturn("Ann", (String) null);
+            when(rs.getInt(3)).thenReturn(42, 0);
+            when(rs.wasNull()).thenReturn(false, true);
+            when(rs.getString(4)).thenReturn("ADMIN", (String) null);
+
+            final List<?> beans = processor.toBeanList(rs, beanClass);
+
+            assertEquals(2, beans.size());
+            final Object first = beans.get(0);
+            assertEquals(1L, beanClass.getMethod("getId").invoke(first));
+            assertEquals("Ann", beanClass.getMethod("getName").invoke(first));
+            assertEquals(42, beanClass.getMethod("getAge").invoke(first));
+            assertEquals("ADMIN", beanClass.getMethod("getKind").invoke(first).toString());
+            final Object second = beans.get(1);
+            assertEquals(2L, beanClass.getMethod("getId").invoke(second));
+            assertNull(beanClass.getMethod("getName").invoke(second));
+            assertNull(beanClass.getMethod("getAge").invoke(second));
+            assertNull(beanClass.getMethod("getKind").invoke(second));
+            verify(rs, never()).getObject(anyInt());
+        }
+    }
+
+    @Test
+    public void testRejectsClassWithoutNoArgConstructor() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final String source = String.join("\n",
+                "package test;",
+                "@org.apache.commons.dbutils.DbRow",
+                "public class Point {",
+                "    public Point(int x) { }",
+                "}");
+
+        assertFalse(compile("test.Point", source, diagnostics));
+        assertTrue(diagnostics.getDiagnostics().toString(), diagnostics.getDiagnostics().toString().contains("constructor without parameters"));
+    }
+}
@@ -30,7 +30,13 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
@@ -40,6 +46,44 @@ import javax.sql.DataSource;
  * @since 1.4 (mostly extracted from QueryRunner)
  */
 public abstract class AbstractQueryRunner {
+
+    /**
+     * The maximum number of SQL statements whose parameter metadata is cached.
+     */
+    private static final int PARAMETER_METADATA_CACHE_SIZE = 256;
+
+    /**
+     * Receives the statements created by {@code QueryRunner} methods on the
+     * current thread, see {@link #track(Statement)}.
+     */
+    private static final ThreadLocal<Consumer<Statement>> STATEMENT_LISTENER = new ThreadLocal<>();
+
+    /**
+     * ServiceLoader to find {@code ParameterBinder} implementations on the classpath.
+     */
+    private static final List<ParameterBinder<?>> PARAMETER_BINDERS = new ArrayList<>();
+
+    /**
+     * The first {@code ParameterBinder} matching each value type, so the
+     * binder list is only scanned once per type.
+     */
+    private static final ClassValue<ParameterBinder<?>> PARAMETER_BINDER_BY_TYPE = new ClassValue<ParameterBinder<?>>() {
+        @Override
+        protected ParameterBinder<?> computeValue(final Class<?> valueType) {
+            for (final ParameterBinder<?> binder : PARAMETER_BINDERS) {
+                if (binder.match(valueType)) {
+                    return binder;
+                }
+            }
+            return null;
+        }
+    };
+
+    static {
+        // Use a ServiceLoader to find implementations
+        ServiceLoader.load(ParameterBinder.class).forEach(PARAMETER_BINDERS::add);
+    }
+
     /**
      * Is {@link ParameterMetaData#getParameterType(int)} broken (have we tried
      * it yet)?
@@ -58,6 +102,38 @@ public abstract class AbstractQueryRunner {
      */
     private final StatementConfiguration stmtConfig;
 
+    /**
+     * The cached prepared statements of each connection, if
+     * {@link StatementConfiguration#getStatementCacheSize()} is set.
+     */
+    private final Map<Connection, StatementCache> statementCaches = new IdentityHashMap<>();
+
+    /**
+     * The number of statement caches above which creating another one first
+     * drops those of closed connections.  Guarded by {@link #statementCaches}.
+     */
+    private int statementCacheSweepSize = 1;
+
+    /**
+     * The parameter types of SQL statements, so their parameter metadata
+     * needn't be fetched for every execution, if
+     * {@link StatementConfiguration#isParameterMetaDataCached()} is set.
+     */
+    private final BoundedCache<String, int[]> parameterTypes = new BoundedCache<>(PARAMETER_METADATA_CACHE_SIZE);
+
+    /**
+     * Whether parameter metadata can be cached, which it can't if a subclass
+     * overrides how it is fetched or used.
+     */
+    private final boolean parameterMetaDataCacheable =
+            !Overrides.isOverridden(AbstractQueryRunner.class, this, "fillStatement", PreparedStatement.class, Object[].class)
+            && !Overrides.isOverridden(AbstractQueryRunner.class, this, "getParameterMetaData", PreparedStatement.class);
+
+    /**
+     * The compiled bean binders, keyed by bean class and property names.
+     */
+    private final BeanProcessor.MappingCache<BeanBinder> beanBinders = new BeanProcessor.MappingCache<>();
+
     /**
      * Default constructor, sets pmdKnownBroken to false, ds to null and stmtConfig to null.
      */
@@ -158,6 +234,57 @@ public abstract class AbstractQueryRunner {
         this.stmtConfig = stmtConfig;
     }
 
+    /**
+     * Gets the compiled binder for the given properties of a bean class.
+     *
+     * @param type The bean class.
+     * @param propertyNames The properties, in parameter order.
+     * @return The binder.
+     */
+    BeanBinder beanBinder(final Class<?> type, final String... propertyNames) {
+        final BeanProcessor.MappingKey key = BeanProcessor.MappingKey.of(type, propertyNames);
+        final BeanBinder binder = beanBinders.get(key);
+        if (binder != null) {
+            return binder;
+        }
+        return beanBinders.putIfAbsent(key, BeanBinder.of(type, propertyNames));
+    }
+
+    /**
+     * Starts measuring the execution of a statement, if the statement
+     * configuration has a {@link QueryListener} or its Java Flight Recorder
+     * event is enabled.
+     *
+     * @param operation The kind of statement.
+     * @param sql The SQL.
+     * @param handler The handler converting the results, may be null.
+     * @return The execution, or null if there is no listener and the event
+     * is disabled.
+     */
+    QueryExecution startExecution(final QueryExecution.Operation operation, final String sql, final ResultSetHandler<?> handler) {
+        return QueryExecution.start(stmtConfig == null ? null : stmtConfig.getQueryListener(), operation, sql, handler);
+    }
+
+    /**
+     * Binds a non-null value with the first {@code ParameterBinder} matching
+     * its class, or with {@link PreparedStatement#setObject(int, Object)} if
+     * none does.
+     *
+     * @param stmt The statement to bind the value to.
+     * @param parameterIndex The 1-based parameter index.
+     * @param value The value, not {@code null}.
+     * @throws SQLException if a database access error occurs
+     */
+    @SuppressWarnings("unchecked")
+    static void bindParameter(final PreparedStatement stmt, final int parameterIndex, final Object value) throws SQLException {
+        final ParameterBinder<Object> binder = (ParameterBinder<Object>) PARAMETER_BINDER_BY_TYPE.get(value.getClass());
+        if (binder == null) {
+            stmt.setObject(parameterIndex, value);
+        } else {
+            binder.bind(stmt, parameterIndex, value);
+        }
+    }
+
     /**
      * Close a {@code Connection}. This implementation avoids closing if
      * null and does <strong>not</strong> suppress any exceptions. Subclasses
@@ -170,6 +297,7 @@ public abstract class AbstractQueryRunner {
      * @since 1.1
      */
     protected void close(final Connection conn) throws SQLException {
+        closeStatementCache(conn);
         DbUtils.close(conn);
     }
 
@@ -191,7 +319,8 @@ public abstract class AbstractQueryRunner {
     /**
      * Close a {@code Statement}. This implementation avoids closing if
      * null and does <strong>not</strong> suppress any exceptions. Subclasses
-     * can override to provide special handling like logging.
+     * can override to provide special handling like logging.  Statements from
+     * the statement cache are put back into it instead of being closed.
      *
      * @param stmt
      *            Statement to close
@@ -200,7 +329,9 @@ public abstract class AbstractQueryRunner {
      * @since 1.1
      */
     protected void close(final Statement stmt) throws SQLException {
-        DbUtils.close(stmt);
+        if (!releaseStatement(stmt)) {
+            DbUtils.close(stmt);
+        }
     }
 
     /**
@@ -210,6 +341,7 @@ public abstract class AbstractQueryRunner {
      * @since 1.8.0
      */
     protected void closeQuietly(final Connection conn) {
+        closeStatementCache(conn);
         DbUtils.closeQuietly(conn);
     }
 
@@ -224,13 +356,37 @@ public abstract class AbstractQueryRunner {
     }
 
     /**
-     * Calls {@link DbUtils#closeQuietly(Statement)}.
+     * Calls {@link DbUtils#closeQuietly(Statement)}, unless the statement is
+     * from the statement cache, in which case it is put back into it.
      *
      * @param statement ResultSet to close.
      * @since 1.8.0
      */
     protected void closeQuietly(final Statement statement) {
-        DbUtils.closeQuietly(statement);
+        if (!releaseStatement(statement)) {
+            DbUtils.closeQuietly(statement);
+        }
+    }
+
+    /**
+     * Closes the cached statements of a connection that is being closed.
+     *
+     * @param conn The connection.
+     */
+    private void closeStatementCache(final Connection conn) {
+        if (!isStatementCacheEnabled()) {
+            return;
+        }
+        final StatementCache cache;
+        synchronized (statementCaches) {
+            if (statementCaches.isEmpty()) {
+                return;
+            }
+            cache = statementCaches.remove(conn);
+        }
+        if (cache != null) {
+            cache.close();
+        }
     }
 
     private void configureStatement(final Statement stmt) throws SQLException {
@@ -271,19 +427,29 @@ public abstract class AbstractQueryRunner {
      *             if a database access error occurs
      */
     public void fillStatement(final PreparedStatement stmt, final Object... params) throws SQLException {
-        ParameterMetaData pmd = null;
-        if (!pmdKnownBroken) {
-            try {
-                pmd = this.getParameterMetaData(stmt);
-                if (pmd == null) { // can be returned by implementations that don't support the method
-                    pmdKnownBroken = true;
-                }
-            } catch (final SQLFeatureNotSupportedException ex) {
-                pmdKnownBroken = true;
-            }
-            // TODO see DBUTILS-117: would it make sense to catch any other SQLEx types here?
+        fillStatement(stmt, getParameterMetaData(null, stmt), params);
+    }
+
+    /**
+     * Fill the {@code PreparedStatement} replacement parameters with the
+     * given objects, using the parameter metadata cached for the SQL.
+     *
+     * @param sql
+     *            The SQL the statement was prepared with
+     * @param stmt
+     *            PreparedStatement to fill
+     * @param params
+     *            Query replacement parameters; {@code null} is a valid
+     *            value to pass in.
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    void fillStatement(final String sql, final PreparedStatement stmt, final Object... params) throws SQLException {
+        if (!isParameterMetaDataCached()) {
+            fillStatement(stmt, params);
+            return;
         }
-        fillStatement(stmt, pmd, params);
+        fillStatement(stmt, getParameterMetaData(sql, stmt), params);
     }
 
     /**
@@ -329,7 +495,7 @@ public abstract class AbstractQueryRunner {
                 if (call != null && params[i] instanceof OutParameter) {
                     ((OutParameter<?>) params[i]).register(call, i + 1);
                 } else {
-                    stmt.setObject(i + 1, params[i]);
+                    bindParameter(stmt, i + 1, params[i]);
                 }
             } else {
                 // VARCHAR works with many drivers regardless
@@ -443,6 +609,48 @@ public abstract class AbstractQueryRunner {
         return this.ds;
     }
 
+    /**
+     * Gets the {@code ParameterMetaData} of the prepared statement, if the
+     * {@code pmdKnownBroken} is set to false, remembering that it is broken
+     * if the driver doesn't support it.  If parameter metadata is cached, the
+     * parameter count and types are cached for the SQL, so the statement's
+     * metadata is only fetched when they aren't known yet.
+     *
+     * @param sql
+     *            The SQL the statement was prepared with, or {@code null} to not use the cache
+     * @param stmt
+     *            PreparedStatement of which to query the metadata of parameters
+     * @return the metadata of parameters or {@code null} if it is broken
+     * @throws SQLException
+     *            if a database access error occurs
+     */
+    ParameterMetaData getParameterMetaData(final String sql, final PreparedStatement stmt) throws SQLException {
+        if (pmdKnownBroken) {
+            return null;
+        }
+        final boolean cached = sql != null && isParameterMetaDataCached();
+        try {
+            final int[] types = cached ? parameterTypes.get(sql) : null;
+            if (types != null) {
+                return new CachedParameterMetaData(types, this, stmt, null);
+            }
+            final ParameterMetaData pmd = this.getParameterMetaData(stmt);
+            if (pmd == null) { // can be returned by implementations that don't support the method
+                pmdKnownBroken = true;
+                return null;
+            }
+            if (!cached) {
+                return pmd;
+            }
+            return new CachedParameterMetaData(parameterTypes.putIfAbsent(sql, CachedParameterMetaData.parameterTypes(pmd.getParameterCount())),
+                    this, stmt, pmd);
+        } catch (final SQLFeatureNotSupportedException ex) {
+            // TODO see DBUTILS-117: would it make sense to catch any other SQLEx types here?
+            pmdKnownBroken = true;
+            return null;
+        }
+    }
+
     /**
      * Gets the {@code ParameterMetaData} of the prepared statement, if the {@code pmdKnownBroken}
      * is set to false.
@@ -465,6 +673,15 @@ public abstract class AbstractQueryRunner {
         return pmd;
     }
 
+    /**
+     * Gets the configuration applied to statements when they are prepared.
+     *
+     * @return The configuration, may be null.
+     */
+    StatementConfiguration getStatementConfiguration() {
+        return stmtConfig;
+    }
+
     /**
      * Some drivers don't support
      * {@link ParameterMetaData#getParameterType(int) }; if
@@ -480,6 +697,24 @@ public abstract class AbstractQueryRunner {
         return pmdKnownBroken;
     }
 
+    /**
+     * Tells whether parameter metadata is cached by SQL.
+     *
+     * @return true if it is configured and no subclass overrides how it is fetched or used.
+     */
+    private boolean isParameterMetaDataCached() {
+        return parameterMetaDataCacheable && stmtConfig != null && stmtConfig.isParameterMetaDataCached();
+    }
+
+    /**
+     * Tells whether prepared statements are cached.
+     *
+     * @return true if a statement cache size greater than 0 is configured.
+     */
+    private boolean isStatementCacheEnabled() {
+        return stmtConfig != null && stmtConfig.isStatementCacheSizeSet() && stmtConfig.getStatementCacheSize() > 0;
+    }
+
     /**
      * Factory method that creates and initializes a
      * {@code CallableStatement} object for the given SQL.
@@ -530,7 +765,8 @@ public abstract class AbstractQueryRunner {
      * {@code QueryRunner} methods always call this method to prepare
      * statements for them. Subclasses can override this method to provide
      * special PreparedStatement configuration if needed. This implementation
-     * simply calls {@code conn.prepareStatement(sql)}.
+     * simply calls {@code conn.prepareStatement(sql)}, unless a statement for
+     * the SQL is in the statement cache.
      *
      * @param conn
      *            The {@code Connection} used to create the
@@ -543,6 +779,13 @@ public abstract class AbstractQueryRunner {
      */
     protected PreparedStatement prepareStatement(final Connection conn, final String sql)
             throws SQLException {
+        final StatementCache cache = statementCache(conn);
+        if (cache != null) {
+            final PreparedStatement cached = cache.take(sql, StatementCache.NO_RETURNED_KEYS_FLAG);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
         @SuppressWarnings("resource")
         final
@@ -553,6 +796,9 @@ public abstract class AbstractQueryRunner {
             ps.close();
             throw e;
         }
+        if (cache != null) {
+            cache.lend(sql, StatementCache.NO_RETURNED_KEYS_FLAG, ps);
+        }
         return ps;
     }
 
@@ -564,7 +810,8 @@ public abstract class AbstractQueryRunner {
      * special PreparedStatement configuration if needed. This implementation
      * simply calls {@code conn.prepareStatement(sql, returnedKeys)}
      * which will result in the ability to retrieve the automatically-generated
-     * keys from an auto_increment column.
+     * keys from an auto_increment column, unless a statement for the SQL and
+     * flag is in the statement cache.
      *
      * @param conn
      *            The {@code Connection} used to create the
@@ -581,6 +828,13 @@ public abstract class AbstractQueryRunner {
      */
     protected PreparedStatement prepareStatement(final Connection conn, final String sql, final int returnedKeys)
             throws SQLException {
+        final StatementCache cache = statementCache(conn);
+        if (cache != null) {
+            final PreparedStatement cached = cache.take(sql, returnedKeys);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
         @SuppressWarnings("resource")
         final
@@ -591,9 +845,45 @@ public abstract class AbstractQueryRunner {
             ps.close();
             throw e;
         }
+        if (cache != null) {
+            cache.lend(sql, returnedKeys, ps);
+        }
         return ps;
     }
 
+    /**
+     * Puts a statement taken from or lent to a statement cache back into it.
+     *
+     * @param stmt The statement, may be null.
+     * @return Whether the statement was from a statement cache.
+     */
+    private boolean releaseStatement(final Statement stmt) {
+        if (stmt == null || !isStatementCacheEnabled()) {
+            return false;
+        }
+        Connection conn;
+        try {
+            conn = stmt.getConnection();
+        } catch (final SQLException e) {
+            conn = null;
+        }
+        final StatementCache[] caches;
+        synchronized (statementCaches) {
+            if (statementCaches.isEmpty()) {
+                return false;
+            }
+            final StatementCache cache = statementCaches.get(conn);
+            // a driver may return another object than the connection the statement was prepared on
+            caches = cache != null ? new StatementCache[] {cache} : statementCaches.values().toArray(new StatementCache[0]);
+        }
+        for (final StatementCache cache : caches) {
+            if (cache.release(stmt)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Throws a new exception with a more informative error message.
      *
@@ -637,6 +927,105 @@ public abstract class AbstractQueryRunner {
         throw e;
     }
 
+    /**
+     * Sets the listener that receives the statements created by
+     * {@code QueryRunner} methods on the current thread.
+     *
+     * @param listener The listener or {@code null} to remove it.
+     * @return The previous listener or {@code null} if there was none.
+     */
+    static Consumer<Statement> setStatementListener(final Consumer<Statement> listener) {
+        final Consumer<Statement> previous = STATEMENT_LISTENER.get();
+        if (listener == null) {
+            STATEMENT_LISTENER.remove();
+        } else {
+            STATEMENT_LISTENER.set(listener);
+        }
+        return previous;
+    }
+
+    /**
+     * Gets the statement cache of a connection, creating it if needed.
+     * Caches are removed when this query runner closes their connection;
+     * once their number has doubled, creating a cache also drops those of
+     * connections that were closed without this query runner's knowledge.
+     *
+     * @param conn The connection.
+     * @return The cache or {@code null} if statements aren't cached.
+     */
+    private StatementCache statementCache(final Connection conn) {
+        if (!isStatementCacheEnabled()) {
+            return null;
+        }
+        StatementCache cache;
+        List<Connection> others = null;
+        synchronized (statementCaches) {
+            cache = statementCaches.get(conn);
+            if (cache == null) {
+                cache = new StatementCache(stmtConfig.getStatementCacheSize());
+                statementCaches.put(conn, cache);
+                if (statementCaches.size() > statementCacheSweepSize) {
+                    others = new ArrayList<>(statementCaches.keySet());
+                }
+            }
+        }
+        if (others != null) {
+            dropStaleStatementCaches(others, conn);
+        }
+        return cache;
+    }
+
+    /**
+     * Drops and closes the statement caches of closed connections.  The
+     * connections are asked whether they are closed without holding the lock
+     * on {@link #statementCaches}.
+     *
+     * @param connections The connections to check.
+     * @param current The connection in use, which isn't checked.
+     */
+    private void dropStaleStatementCaches(final List<Connection> connections, final Connection current) {
+        final List<Connection> closed = new ArrayList<>();
+        for (final Connection candidate : connections) {
+            if (candidate == current) {
+                continue;
+            }
+            try {
+                if (candidate.isClosed()) {
+                    closed.add(candidate);
+                }
+            } catch (final SQLException e) {
+                closed.add(candidate);
+            }
+        }
+        final List<StatementCache> stale = new ArrayList<>(closed.size());
+        synchronized (statementCaches) {
+            for (final Connection candidate : closed) {
+                final StatementCache cache = statementCaches.remove(candidate);
+                if (cache != null) {
+                    stale.add(cache);
+                }
+            }
+            statementCacheSweepSize = Math.max(1, statementCaches.size() * 2);
+        }
+        stale.forEach(StatementCache::close);
+    }
+
+    /**
+     * Reports a statement a {@code QueryRunner} method is about to execute to
+     * the current thread's statement listener, if any.
+     *
+     * @param <S> The type of statement.
+     * @param stmt The statement.
+     * @return The statement.
+     */
+    static <S extends Statement> S track(final S stmt) {
+        final Consumer<Statement> listener = STATEMENT_LISTENER.get();
+        if (listener != null && stmt != null) {
+            listener.accept(stmt);
+        }
+        return stmt;
+    }
+
     /**
      * Wrap the {@code ResultSet} in a decorator before processing it. This
      * implementation returns the {@code ResultSet} it is given without any
@@ -16,12 +16,14 @@
  */
 package org.apache.commons.dbutils;
 
+import java.lang.reflect.InvocationTargetException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import javax.sql.DataSource;
@@ -215,6 +217,44 @@ public class AsyncQueryRunner extends AbstractQueryRunner {
 
     }
 
+    /**
+     * Creates an {@code ExecutorService} that runs up to the given number of
+     * JDBC calls at the same time, typically the size of the connection pool.
+     * On Java 21 and later each call runs on its own virtual thread, and calls
+     * beyond the limit wait for a permit without occupying a platform thread.
+     * On earlier versions a fixed pool of platform threads of the given size
+     * is used.  The caller is responsible for shutting the executor down.
+     *
+     * @param maxConcurrency The maximum number of calls running at the same time.
+     * @return The executor.
+     * @since 1.9.0
+     */
+    public static ExecutorService newExecutorService(final int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive: " + maxConcurrency);
+        }
+        final ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+        if (virtualThreads == null) {
+            return Executors.newFixedThreadPool(maxConcurrency);
+        }
+        return new BoundedExecutorService(virtualThreads, maxConcurrency);
+    }
+
+    /**
+     * Calls {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively,
+     * so this class still runs on Java versions without virtual threads.
+     *
+     * @return The executor or {@code null} if virtual threads aren't available.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            // Java before 21, or a preview feature that isn't enabled
+            return null;
+        }
+    }
+
     private final ExecutorService executorService;
 
     private final QueryRunner queryRunner;
@@ -160,6 +160,25 @@ public class BasicRowProcessor implements RowProcessor {
      */
     private final BeanProcessor convert;
 
+    /**
+     * Whether a subclass overrides {@link #toMap(ResultSet)}, in which case
+     * {@link #mapMapper(ResultSetMetaData)} must call it for every row.
+     */
+    private final boolean toMapOverridden = Overrides.isOverridden(BasicRowProcessor.class, this, "toMap", ResultSet.class);
+
+    /**
+     * Whether a subclass overrides {@link #toArray(ResultSet)}, in which case
+     * {@link #arrayMapper(ResultSetMetaData)} must call it for every row.
+     */
+    private final boolean toArrayOverridden = Overrides.isOverridden(BasicRowProcessor.class, this, "toArray", ResultSet.class);
+
+    /**
+     * Whether a subclass overrides {@link #toBean(ResultSet, Class)}, in which
+     * case {@link #beanMapper(ResultSetMetaData, Class)} must call it for
+     * every row.
+     */
+    private final boolean toBeanOverridden = Overrides.isOverridden(BasicRowProcessor.class, this, "toBean", ResultSet.class, Class.class);
+
     /**
      * BasicRowProcessor constructor.  Bean processing defaults to a
      * BeanProcessor instance.
@@ -178,6 +197,84 @@ public class BasicRowProcessor implements RowProcessor {
         this.convert = convert;
     }
 
+    /**
+     * Returns a mapper that converts rows into arrays like
+     * {@link #toArray(ResultSet)} does, reading the column count only once.
+     * If a subclass overrides {@link #toArray(ResultSet)}, the mapper calls
+     * it instead.
+     *
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     * @see org.apache.commons.dbutils.RowProcessor#arrayMapper(java.sql.ResultSetMetaData)
+     * @since 1.9.0
+     */
+    @Override
+    public RowMapper<Object[]> arrayMapper(final ResultSetMetaData metaData) throws SQLException {
+        if (toArrayOverridden) {
+            return this::toArray;
+        }
+        final int cols = metaData.getColumnCount();
+        return resultSet -> {
+            final Object[] result = new Object[cols];
+            for (int i = 0; i < cols; i++) {
+                result[i] = resultSet.getObject(i + 1);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Returns a mapper that converts rows into JavaBeans.  This
+     * implementation delegates to a BeanProcessor instance, unless a subclass
+     * overrides {@link #toBean(ResultSet, Class)}, in which case the mapper
+     * calls it instead.
+     *
+     * @param <T> The type of bean to create
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @param type Class from which to create the bean instances
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     * @see org.apache.commons.dbutils.RowProcessor#beanMapper(java.sql.ResultSetMetaData, Class)
+     * @see org.apache.commons.dbutils.BeanProcessor#beanMapper(java.sql.ResultSetMetaData, Class)
+     * @since 1.9.0
+     */
+    @Override
+    public <T> RowMapper<T> beanMapper(final ResultSetMetaData metaData, final Class<? extends T> type) throws SQLException {
+        if (toBeanOverridden) {
+            return resultSet -> this.toBean(resultSet, type);
+        }
+        return this.convert.beanMapper(metaData, type);
+    }
+
+    /**
+     * Returns a mapper that converts rows into {@code Map}s like
+     * {@link #toMap(ResultSet)} does.  The rows share one case insensitive
+     * index of the column labels, built here once, and each only holds an
+     * array of its values.  Changing a row other than by replacing the value
+     * of a key spelled exactly like its column copies it into a map like the
+     * one {@link #toMap(ResultSet)} returns first.
+     *
+     * <p>
+     * If a subclass overrides {@link #toMap(ResultSet)}, or several columns
+     * have the same label, the mapper calls {@link #toMap(ResultSet)} instead.
+     * </p>
+     *
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     * @see org.apache.commons.dbutils.RowProcessor#mapMapper(java.sql.ResultSetMetaData)
+     * @since 1.9.0
+     */
+    @Override
+    public RowMapper<Map<String, Object>> mapMapper(final ResultSetMetaData metaData) throws SQLException {
+        final RowMap.Schema schema = toMapOverridden ? null : RowMap.Schema.of(metaData);
+        if (schema == null) {
+            return this::toMap;
+        }
+        return schema::row;
+    }
+
     /**
      * Convert a {@code ResultSet} row into an {@code Object[]}.
      * This implementation copies column values into the array in the same
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Binds bean properties to {@code PreparedStatement} parameters with getters
+ * compiled once per bean class and list of properties.  Primitive properties
+ * are bound with the matching typed setter, {@code String}s with
+ * {@link PreparedStatement#setString(int, String)} and other values with
+ * the {@link ParameterBinder} matching their class.
+ */
+final class BeanBinder {
+
+    /**
+     * Binds one property.
+     */
+    @FunctionalInterface
+    private interface PropertyBinder {
+
+        /**
+         * Binds the property of a bean.
+         *
+         * @param stmt The statement.
+         * @param index The parameter index.
+         * @param bean The bean.
+         * @param nullType The SQL type to bind a {@code null} value with.
+         * @throws SQLException if a database access error occurs
+         */
+        void bind(PreparedStatement stmt, int index, Object bean, int nullType) throws SQLException;
+    }
+
+    /**
+     * Compiles the binder of one property.
+     *
+     * @param getter The property's read method.
+     * @return The binder.
+     */
+    private static PropertyBinder binder(final Method getter) {
+        final Class<?> type = getter.getReturnType();
+        if (type == Integer.TYPE) {
+            final ToIntFunction<Object> get = PropertyAccessors.intGetter(getter);
+            if (get != null) {
+                return (stmt, index, bean, nullType) -> stmt.setInt(index, get.applyAsInt(bean));
+            }
+        } else if (type == Long.TYPE) {
+            final ToLongFunction<Object> get = PropertyAccessors.longGetter(getter);
+            if (get != null) {
+                return (stmt, index, bean, nullType) -> stmt.setLong(index, get.applyAsLong(bean));
+            }
+        } else if (type == Double.TYPE) {
+            final ToDoubleFunction<Object> get = PropertyAccessors.doubleGetter(getter);
+            if (get != null) {
+                return (stmt, index, bean, nullType) -> stmt.setDouble(index, get.applyAsDouble(bean));
+            }
+        } else if (type == Boolean.TYPE) {
+            final Predicate<Object> get = PropertyAccessors.booleanGetter(getter);
+            if (get != null) {
+                return (stmt, index, bean, nullType) -> stmt.setBoolean(index, get.test(bean));
+            }
+        } else {
+            final Function<Object, Object> get = PropertyAccessors.getter(getter);
+            if (get != null) {
+                return type == String.class ? (stmt, index, bean, nullType) -> {
+                    final Object value = get.apply(bean);
+                    if (value == null) {
+                        stmt.setNull(index, nullType);
+                    } else {
+                        stmt.setString(index, (String) value);
+                    }
+                } : (stmt, index, bean, nullType) -> setObject(stmt, index, get.apply(bean), nullType);
+            }
+        }
+        return (stmt, index, bean, nullType) -> setObject(stmt, index, invoke(getter, bean), nullType);
+    }
+
+    /**
+     * Calls a getter reflectively, for getters that can't be compiled.
+     *
+     * @param getter The getter.
+     * @param bean The bean.
+     * @return The property value.
+     */
+    private static Object invoke(final Method getter, final Object bean) {
+        try {
+            return getter.invoke(bean);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Couldn't invoke method: " + getter, e);
+        }
+    }
+
+    /**
+     * Gets the SQL types {@code null} values are bound with.  Like
+     * {@link AbstractQueryRunner#fillStatement(PreparedStatement, ParameterMetaData, Object...)}
+     * this is the parameter's type if the metadata provides it, and
+     * {@code VARCHAR} otherwise.
+     *
+     * @param pmd The statement's parameter metadata, may be {@code null}.
+     * @param count The number of parameters.
+     * @return The SQL type of each parameter.
+     */
+    static int[] nullTypes(final ParameterMetaData pmd, final int count) {
+        final int[] nullTypes = new int[count];
+        for (int i = 0; i < nullTypes.length; i++) {
+            nullTypes[i] = Types.VARCHAR;
+            if (pmd != null) {
+                try {
+                    nullTypes[i] = pmd.getParameterType(i + 1);
+                } catch (final SQLException e) {
+                    // keep VARCHAR, which works with many drivers
+                }
+            }
+        }
+        return nullTypes;
+    }
+
+    /**
+     * Compiles the binder for the given properties of a bean class.
+     *
+     * @param type The bean class.
+     * @param propertyNames The properties, in parameter order.
+     * @return The binder.
+     */
+    static BeanBinder of(final Class<?> type, final String... propertyNames) {
+        final PropertyDescriptor[] descriptors;
+        try {
+            descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+        } catch (final IntrospectionException e) {
+            throw new RuntimeException("Couldn't introspect bean " + type.toString(), e);
+        }
+        final PropertyBinder[] binders = new PropertyBinder[propertyNames.length];
+        for (int i = 0; i < propertyNames.length; i++) {
+            final String propertyName = propertyNames[i];
+            if (propertyName == null) {
+                throw new NullPointerException("propertyName can't be null: " + i);
+            }
+            Method getter = null;
+            boolean found = false;
+            for (final PropertyDescriptor descriptor : descriptors) {
+                if (propertyName.equals(descriptor.getName())) {
+                    getter = descriptor.getReadMethod();
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                throw new IllegalStateException("Couldn't find bean property: " + type + " " + propertyName);
+            }
+            if (getter == null) {
+                throw new IllegalArgumentException("No read method for bean property " + type + " " + propertyName);
+            }
+            binders[i] = binder(getter);
+        }
+        return new BeanBinder(type, binders);
+    }
+
+    private static void setObject(final PreparedStatement stmt, final int index, final Object value, final int nullType) throws SQLException {
+        if (value == null) {
+            stmt.setNull(index, nullType);
+        } else {
+            AbstractQueryRunner.bindParameter(stmt, index, value);
+        }
+    }
+
+    /**
+     * The bean class.
+     */
+    private final Class<?> type;
+
+    /**
+     * The binder of each property, in parameter order.
+     */
+    private final PropertyBinder[] binders;
+
+    private BeanBinder(final Class<?> type, final PropertyBinder[] binders) {
+        this.type = type;
+        this.binders = binders;
+    }
+
+    /**
+     * Binds the properties of a bean to the statement's parameters.
+     *
+     * @param stmt The statement.
+     * @param bean The bean, an instance of {@link #getType()}.
+     * @param nullTypes The SQL type to bind {@code null} values with, per parameter, see {@link #nullTypes(ParameterMetaData, int)}.
+     * @throws SQLException if a database access error occurs
+     */
+    void bind(final PreparedStatement stmt, final Object bean, final int[] nullTypes) throws SQLException {
+        for (int i = 0; i < binders.length; i++) {
+            binders[i].bind(stmt, i + 1, bean, nullTypes[i]);
+        }
+    }
+
+    /**
+     * Gets the bean class.
+     *
+     * @return The bean class.
+     */
+    Class<?> getType() {
+        return type;
+    }
+}
@@ -20,6 +20,7 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -32,6 +33,25 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+
+import org.apache.commons.dbutils.handlers.columns.BooleanColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.ByteColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.DoubleColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.FloatColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.IntegerColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.LongColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.SQLXMLColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.ShortColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.StringColumnHandler;
+import org.apache.commons.dbutils.handlers.columns.TimestampColumnHandler;
+import org.apache.commons.dbutils.handlers.properties.DatePropertyHandler;
+import org.apache.commons.dbutils.handlers.properties.StringEnumPropertyHandler;
 
 /**
  * <p>
@@ -42,6 +62,21 @@ import java.util.ServiceLoader;
  * </p>
  *
  * <p>
+ * The mapping of a result set's columns to the properties of a bean class is
+ * computed once and cached by each processor, keyed by the bean class and the
+ * column labels, so repeated queries don't repeat bean introspection.
+ * </p>
+ *
+ * <p>
+ * By default bean setters are called through reflection.  A processor
+ * created with {@code compileSetters} set binds each setter once to a
+ * generated accessor instead, and reads primitive properties with the typed
+ * {@code ResultSet} getters so their values are never boxed.  In that mode
+ * {@link #getWriteMethod(Object, PropertyDescriptor, Object)} is only
+ * consulted when a subclass overrides it.
+ * </p>
+ *
+ * <p>
  * This class is thread-safe.
  * </p>
  *
@@ -51,6 +86,228 @@ import java.util.ServiceLoader;
  */
 public class BeanProcessor {
 
+    /**
+     * The resolved mapping of one column layout to the properties of one bean
+     * class.  All arrays are indexed by column number, so the 0th element is
+     * unused because JDBC column indexing starts at 1.
+     */
+    private static final class BeanMapping {
+
+        /**
+         * The property set from each column, {@code null} if the column is not mapped.
+         */
+        private final PropertyDescriptor[] props;
+
+        /**
+         * The property type of each mapped column.
+         */
+        private final Class<?>[] propTypes;
+
+        /**
+         * The handler that converts each column to its property type, {@code null} to use the raw value.
+         */
+        private final ColumnHandler<?>[] columnHandlers;
+
+        /**
+         * The value to set when a column is SQL NULL.
+         */
+        private final Object[] nullValues;
+
+        /**
+         * The write method of each mapped property, {@code null} if the property can't be set.
+         */
+        private final Method[] setters;
+
+        /**
+         * The parameter type of each write method.
+         */
+        private final Class<?>[] setterTypes;
+
+        /**
+         * The bound write method of each mapped property, {@code null} to call it reflectively.
+         */
+        private final BiConsumer<Object, Object>[] accessors;
+
+        /**
+         * The writer that copies each column straight into its property, {@code null} to process the value first.
+         */
+        private final ColumnWriter[] writers;
+
+        @SuppressWarnings("unchecked")
+        private BeanMapping(final PropertyDescriptor[] beanProps, final int[] columnToProperty,
+                final boolean compileSetters, final boolean directReads) {
+            final int length = columnToProperty.length;
+            this.props = new PropertyDescriptor[length];
+            this.propTypes = new Class<?>[length];
+            this.columnHandlers = new ColumnHandler<?>[length];
+            this.nullValues = new Object[length];
+            this.setters = new Method[length];
+            this.setterTypes = new Class<?>[length];
+            this.accessors = (BiConsumer<Object, Object>[]) new BiConsumer<?, ?>[length];
+            this.writers = new ColumnWriter[length];
+
+            for (int col = 1; col < length; col++) {
+                if (columnToProperty[col] == PROPERTY_NOT_FOUND) {
+                    continue;
+                }
+                final PropertyDescriptor prop = beanProps[columnToProperty[col]];
+                final Class<?> propType = prop.getPropertyType();
+                props[col] = prop;
+                propTypes[col] = propType;
+                if (propType != null) {
+                    columnHandlers[col] = columnHandler(propType);
+                    nullValues[col] = PRIMITIVE_DEFAULTS.get(propType);
+                }
+                final Method setter = prop.getWriteMethod();
+                if (setter != null && setter.getParameterCount() == 1) {
+                    setters[col] = setter;
+                    setterTypes[col] = setter.getParameterTypes()[0];
+                    if (compileSetters) {
+                        if (directReads && setterTypes[col] == propType) {
+                            writers[col] = columnWriter(propType, columnHandlers[col], setter);
+                        }
+                        if (writers[col] == null) {
+                            accessors[col] = PropertyAccessors.setter(setter);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies one column of the current row straight into a bean property.
+     */
+    @FunctionalInterface
+    private interface ColumnWriter {
+
+        /**
+         * Reads a column and writes it to the bean.
+         *
+         * @param resultSet The result set positioned on a row.
+         * @param index The column index.
+         * @param bean The bean to write to.
+         * @throws SQLException if a database access error occurs.
+         */
+        void write(ResultSet resultSet, int index, Object bean) throws SQLException;
+    }
+
+    /**
+     * Caches values by {@link MappingKey}, in one {@link BoundedCache} per
+     * bean class.  The caches are attached to the bean classes through a
+     * {@link ClassValue}, so a long-lived cache doesn't keep bean classes and
+     * their class loaders from being unloaded.
+     *
+     * @param <V> the type of cached values
+     */
+    static final class MappingCache<V> {
+
+        /**
+         * The cache of each bean class.
+         */
+        private final ClassValue<BoundedCache<MappingKey, V>> caches = new ClassValue<BoundedCache<MappingKey, V>>() {
+            @Override
+            protected BoundedCache<MappingKey, V> computeValue(final Class<?> type) {
+                return new BoundedCache<>(MAPPING_CACHE_SIZE);
+            }
+        };
+
+        /**
+         * Gets the value cached for the given key.
+         *
+         * @param key The key.
+         * @return The cached value or {@code null} if there is none.
+         */
+        V get(final MappingKey key) {
+            return caches.get(key.type).get(key);
+        }
+
+        /**
+         * Caches the given value unless another thread cached one first.
+         *
+         * @param key The key.
+         * @param value The value to cache.
+         * @return The value now cached for the key, which may not be {@code value}.
+         */
+        V putIfAbsent(final MappingKey key, final V value) {
+            return caches.get(key.type).putIfAbsent(key, value);
+        }
+    }
+
+    /**
+     * Identifies a cached mapping by bean class and column labels.
+     */
+    static final class MappingKey {
+
+        /**
+         * Creates the key for a bean class and the columns of a result set,
+         * using each column's label or, if it has none, its name.
+         *
+         * @param type The bean class.
+         * @param rsmd The {@code ResultSetMetaData} containing column information.
+         * @return The key.
+         * @throws SQLException if a database access error occurs.
+         */
+        static MappingKey of(final Class<?> type, final ResultSetMetaData rsmd) throws SQLException {
+            final int cols = rsmd.getColumnCount();
+            final String[] columns = new String[cols];
+            for (int col = 1; col <= cols; col++) {
+                String columnName = rsmd.getColumnLabel(col);
+                if (null == columnName || 0 == columnName.length()) {
+                    columnName = rsmd.getColumnName(col);
+                }
+                columns[col - 1] = columnName;
+            }
+            return new MappingKey(type, columns);
+        }
+
+        /**
+         * Creates the key for a bean class and a list of names.
+         *
+         * @param type The bean class.
+         * @param names The names, for example of columns or properties.
+         * @return The key.
+         */
+        static MappingKey of(final Class<?> type, final String[] names) {
+            return new MappingKey(type, names.clone());
+        }
+
+        private final Class<?> type;
+
+        private final String[] columns;
+
+        private final int hashCode;
+
+        private MappingKey(final Class<?> type, final String[] columns) {
+            this.type = type;
+            this.columns = columns;
+            this.hashCode = type.hashCode() ^ Arrays.hashCode(columns);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MappingKey)) {
+                return false;
+            }
+            final MappingKey other = (MappingKey) obj;
+            return type == other.type && Arrays.equals(columns, other.columns);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The maximum number of column layout to bean property mappings each
+     * processor caches per bean class.
+     */
+    static final int MAPPING_CACHE_SIZE = 256;
+
     /**
      * Special array value used by {@code mapColumnsToProperties} that
      * indicates there is no bean property that matches a column from a
@@ -67,8 +324,51 @@ public class BeanProcessor {
 
     private static final List<ColumnHandler<?>> COLUMN_HANDLERS = new ArrayList<>();
 
+    /**
+     * The column handlers that come with DbUtils.  They read their column
+     * with a single typed getter, so {@code ResultSet.wasNull()} tells
+     * whether it was SQL NULL after they ran.
+     */
+    private static final List<Class<?>> BUILT_IN_COLUMN_HANDLERS = Arrays.asList(BooleanColumnHandler.class, ByteColumnHandler.class,
+            DoubleColumnHandler.class, FloatColumnHandler.class, IntegerColumnHandler.class, LongColumnHandler.class, ShortColumnHandler.class,
+            SQLXMLColumnHandler.class, StringColumnHandler.class, TimestampColumnHandler.class);
+
+    /**
+     * The first {@code ColumnHandler} matching each property type, so the
+     * handler list is only scanned once per type.
+     */
+    private static final ClassValue<ColumnHandler<?>> COLUMN_HANDLER_BY_TYPE = new ClassValue<ColumnHandler<?>>() {
+        @Override
+        protected ColumnHandler<?> computeValue(final Class<?> propType) {
+            for (final ColumnHandler<?> handler : COLUMN_HANDLERS) {
+                if (handler.match(propType)) {
+                    return handler;
+                }
+            }
+            return null;
+        }
+    };
+
     private static final List<PropertyHandler> PROPERTY_HANDLERS = new ArrayList<>();
 
+    /**
+     * The property handlers that come with DbUtils.  None of them matches a
+     * primitive property type.
+     */
+    private static final List<Class<?>> BUILT_IN_PROPERTY_HANDLERS = Arrays.asList(DatePropertyHandler.class, StringEnumPropertyHandler.class);
+
+    /**
+     * Whether all loaded property handlers are built in, so primitive
+     * columns can be written to their properties without consulting them.
+     */
+    private static final boolean BUILT_IN_PROPERTY_HANDLERS_ONLY;
+
+    /**
+     * The {@code ResultSet} getters of the primitive types whose columns
+     * are written through a combined method handle.
+     */
+    private static final Map<Class<?>, String> PRIMITIVE_GETTERS = new HashMap<>();
+
     static {
         PRIMITIVE_DEFAULTS.put(Integer.TYPE, Integer.valueOf(0));
         PRIMITIVE_DEFAULTS.put(Short.TYPE, Short.valueOf((short) 0));
@@ -84,13 +384,129 @@ public class BeanProcessor {
 
         // Use a ServiceLoader to find implementations
         ServiceLoader.load(PropertyHandler.class).forEach(PROPERTY_HANDLERS::add);
+        BUILT_IN_PROPERTY_HANDLERS_ONLY = PROPERTY_HANDLERS.stream().allMatch(handler -> BUILT_IN_PROPERTY_HANDLERS.contains(handler.getClass()));
+
+        PRIMITIVE_GETTERS.put(Boolean.TYPE, "getBoolean");
+        PRIMITIVE_GETTERS.put(Byte.TYPE, "getByte");
+        PRIMITIVE_GETTERS.put(Float.TYPE, "getFloat");
+        PRIMITIVE_GETTERS.put(Short.TYPE, "getShort");
+    }
+
+    /**
+     * Converts a value with the first {@code PropertyHandler} matching the
+     * property type and value.
+     *
+     * @param propType The bean property type.
+     * @param value The value read from the result set.
+     * @return The converted value or {@code value} if no handler matches.
+     */
+    static Object applyPropertyHandler(final Class<?> propType, final Object value) {
+        for (final PropertyHandler handler : PROPERTY_HANDLERS) {
+            if (handler.match(propType, value)) {
+                return handler.apply(propType, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Finds the first {@code ColumnHandler} matching a property type.
+     *
+     * @param propType The bean property type.
+     * @return The matching handler or {@code null} if there is none.
+     */
+    private static ColumnHandler<?> columnHandler(final Class<?> propType) {
+        return COLUMN_HANDLER_BY_TYPE.get(propType);
+    }
+
+    /**
+     * Creates a writer that reads a primitive column with its typed getter and
+     * passes it to a bound setter without boxing.  This is only done when the
+     * column would otherwise be read by the built-in handler for that type and
+     * only built-in property handlers are loaded, so the written values are
+     * the same.
+     *
+     * @param propType The bean property type.
+     * @param handler The column handler resolved for the property type.
+     * @param setter The property's write method.
+     * @return The writer or {@code null} if the property can't be written directly.
+     */
+    private static ColumnWriter columnWriter(final Class<?> propType, final ColumnHandler<?> handler, final Method setter) {
+        if (!BUILT_IN_PROPERTY_HANDLERS_ONLY || !propType.isPrimitive() || handler == null || !BUILT_IN_COLUMN_HANDLERS.contains(handler.getClass())) {
+            return null;
+        }
+        if (propType == Integer.TYPE) {
+            final ObjIntConsumer<Object> intSetter = PropertyAccessors.intSetter(setter);
+            return intSetter == null ? null : (resultSet, index, bean) -> intSetter.accept(bean, resultSet.getInt(index));
+        }
+        if (propType == Long.TYPE) {
+            final ObjLongConsumer<Object> longSetter = PropertyAccessors.longSetter(setter);
+            return longSetter == null ? null : (resultSet, index, bean) -> longSetter.accept(bean, resultSet.getLong(index));
+        }
+        if (propType == Double.TYPE) {
+            final ObjDoubleConsumer<Object> doubleSetter = PropertyAccessors.doubleSetter(setter);
+            return doubleSetter == null ? null : (resultSet, index, bean) -> doubleSetter.accept(bean, resultSet.getDouble(index));
+        }
+        final String getterName = PRIMITIVE_GETTERS.get(propType);
+        final MethodHandle handle = getterName == null ? null : PropertyAccessors.columnSetterHandle(setter, getterName);
+        if (handle == null) {
+            return null;
+        }
+        return (resultSet, index, bean) -> {
+            try {
+                handle.invokeExact(bean, resultSet, index);
+            } catch (final SQLException e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw PropertyAccessors.rethrow(e);
+            }
+        };
     }
 
     /**
-     * ResultSet column to bean property name overrides.
+     * ResultSet column to bean property name overrides, copied at construction
+     * so the cached column mappings stay valid.
      */
     private final Map<String, String> columnToPropertyOverrides;
 
+    /**
+     * Whether to bind bean setters to generated accessors instead of calling them reflectively.
+     */
+    private final boolean compileSetters;
+
+    /**
+     * Cached column layout to bean property mappings.
+     */
+    private final MappingCache<BeanMapping> mappings = new MappingCache<>();
+
+    /**
+     * Whether a subclass overrides {@link #getWriteMethod(Object, PropertyDescriptor, Object)},
+     * in which case write methods can't be resolved ahead of time.
+     */
+    private final boolean writeMethodOverridden =
+            Overrides.isOverridden(BeanProcessor.class, this, "getWriteMethod", Object.class, PropertyDescriptor.class, Object.class);
+
+    /**
+     * Whether a subclass overrides {@link #processColumn(ResultSet, int, Class)},
+     * in which case column handlers can't be resolved ahead of time.
+     */
+    private final boolean processColumnOverridden =
+            Overrides.isOverridden(BeanProcessor.class, this, "processColumn", ResultSet.class, Integer.TYPE, Class.class);
+
+    /**
+     * Whether a subclass overrides {@link #toBean(ResultSet, Class)}, in which
+     * case {@link #beanMapper(ResultSetMetaData, Class)} must call it for
+     * every row.
+     */
+    private final boolean toBeanOverridden = Overrides.isOverridden(BeanProcessor.class, this, "toBean", ResultSet.class, Class.class);
+
+    /**
+     * Whether a subclass overrides {@link #populateBean(ResultSet, Object)},
+     * in which case {@link #beanMapper(ResultSetMetaData, Class)} must call
+     * {@code toBean()} for every row.
+     */
+    private final boolean populateBeanOverridden = Overrides.isOverridden(BeanProcessor.class, this, "populateBean", ResultSet.class, Object.class);
+
     /**
      * Constructor for BeanProcessor.
      */
@@ -100,15 +516,79 @@ public class BeanProcessor {
 
     /**
      * Constructor for BeanProcessor configured with column to property name overrides.
+     * The overrides are copied, so later changes to the map have no effect.
      *
      * @param columnToPropertyOverrides ResultSet column to bean property name overrides
      * @since 1.5
      */
     public BeanProcessor(final Map<String, String> columnToPropertyOverrides) {
+        this(columnToPropertyOverrides, false);
+    }
+
+    /**
+     * Constructor for BeanProcessor configured with column to property name overrides
+     * and the way bean setters are called.  The overrides are copied, so later
+     * changes to the map have no effect.
+     *
+     * @param columnToPropertyOverrides ResultSet column to bean property name overrides
+     * @param compileSetters whether to bind bean setters once to generated accessors
+     * instead of calling them through reflection for every value
+     * @since 1.9.0
+     */
+    public BeanProcessor(final Map<String, String> columnToPropertyOverrides, final boolean compileSetters) {
         if (columnToPropertyOverrides == null) {
             throw new IllegalArgumentException("columnToPropertyOverrides map cannot be null");
         }
-        this.columnToPropertyOverrides = columnToPropertyOverrides;
+        // a sorted map may compare column names ignoring case, so keep its comparator
+        this.columnToPropertyOverrides = columnToPropertyOverrides instanceof SortedMap
+                ? new TreeMap<>((SortedMap<String, String>) columnToPropertyOverrides)
+                : new HashMap<>(columnToPropertyOverrides);
+        this.compileSetters = compileSetters;
+    }
+
+    /**
+     * Returns a mapper that converts rows of a result set with the given
+     * columns into beans like {@link #toBean(ResultSet, Class)}.  The columns
+     * are matched to the bean's properties once, here, instead of for every
+     * row.  Like {@code toBean()}, the mapper records each row as a
+     * {@code dbutils.ResultMapping} event, if that event is enabled.
+     *
+     * @param <T> The type of bean to create
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @param type Class from which to create the bean instances
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     * @since 1.9.0
+     */
+    public <T> RowMapper<T> beanMapper(final ResultSetMetaData metaData, final Class<? extends T> type) throws SQLException {
+        if (toBeanOverridden) {
+            return resultSet -> this.toBean(resultSet, type);
+        }
+        return this.propertyMapper(metaData, type);
+    }
+
+    /**
+     * Returns a mapper that populates beans through their setters like
+     * {@link #beanMapper(ResultSetMetaData, Class)}, for subclasses whose
+     * {@code toBean()} override delegates to this class's for the given type.
+     *
+     * @param <T> The type of bean to create
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @param type Class from which to create the bean instances
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     */
+    <T> RowMapper<T> propertyMapper(final ResultSetMetaData metaData, final Class<? extends T> type) throws SQLException {
+        if (populateBeanOverridden) {
+            return resultSet -> this.toBean(resultSet, type);
+        }
+        final BeanMapping mapping = this.mapping(metaData, type);
+        return resultSet -> {
+            final Object event = FlightRecorderEvents.beginMapping();
+            final T bean = this.populateBean(resultSet, this.newInstance(type), mapping);
+            FlightRecorderEvents.commitMapping(event, type, getClass(), 1, mapping.props.length - 1);
+            return bean;
+        };
     }
 
     /**
@@ -119,23 +599,38 @@ public class BeanProcessor {
      * @param value The value to pass into the setter.
      * @throws SQLException if an error occurs setting the property.
      */
-    private void callSetter(final Object target, final PropertyDescriptor prop, Object value)
+    private void callSetter(final Object target, final PropertyDescriptor prop, final Object value)
             throws SQLException {
 
         final Method setter = getWriteMethod(target, prop, value);
 
-        if (setter == null || setter.getParameterTypes().length != 1) {
+        if (setter == null || setter.getParameterCount() != 1) {
+            return;
+        }
+
+        callSetter(target, prop, setter, setter.getParameterTypes()[0], null, value);
+    }
+
+    /**
+     * Calls the given setter method on the target object.
+     * If the setter is {@code null}, this method does nothing.
+     * @param target The object to set the property on.
+     * @param prop The property to set.
+     * @param setter The property's write method taking exactly one parameter.
+     * @param firstParam The setter's parameter type.
+     * @param accessor The setter bound to a generated accessor or {@code null} to call it reflectively.
+     * @param value The value to pass into the setter.
+     * @throws SQLException if an error occurs setting the property.
+     */
+    private void callSetter(final Object target, final PropertyDescriptor prop, final Method setter,
+            final Class<?> firstParam, final BiConsumer<Object, Object> accessor, Object value) throws SQLException {
+
+        if (setter == null) {
             return;
         }
 
         try {
-            final Class<?> firstParam = setter.getParameterTypes()[0];
-            for (final PropertyHandler handler : PROPERTY_HANDLERS) {
-                if (handler.match(firstParam, value)) {
-                    value = handler.apply(firstParam, value);
-                    break;
-                }
-            }
+            value = applyPropertyHandler(firstParam, value);
 
             // Don't call setter if the value object isn't the right type
             if (!this.isCompatibleType(value, firstParam)) {
@@ -143,28 +638,22 @@ public class BeanProcessor {
                         "Cannot set " + prop.getName() + ": incompatible types, cannot convert " + value.getClass().getName() + " to " + firstParam.getName());
                 // value cannot be null here because isCompatibleType allows null
             }
-            setter.invoke(target, value);
+            if (accessor == null) {
+                setter.invoke(target, value);
+            } else {
+                accessor.accept(target, value);
+            }
 
         } catch (final IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
             throw new SQLException("Cannot set " + prop.getName() + ": " + e.getMessage());
+        } catch (final RuntimeException e) {
+            if (accessor == null) {
+                throw e;
+            }
+            throw new SQLException("Cannot set " + prop.getName() + ": " + e.getMessage());
         }
     }
 
-    /**
-     * Creates a new object and initializes its fields from the ResultSet.
-     * @param <T> The type of bean to create
-     * @param resultSet The result set.
-     * @param type The bean type (the return type of the object).
-     * @param props The property descriptors.
-     * @param columnToProperty The column indices in the result set.
-     * @return An initialized object.
-     * @throws SQLException if a database error occurs.
-     */
-    private <T> T createBean(final ResultSet resultSet, final Class<T> type, final PropertyDescriptor[] props, final int[] columnToProperty)
-            throws SQLException {
-        return populateBean(resultSet, this.newInstance(type), props, columnToProperty);
-    }
-
     /**
      * Gets the write method to use when setting {@code value} to the {@code target}.
      *
@@ -259,6 +748,26 @@ public class BeanProcessor {
         return columnToProperty;
     }
 
+    /**
+     * Gets the mapping of the result set's columns to the properties of the
+     * given class, computing and caching it if needed.
+     *
+     * @param rsmd The {@code ResultSetMetaData} containing column information.
+     * @param type The bean class.
+     * @return The mapping.
+     * @throws SQLException if a database access error occurs or introspection failed.
+     */
+    private BeanMapping mapping(final ResultSetMetaData rsmd, final Class<?> type) throws SQLException {
+        final MappingKey key = MappingKey.of(type, rsmd);
+        final BeanMapping mapping = mappings.get(key);
+        if (mapping != null) {
+            return mapping;
+        }
+        final PropertyDescriptor[] props = this.propertyDescriptors(type);
+        return mappings.putIfAbsent(key, new BeanMapping(props, this.mapColumnsToProperties(rsmd, props),
+                compileSetters && !writeMethodOverridden, !processColumnOverridden));
+    }
+
     /**
      * Check whether a value is of the same primitive type as {@code targetType}.
      *
@@ -315,47 +824,62 @@ public class BeanProcessor {
      * @throws SQLException if a database error occurs.
      */
     public <T> T populateBean(final ResultSet resultSet, final T bean) throws SQLException {
-        final PropertyDescriptor[] props = this.propertyDescriptors(bean.getClass());
-        final ResultSetMetaData rsmd = resultSet.getMetaData();
-        final int[] columnToProperty = this.mapColumnsToProperties(rsmd, props);
-
-        return populateBean(resultSet, bean, props, columnToProperty);
+        return populateBean(resultSet, bean, this.mapping(resultSet.getMetaData(), bean.getClass()));
     }
 
     /**
-     * This method populates a bean from the ResultSet based upon the underlying meta-data.
+     * This method populates a bean from the ResultSet based upon a column mapping.
      *
      * @param <T> The type of bean
      * @param resultSet The result set.
      * @param bean The bean to be populated.
-     * @param props The property descriptors.
-     * @param columnToProperty The column indices in the result set.
+     * @param mapping The mapping of the result set's columns to the bean's properties.
      * @return An initialized object.
      * @throws SQLException if a database error occurs.
      */
-    private <T> T populateBean(final ResultSet resultSet, final T bean,
-            final PropertyDescriptor[] props, final int[] columnToProperty)
+    private <T> T populateBean(final ResultSet resultSet, final T bean, final BeanMapping mapping)
             throws SQLException {
 
-        for (int i = 1; i < columnToProperty.length; i++) {
+        final PropertyDescriptor[] props = mapping.props;
+        for (int i = 1; i < props.length; i++) {
 
-            if (columnToProperty[i] == PROPERTY_NOT_FOUND) {
+            final PropertyDescriptor prop = props[i];
+            if (prop == null) {
+                continue;
+            }
+
+            final ColumnWriter writer = mapping.writers[i];
+            if (writer != null) {
+                try {
+                    writer.write(resultSet, i, bean);
+                } catch (final SQLException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new SQLException("Cannot set " + prop.getName() + ": " + e.getMessage());
+                }
                 continue;
             }
 
-            final PropertyDescriptor prop = props[columnToProperty[i]];
-            final Class<?> propType = prop.getPropertyType();
+            final Class<?> propType = mapping.propTypes[i];
 
             Object value = null;
             if (propType != null) {
-                value = this.processColumn(resultSet, i, propType);
+                if (processColumnOverridden) {
+                    value = this.processColumn(resultSet, i, propType);
+                } else {
+                    value = this.processColumn(resultSet, i, propType, mapping.columnHandlers[i]);
+                }
 
-                if (value == null && propType.isPrimitive()) {
-                    value = PRIMITIVE_DEFAULTS.get(propType);
+                if (value == null) {
+                    value = mapping.nullValues[i];
                 }
             }
 
-            this.callSetter(bean, prop, value);
+            if (writeMethodOverridden) {
+                this.callSetter(bean, prop, value);
+            } else {
+                this.callSetter(bean, prop, mapping.setters[i], mapping.setterTypes[i], mapping.accessors[i], value);
+            }
         }
 
         return bean;
@@ -391,21 +915,43 @@ public class BeanProcessor {
     protected Object processColumn(final ResultSet resultSet, final int index, final Class<?> propType)
         throws SQLException {
 
-        Object retval = resultSet.getObject(index);
+        return processColumn(resultSet, index, propType, columnHandler(propType));
+    }
 
-        if ( !propType.isPrimitive() && retval == null ) {
-            return null;
+    /**
+     * Convert a {@code ResultSet} column into an object using an already
+     * resolved column handler.
+     *
+     * @param resultSet The {@code ResultSet} currently being processed.
+     * @param index The current column index being processed.
+     * @param propType The bean property type.
+     * @param handler The handler matching {@code propType} or {@code null} if there is none.
+     * @return The converted column value or {@code null} if the column value was SQL NULL.
+     * @throws SQLException if a database access error occurs
+     */
+    private Object processColumn(final ResultSet resultSet, final int index, final Class<?> propType,
+            final ColumnHandler<?> handler) throws SQLException {
+
+        if (handler == null) {
+            return resultSet.getObject(index);
         }
 
-        for (final ColumnHandler<?> handler : COLUMN_HANDLERS) {
-            if (handler.match(propType)) {
-                retval = handler.apply(resultSet, index);
-                break;
+        if (!BUILT_IN_COLUMN_HANDLERS.contains(handler.getClass())) {
+            // other handlers are only called for SQL NULL if the property is primitive
+            if (!propType.isPrimitive() && resultSet.getObject(index) == null) {
+                return null;
             }
+            return handler.apply(resultSet, index);
         }
 
-        return retval;
+        final Object retval = handler.apply(resultSet, index);
 
+        // typed getters return 0 or false for SQL NULL, which is only kept for primitives
+        if (retval == null || !propType.isPrimitive() && resultSet.wasNull()) {
+            return null;
+        }
+
+        return retval;
     }
 
     /**
@@ -464,8 +1010,13 @@ public class BeanProcessor {
      * @return the newly created bean
      */
     public <T> T toBean(final ResultSet rs, final Class<? extends T> type) throws SQLException {
+        final Object event = FlightRecorderEvents.beginMapping();
         final T bean = this.newInstance(type);
-        return this.populateBean(rs, bean);
+        this.populateBean(rs, bean);
+        if (event != null) {
+            FlightRecorderEvents.commitMapping(event, type, getClass(), 1, rs.getMetaData().getColumnCount());
+        }
+        return bean;
     }
 
     /**
@@ -508,14 +1059,14 @@ public class BeanProcessor {
             return results;
         }
 
-        final PropertyDescriptor[] props = this.propertyDescriptors(type);
-        final ResultSetMetaData rsmd = resultSet.getMetaData();
-        final int[] columnToProperty = this.mapColumnsToProperties(rsmd, props);
+        final Object event = FlightRecorderEvents.beginMapping();
+        final BeanMapping mapping = this.mapping(resultSet.getMetaData(), type);
 
         do {
-            results.add(this.createBean(resultSet, type, props, columnToProperty));
+            results.add(this.populateBean(resultSet, this.newInstance(type), mapping));
         } while (resultSet.next());
 
+        FlightRecorderEvents.commitMapping(event, type, getClass(), results.size(), mapping.props.length - 1);
         return results;
     }
 
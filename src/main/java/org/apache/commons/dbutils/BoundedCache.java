@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe cache holding at most a fixed number of entries.  When the
+ * cache is full, an arbitrary entry is dropped to make room for a new one,
+ * which keeps lookups lock-free at the cost of exact LRU ordering.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+final class BoundedCache<K, V> {
+
+    /**
+     * The cached entries.
+     */
+    private final ConcurrentMap<K, V> map = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of entries.
+     */
+    private final int maxSize;
+
+    /**
+     * Constructs a new cache.
+     *
+     * @param maxSize The maximum number of entries, must be positive.
+     */
+    BoundedCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        map.clear();
+    }
+
+    /**
+     * Gets the value cached for the given key.
+     *
+     * @param key The key.
+     * @return The cached value or {@code null} if there is none.
+     */
+    V get(final K key) {
+        return map.get(key);
+    }
+
+    /**
+     * Caches the given value unless another thread cached one first.  If this
+     * adds an entry to a full cache, an arbitrary other entry is evicted.
+     *
+     * @param key The key.
+     * @param value The value to cache.
+     * @return The value now cached for the key, which may not be {@code value}.
+     */
+    V putIfAbsent(final K key, final V value) {
+        final V previous = map.putIfAbsent(key, value);
+        if (previous != null) {
+            return previous;
+        }
+        if (map.size() > maxSize) {
+            final Iterator<K> keys = map.keySet().iterator();
+            while (keys.hasNext()) {
+                if (!key.equals(keys.next())) {
+                    keys.remove();
+                    break;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return The number of cached entries.
+     */
+    int size() {
+        return map.size();
+    }
+}
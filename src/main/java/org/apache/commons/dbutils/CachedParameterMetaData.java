@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * The {@code ParameterMetaData} of a statement, answering the parameter
+ * count and the parameter types from values cached for the statement's SQL.
+ * The statement's actual metadata is only fetched when something that isn't
+ * cached yet is needed, and the parameter types it returns are added to the
+ * cache.
+ */
+final class CachedParameterMetaData implements ParameterMetaData {
+
+    /**
+     * The parameter type of parameters whose type isn't cached yet, which is
+     * none of the {@code java.sql.Types} constants.
+     */
+    private static final int UNKNOWN_TYPE = Integer.MIN_VALUE;
+
+    /**
+     * Creates the cached parameter types for a statement.
+     *
+     * @param parameterCount The number of parameters.
+     * @return The parameter types, none of them known yet.
+     */
+    static int[] parameterTypes(final int parameterCount) {
+        final int[] types = new int[parameterCount];
+        Arrays.fill(types, UNKNOWN_TYPE);
+        return types;
+    }
+
+    /**
+     * The cached parameter types of the statement's SQL, shared by all
+     * statements for it.  Races between threads adding the same type are
+     * harmless.
+     */
+    private final int[] parameterTypes;
+
+    /**
+     * The query runner fetching the statement's metadata.
+     */
+    private final AbstractQueryRunner runner;
+
+    /**
+     * The statement.
+     */
+    private final PreparedStatement stmt;
+
+    /**
+     * The statement's actual metadata, once fetched.
+     */
+    private ParameterMetaData metaData;
+
+    /**
+     * Creates the metadata of a statement.
+     *
+     * @param parameterTypes The cached parameter types, created by {@link #parameterTypes(int)}.
+     * @param runner The query runner fetching the statement's metadata.
+     * @param stmt The statement.
+     * @param metaData The statement's actual metadata, or {@code null} to fetch it when needed.
+     */
+    CachedParameterMetaData(final int[] parameterTypes, final AbstractQueryRunner runner, final PreparedStatement stmt,
+            final ParameterMetaData metaData) {
+        this.parameterTypes = parameterTypes;
+        this.runner = runner;
+        this.stmt = stmt;
+        this.metaData = metaData;
+    }
+
+    /**
+     * Gets the statement's actual metadata, fetching it if needed.
+     *
+     * @return The metadata.
+     * @throws SQLException if the metadata can't be fetched.
+     */
+    private ParameterMetaData metaData() throws SQLException {
+        if (metaData == null) {
+            metaData = runner.getParameterMetaData(stmt);
+            if (metaData == null) {
+                throw new SQLException("Parameter metadata not available");
+            }
+        }
+        return metaData;
+    }
+
+    @Override
+    public String getParameterClassName(final int param) throws SQLException {
+        return metaData().getParameterClassName(param);
+    }
+
+    @Override
+    public int getParameterCount() throws SQLException {
+        return parameterTypes.length;
+    }
+
+    @Override
+    public int getParameterMode(final int param) throws SQLException {
+        return metaData().getParameterMode(param);
+    }
+
+    @Override
+    public int getParameterType(final int param) throws SQLException {
+        if (param < 1 || param > parameterTypes.length) {
+            return metaData().getParameterType(param);
+        }
+        int type = parameterTypes[param - 1];
+        if (type == UNKNOWN_TYPE) {
+            type = metaData().getParameterType(param);
+            parameterTypes[param - 1] = type;
+        }
+        return type;
+    }
+
+    @Override
+    public String getParameterTypeName(final int param) throws SQLException {
+        return metaData().getParameterTypeName(param);
+    }
+
+    @Override
+    public int getPrecision(final int param) throws SQLException {
+        return metaData().getPrecision(param);
+    }
+
+    @Override
+    public int getScale(final int param) throws SQLException {
+        return metaData().getScale(param);
+    }
+
+    @Override
+    public int isNullable(final int param) throws SQLException {
+        return metaData().isNullable(param);
+    }
+
+    @Override
+    public boolean isSigned(final int param) throws SQLException {
+        return metaData().isSigned(param);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || metaData().isWrapperFor(iface);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : metaData().unwrap(iface);
+    }
+}
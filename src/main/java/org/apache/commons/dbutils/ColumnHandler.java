@@ -28,7 +28,7 @@ public interface ColumnHandler<T> {
 
     /**
      * Retrieves the current row's column value from a {@link ResultSet} and stores it into an instance of {@code propType}. This method is only called if
-     * {@link #match(Class)} returns true.
+     * {@link #match(Class)} returns true, and not if the column is SQL NULL, unless {@code propType} is primitive.
      *
      * @param resultSet   The source result set. This must be on the correct row.
      * @param columnIndex The position of the column to retrieve, a 1-based index.
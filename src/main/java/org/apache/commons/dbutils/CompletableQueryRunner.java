@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Executes SQL queries asynchronously, returning {@code CompletableFuture}s
+ * that can be composed without blocking a thread.  The queries are run by a
+ * {@link QueryRunner} on an {@code Executor}; {@link #withExecutor(Executor)}
+ * returns a runner that uses another executor for the calls made through it.
+ *
+ * <p>
+ * Cancelling a returned future, or completing it exceptionally, cancels the
+ * statements the call is executing with {@link Statement#cancel()}.  If the
+ * {@code QueryRunner}'s {@link StatementConfiguration} sets a query timeout,
+ * the future completes with a {@code java.util.concurrent.TimeoutException}
+ * when the call hasn't finished within that time after it was submitted,
+ * which includes the time it waits for the executor.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @see AsyncQueryRunner
+ * @since 1.9.0
+ */
+public class CompletableQueryRunner {
+
+    /**
+     * The future of a call, which cancels the statements the call executes
+     * when it is completed before the call finished.
+     *
+     * @param <T> The type of the result.
+     */
+    private static final class StatementFuture<T> extends CompletableFuture<T> {
+
+        /**
+         * The statements the call created, {@code null} once it finished.
+         */
+        private List<Statement> statements = new ArrayList<>();
+
+        private synchronized void cancelStatements() {
+            if (statements == null) {
+                return;
+            }
+            for (final Statement stmt : statements) {
+                try {
+                    stmt.cancel();
+                } catch (final SQLException e) { // NOPMD
+                    // quiet, the statement may have completed or been closed
+                }
+            }
+        }
+
+        private synchronized void finished() {
+            statements = null;
+        }
+
+        private void run(final Callable<T> call) {
+            if (isDone()) {
+                return;
+            }
+            T result = null;
+            Throwable failure = null;
+            // restore the listener of an enclosing call when run inline
+            final Consumer<Statement> previous = AbstractQueryRunner.setStatementListener(this::started);
+            try {
+                result = call.call();
+            } catch (final Throwable e) { // NOPMD the future must complete even on errors
+                failure = e;
+            } finally {
+                AbstractQueryRunner.setStatementListener(previous);
+                finished();
+            }
+            if (failure == null) {
+                complete(result);
+            } else {
+                completeExceptionally(failure);
+            }
+        }
+
+        private synchronized void started(final Statement stmt) {
+            if (statements != null) {
+                statements.add(stmt);
+                if (isDone()) {
+                    cancelStatements();
+                }
+            }
+        }
+    }
+
+    private final Executor executor;
+
+    private final QueryRunner queryRunner;
+
+    /**
+     * Constructor for CompletableQueryRunner.
+     *
+     * @param executor The {@code Executor} to run the queries on.
+     * @param queryRunner The {@code QueryRunner} to run the queries with.
+     */
+    public CompletableQueryRunner(final Executor executor, final QueryRunner queryRunner) {
+        this.executor = executor;
+        this.queryRunner = queryRunner;
+    }
+
+    /**
+     * Executes {@link QueryRunner#batch(Connection, String, Object[][])} asynchronously.
+     *
+     * @param conn The {@code Connection} to use to run the query.  The caller is
+     * responsible for closing this Connection.
+     * @param sql The SQL to execute.
+     * @param params An array of query replacement parameters.  Each row in
+     * this array is one set of batch replacement values.
+     * @return A future of the number of rows updated per statement.
+     */
+    public CompletableFuture<int[]> batch(final Connection conn, final String sql, final Object[][] params) {
+        return submit(() -> queryRunner.batch(conn, sql, params));
+    }
+
+    /**
+     * Executes {@link QueryRunner#batch(String, Object[][])} asynchronously.
+     *
+     * @param sql The SQL to execute.
+     * @param params An array of query replacement parameters.  Each row in
+     * this array is one set of batch replacement values.
+     * @return A future of the number of rows updated per statement.
+     */
+    public CompletableFuture<int[]> batch(final String sql, final Object[][] params) {
+        return submit(() -> queryRunner.batch(sql, params));
+    }
+
+    /**
+     * Executes {@link QueryRunner#insert(Connection, String, ResultSetHandler, Object...)} asynchronously.
+     *
+     * @param <T> The type of object that the handler returns
+     * @param conn The {@code Connection} to use to run the query.
+     * @param sql The SQL to execute.
+     * @param rsh The handler used to create the result object from
+     * the {@code ResultSet} of auto-generated keys.
+     * @param params The query replacement parameters.
+     * @return A future of the object generated by the handler.
+     */
+    public <T> CompletableFuture<T> insert(final Connection conn, final String sql, final ResultSetHandler<T> rsh, final Object... params) {
+        return submit(() -> queryRunner.insert(conn, sql, rsh, params));
+    }
+
+    /**
+     * Executes {@link QueryRunner#insert(String, ResultSetHandler, Object...)} asynchronously.
+     *
+     * @param <T> The type of object that the handler returns
+     * @param sql The SQL to execute.
+     * @param rsh The handler used to create the result object from
+     * the {@code ResultSet} of auto-generated keys.
+     * @param params The query replacement parameters.
+     * @return A future of the object generated by the handler.
+     */
+    public <T> CompletableFuture<T> insert(final String sql, final ResultSetHandler<T> rsh, final Object... params) {
+        return submit(() -> queryRunner.insert(sql, rsh, params));
+    }
+
+    /**
+     * Executes {@link QueryRunner#query(Connection, String, ResultSetHandler, Object...)} asynchronously.
+     *
+     * @param <T> The type of object that the handler returns
+     * @param conn The {@code Connection} to use to run the query.  The caller is
+     * responsible for closing this Connection.
+     * @param sql The query to execute.
+     * @param rsh The handler that converts the results into an object.
+     * @param params The replacement parameters.
+     * @return A future of the object returned by the handler.
+     */
+    public <T> CompletableFuture<T> query(final Connection conn, final String sql, final ResultSetHandler<T> rsh, final Object... params) {
+        return submit(() -> queryRunner.query(conn, sql, rsh, params));
+    }
+
+    /**
+     * Executes {@link QueryRunner#query(String, ResultSetHandler, Object...)} asynchronously.
+     *
+     * @param <T> The type of object that the handler returns
+     * @param sql The query to execute.
+     * @param rsh The handler that converts the results into an object.
+     * @param params The replacement parameters.
+     * @return A future of the object returned by the handler.
+     */
+    public <T> CompletableFuture<T> query(final String sql, final ResultSetHandler<T> rsh, final Object... params) {
+        return submit(() -> queryRunner.query(sql, rsh, params));
+    }
+
+    /**
+     * Submits a call to the executor.
+     *
+     * @param <T> The type of the result.
+     * @param call The call.
+     * @return The future of the call's result.
+     */
+    private <T> CompletableFuture<T> submit(final Callable<T> call) {
+        final StatementFuture<T> future = new StatementFuture<>();
+        future.whenComplete((result, failure) -> {
+            if (failure != null) {
+                future.cancelStatements();
+            }
+        });
+        final StatementConfiguration stmtConfig = queryRunner.getStatementConfiguration();
+        final Duration queryTimeout = stmtConfig != null ? stmtConfig.getQueryTimeoutDuration() : null;
+        if (queryTimeout != null && !queryTimeout.isNegative() && !queryTimeout.isZero()) {
+            future.orTimeout(queryTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        try {
+            executor.execute(() -> future.run(call));
+        } catch (final RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Executes {@link QueryRunner#update(Connection, String, Object...)} asynchronously.
+     *
+     * @param conn The {@code Connection} to use to run the query.  The caller is
+     * responsible for closing this Connection.
+     * @param sql The SQL to execute.
+     * @param params The query replacement parameters.
+     * @return A future of the number of rows updated.
+     */
+    public CompletableFuture<Integer> update(final Connection conn, final String sql, final Object... params) {
+        return submit(() -> queryRunner.update(conn, sql, params));
+    }
+
+    /**
+     * Executes {@link QueryRunner#update(String, Object...)} asynchronously.
+     *
+     * @param sql The SQL to execute.
+     * @param params The query replacement parameters.
+     * @return A future of the number of rows updated.
+     */
+    public CompletableFuture<Integer> update(final String sql, final Object... params) {
+        return submit(() -> queryRunner.update(sql, params));
+    }
+
+    /**
+     * Returns a runner that executes its calls on another executor with the
+     * same {@code QueryRunner}.
+     *
+     * @param executor The {@code Executor} to run the queries on.
+     * @return The runner.
+     */
+    public CompletableQueryRunner withExecutor(final Executor executor) {
+        return new CompletableQueryRunner(executor, queryRunner);
+    }
+}
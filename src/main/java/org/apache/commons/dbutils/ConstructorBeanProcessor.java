@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.beans.ConstructorProperties;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * {@code ConstructorBeanProcessor} creates immutable objects from
+ * {@code ResultSet} rows by passing the columns to a constructor instead of
+ * calling setters.  It supports:
+ * </p>
+ * <ul>
+ *     <li>records, whose canonical constructor is used, and</li>
+ *     <li>classes with a public constructor annotated with
+ *     {@link ConstructorProperties}, whose annotation names the properties
+ *     the parameters are for.  If several are annotated the one with the most
+ *     parameters is used.</li>
+ * </ul>
+ *
+ * <p>
+ * Columns are matched to constructor parameters like {@link BeanProcessor}
+ * matches them to properties, including column to property overrides and
+ * {@link Column} annotations on the accessor methods.  The constructor and
+ * the column to parameter mapping are resolved once per class and column
+ * layout, after which each row is created with a single method handle call.
+ * Parameters without a matching column, or whose column is SQL NULL, are
+ * passed {@code null}, or the default value for primitive types.
+ * </p>
+ *
+ * <p>
+ * Classes that are neither records nor have an annotated constructor are
+ * handled as JavaBeans by the superclass.
+ * </p>
+ *
+ * @see BasicRowProcessor#BasicRowProcessor(BeanProcessor)
+ * @since 1.9.0
+ */
+public class ConstructorBeanProcessor extends BeanProcessor {
+
+    /**
+     * A class's constructor and the mapping of result set columns to its parameters.
+     */
+    private static final class ConstructorMapping {
+
+        /**
+         * The constructor taking its arguments as an {@code Object[]},
+         * {@code null} if the class is handled as a JavaBean.
+         */
+        private final MethodHandle constructor;
+
+        /**
+         * The parameter index of each column, indexed by column number.
+         */
+        private final int[] columnToParameter;
+
+        /**
+         * The constructor's parameter types.
+         */
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * The value passed to each parameter that has no column or is SQL NULL.
+         */
+        private final Object[] defaults;
+
+        private ConstructorMapping(final MethodHandle constructor, final int[] columnToParameter, final Class<?>[] parameterTypes) {
+            this.constructor = constructor;
+            this.columnToParameter = columnToParameter;
+            this.parameterTypes = parameterTypes;
+            this.defaults = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].isPrimitive()) {
+                    defaults[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * The mapping of classes that are handled as JavaBeans.
+     */
+    private static final ConstructorMapping BEAN = new ConstructorMapping(null, new int[0], new Class<?>[0]);
+
+    /**
+     * Finds the public constructor annotated with {@link ConstructorProperties}
+     * that has the most parameters.
+     *
+     * @param type The class.
+     * @return The constructor or {@code null} if there is none.
+     */
+    private static Constructor<?> annotatedConstructor(final Class<?> type) {
+        Constructor<?> found = null;
+        for (final Constructor<?> constructor : type.getConstructors()) {
+            final ConstructorProperties properties = constructor.getAnnotation(ConstructorProperties.class);
+            if (properties != null && properties.value().length == constructor.getParameterCount()
+                    && (found == null || constructor.getParameterCount() > found.getParameterCount())) {
+                found = constructor;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Calls a public no-argument method reflectively, so record support
+     * doesn't require compiling against Java 16.
+     *
+     * @param target The object to call the method on.
+     * @param name The method name.
+     * @return The method's return value or {@code null} if there is no such method.
+     * @throws SQLException if the method fails.
+     */
+    private static Object invoke(final Object target, final String name) throws SQLException {
+        final Method method;
+        try {
+            method = target.getClass().getMethod(name);
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+        try {
+            return method.invoke(target);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new SQLException("Cannot call " + name + " on " + target + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cached constructor mappings, keyed by class and column labels.
+     */
+    private final MappingCache<ConstructorMapping> constructorMappings = new MappingCache<>();
+
+    /**
+     * Whether a subclass overrides {@link #toBean(ResultSet, Class)}, in which
+     * case {@link #beanMapper(ResultSetMetaData, Class)} must call it for
+     * every row.
+     */
+    private final boolean toBeanOverridden = Overrides.isOverridden(ConstructorBeanProcessor.class, this, "toBean", ResultSet.class, Class.class);
+
+    /**
+     * Constructor for ConstructorBeanProcessor.
+     */
+    public ConstructorBeanProcessor() {
+        this(new HashMap<>());
+    }
+
+    /**
+     * Constructor for ConstructorBeanProcessor configured with column to property name overrides.
+     * The overrides are copied, so later changes to the map have no effect.
+     *
+     * @param columnToPropertyOverrides ResultSet column to property name overrides
+     */
+    public ConstructorBeanProcessor(final Map<String, String> columnToPropertyOverrides) {
+        super(columnToPropertyOverrides);
+    }
+
+    /**
+     * Creates an object from the current row.
+     *
+     * @param <T> The type of object to create.
+     * @param resultSet The result set positioned on a row.
+     * @param type The class of the object.
+     * @param mapping The class's constructor mapping.
+     * @return The new object.
+     * @throws SQLException if a database access error occurs or the object can't be created.
+     */
+    private <T> T construct(final ResultSet resultSet, final Class<? extends T> type, final ConstructorMapping mapping)
+            throws SQLException {
+
+        final Object[] args = mapping.defaults.clone();
+        final int[] columnToParameter = mapping.columnToParameter;
+        for (int col = 1; col < columnToParameter.length; col++) {
+            final int param = columnToParameter[col];
+            if (param == PROPERTY_NOT_FOUND) {
+                continue;
+            }
+            final Class<?> paramType = mapping.parameterTypes[param];
+            final Object value = this.processColumn(resultSet, col, paramType);
+            if (value != null) {
+                args[param] = applyPropertyHandler(paramType, value);
+            }
+        }
+
+        try {
+            return type.cast((Object) mapping.constructor.invokeExact(args));
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new SQLException("Cannot create " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the constructor mapping for the given class and the result set's
+     * columns, computing and caching it if needed.
+     *
+     * @param rsmd The {@code ResultSetMetaData} containing column information.
+     * @param type The class to create.
+     * @return The mapping, {@link #BEAN} if the class is handled as a JavaBean.
+     * @throws SQLException if a database access error occurs or introspection failed.
+     */
+    private ConstructorMapping constructorMapping(final ResultSetMetaData rsmd, final Class<?> type) throws SQLException {
+        final MappingKey key = MappingKey.of(type, rsmd);
+        final ConstructorMapping mapping = constructorMappings.get(key);
+        if (mapping != null) {
+            return mapping;
+        }
+
+        final Constructor<?> constructor;
+        final PropertyDescriptor[] params;
+        if (Boolean.TRUE.equals(invoke(type, "isRecord"))) {
+            final Object[] components = (Object[]) invoke(type, "getRecordComponents");
+            final Class<?>[] types = new Class<?>[components.length];
+            params = new PropertyDescriptor[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = (Class<?>) invoke(components[i], "getType");
+                params[i] = parameter((String) invoke(components[i], "getName"), (Method) invoke(components[i], "getAccessor"));
+            }
+            try {
+                constructor = type.getDeclaredConstructor(types);
+            } catch (final NoSuchMethodException e) {
+                throw new SQLException("Cannot create " + type.getName() + ": " + e.getMessage());
+            }
+        } else {
+            constructor = annotatedConstructor(type);
+            if (constructor == null) {
+                return constructorMappings.putIfAbsent(key, BEAN);
+            }
+            final Map<String, Method> readers = new HashMap<>();
+            try {
+                for (final PropertyDescriptor prop : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                    readers.put(prop.getName(), prop.getReadMethod());
+                }
+            } catch (final IntrospectionException e) {
+                throw new SQLException("Bean introspection failed: " + e.getMessage());
+            }
+            final String[] names = constructor.getAnnotation(ConstructorProperties.class).value();
+            params = new PropertyDescriptor[names.length];
+            for (int i = 0; i < names.length; i++) {
+                params[i] = parameter(names[i], readers.get(names[i]));
+            }
+        }
+
+        final MethodHandle handle;
+        try {
+            constructor.trySetAccessible();
+            handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (final IllegalAccessException | SecurityException e) {
+            throw new SQLException("Cannot create " + type.getName() + ": " + e.getMessage());
+        }
+        return constructorMappings.putIfAbsent(key,
+                new ConstructorMapping(handle, this.mapColumnsToProperties(rsmd, params), constructor.getParameterTypes()));
+    }
+
+    /**
+     * Describes a constructor parameter as a property so columns can be
+     * matched to it by {@link #mapColumnsToProperties(ResultSetMetaData, PropertyDescriptor[])}.
+     *
+     * @param name The property name.
+     * @param reader The property's accessor, which may carry a {@link Column} annotation, or {@code null}.
+     * @return The property descriptor.
+     * @throws SQLException if the accessor isn't a valid read method.
+     */
+    private PropertyDescriptor parameter(final String name, final Method reader) throws SQLException {
+        try {
+            return new PropertyDescriptor(name, reader, null);
+        } catch (final IntrospectionException e) {
+            throw new SQLException("Bean introspection failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a mapper that creates objects from rows of a result set with
+     * the given columns by calling their constructor, or as JavaBeans if they
+     * have no suitable constructor.  The constructor and the column to
+     * parameter mapping are resolved once, here, instead of for every row.
+     *
+     * @param <T> The type of object to create
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @param type Class from which to create the objects
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     */
+    @Override
+    public <T> RowMapper<T> beanMapper(final ResultSetMetaData metaData, final Class<? extends T> type) throws SQLException {
+        if (toBeanOverridden) {
+            return resultSet -> this.toBean(resultSet, type);
+        }
+        final ConstructorMapping mapping = this.constructorMapping(metaData, type);
+        if (mapping == BEAN) {
+            return this.propertyMapper(metaData, type);
+        }
+        return resultSet -> {
+            final Object event = FlightRecorderEvents.beginMapping();
+            final T object = this.construct(resultSet, type, mapping);
+            FlightRecorderEvents.commitMapping(event, type, getClass(), 1, mapping.columnToParameter.length - 1);
+            return object;
+        };
+    }
+
+    /**
+     * Creates an object from a {@code ResultSet} row by calling its
+     * constructor, or as a JavaBean if it has no suitable constructor.
+     *
+     * @param <T> The type of object to create
+     * @param rs ResultSet that supplies the object's data
+     * @param type Class from which to create the object
+     * @throws SQLException if a database access error occurs
+     * @return the newly created object
+     */
+    @Override
+    public <T> T toBean(final ResultSet rs, final Class<? extends T> type) throws SQLException {
+        final ConstructorMapping mapping = this.constructorMapping(rs.getMetaData(), type);
+        if (mapping == BEAN) {
+            return super.toBean(rs, type);
+        }
+        return this.construct(rs, type, mapping);
+    }
+
+    /**
+     * Creates a {@code List} of objects from a {@code ResultSet} by calling
+     * their constructor, or as JavaBeans if they have no suitable constructor.
+     *
+     * @param <T> The type of object to create
+     * @param resultSet ResultSet that supplies the objects' data
+     * @param type Class from which to create the objects
+     * @throws SQLException if a database access error occurs
+     * @return the newly created List of objects
+     */
+    @Override
+    public <T> List<T> toBeanList(final ResultSet resultSet, final Class<? extends T> type) throws SQLException {
+        final ConstructorMapping mapping = this.constructorMapping(resultSet.getMetaData(), type);
+        if (mapping == BEAN) {
+            return super.toBeanList(resultSet, type);
+        }
+
+        final List<T> results = new ArrayList<>();
+        while (resultSet.next()) {
+            results.add(this.construct(resultSet, type, mapping));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JavaBean for the {@code commons-dbutils-processor} annotation
+ * processor, which generates a {@link RowProcessor} named after the bean with
+ * a {@code RowProcessor} suffix.  The generated processor maps rows to the
+ * bean with typed {@code ResultSet} getters instead of reflection, matching
+ * columns to properties like {@link BeanProcessor} does, including
+ * {@link Column} annotations on getters.
+ *
+ * @since 1.9.0
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.CLASS)
+public @interface DbRow {
+}
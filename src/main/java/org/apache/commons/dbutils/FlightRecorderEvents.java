@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import jdk.jfr.EventType;
+
+/**
+ * Begins and commits the Java Flight Recorder events of DbUtils.  Classes
+ * outside this one only see events as {@code Object}, and the
+ * {@code jdk.jfr} types are only loaded here, the first time an event
+ * could be recorded, so DbUtils runs on runtime images without the
+ * {@code jdk.jfr} module, where all events are disabled.
+ */
+final class FlightRecorderEvents {
+
+    /**
+     * The event types, loaded and checked once.  The class fails to
+     * initialize if {@code jdk.jfr} is missing.
+     */
+    private static final class Types {
+
+        private static final EventType QUERY = EventType.getEventType(QueryEvent.class);
+
+        private static final EventType BATCH = EventType.getEventType(BatchEvent.class);
+
+        private static final EventType MAPPING = EventType.getEventType(ResultMappingEvent.class);
+
+        private static Object beginMapping() {
+            if (!MAPPING.isEnabled()) {
+                return null;
+            }
+            final ResultMappingEvent event = new ResultMappingEvent();
+            event.begin();
+            return event;
+        }
+
+        private static Object beginStatement(final boolean batch) {
+            if (!(batch ? BATCH : QUERY).isEnabled()) {
+                return null;
+            }
+            final StatementEvent event = batch ? new BatchEvent() : new QueryEvent();
+            event.begin();
+            return event;
+        }
+
+        private static void commitMapping(final Object mappingEvent, final Class<?> beanType, final Class<?> processor, final long rows,
+                final int columns) {
+            final ResultMappingEvent event = (ResultMappingEvent) mappingEvent;
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.beanType = beanType;
+            event.processor = processor;
+            event.rows = rows;
+            event.columns = columns;
+            event.commit();
+        }
+
+        private static void commitStatement(final Object statementEvent, final QueryExecution execution) {
+            final StatementEvent event = (StatementEvent) statementEvent;
+            event.end();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            event.sql = StatementEvent.fingerprint(execution.getSql());
+            event.operation = execution.getOperation().name();
+            event.handler = execution.getHandlerType();
+            event.rows = execution.getRows();
+            event.prepare = execution.getNanos(QueryExecution.Phase.PREPARE);
+            event.bind = execution.getNanos(QueryExecution.Phase.BIND);
+            event.execute = execution.getNanos(QueryExecution.Phase.EXECUTE);
+            event.handle = execution.getNanos(QueryExecution.Phase.HANDLE);
+            event.close = execution.getNanos(QueryExecution.Phase.CLOSE);
+            event.failure = execution.getException() == null ? null : execution.getException().toString();
+            if (event instanceof BatchEvent) {
+                ((BatchEvent) event).batchSize = execution.getBatchSize();
+            }
+            event.commit();
+        }
+    }
+
+    /**
+     * Whether the {@code jdk.jfr} module is present and the event types
+     * could be registered.
+     */
+    private static final boolean AVAILABLE = probe();
+
+    /**
+     * Begins a {@code dbutils.ResultMapping} event.
+     *
+     * @return The event, or {@code null} if it is disabled.
+     */
+    static Object beginMapping() {
+        return AVAILABLE ? Types.beginMapping() : null;
+    }
+
+    /**
+     * Begins a {@code dbutils.Query} or {@code dbutils.Batch} event.
+     *
+     * @param batch Whether the statement is a batch.
+     * @return The event, or {@code null} if it is disabled.
+     */
+    static Object beginStatement(final boolean batch) {
+        return AVAILABLE ? Types.beginStatement(batch) : null;
+    }
+
+    /**
+     * Ends a {@code dbutils.ResultMapping} event and commits it if its
+     * threshold is reached.
+     *
+     * @param event The event from {@link #beginMapping()}, may be null.
+     * @param beanType The bean class.
+     * @param processor The class of the bean processor.
+     * @param rows The number of rows converted.
+     * @param columns The number of columns.
+     */
+    static void commitMapping(final Object event, final Class<?> beanType, final Class<?> processor, final long rows, final int columns) {
+        if (event != null) {
+            Types.commitMapping(event, beanType, processor, rows, columns);
+        }
+    }
+
+    /**
+     * Ends a statement event and commits it if its threshold is reached.
+     *
+     * @param event The event from {@link #beginStatement(boolean)}, may be null.
+     * @param execution The finished execution.
+     */
+    static void commitStatement(final Object event, final QueryExecution execution) {
+        if (event != null) {
+            Types.commitStatement(event, execution);
+        }
+    }
+
+    private static boolean probe() {
+        try {
+            return Types.QUERY != null;
+        } catch (final LinkageError | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private FlightRecorderEvents() {
+        // no instances
+    }
+}
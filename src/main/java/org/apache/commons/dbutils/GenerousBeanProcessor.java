@@ -21,6 +21,7 @@ import java.beans.PropertyDescriptor;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.HashMap;
 
 
 /**
@@ -37,6 +38,18 @@ public class GenerousBeanProcessor extends BeanProcessor {
     public GenerousBeanProcessor() {
     }
 
+    /**
+     * Constructor for GenerousBeanProcessor choosing the way bean setters are called.
+     *
+     * @param compileSetters whether to bind bean setters once to generated accessors
+     * instead of calling them through reflection for every value
+     * @see BeanProcessor#BeanProcessor(java.util.Map, boolean)
+     * @since 1.9.0
+     */
+    public GenerousBeanProcessor(final boolean compileSetters) {
+        super(new HashMap<>(), compileSetters);
+    }
+
     @Override
     protected int[] mapColumnsToProperties(final ResultSetMetaData rsmd,
             final PropertyDescriptor[] props) throws SQLException {
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads parameter rows in parallel over several connections of a
+ * {@code DataSource}.  The rows are read once, grouped into chunks and handed
+ * to one task per partition.  Each partition runs on its own connection with
+ * its own batch statement and commits every chunk it executes, so a failure
+ * only rolls back the chunk it occurred in.  A partition that fails stops and
+ * leaves the remaining chunks to the other partitions.
+ *
+ * <p>
+ * At most one chunk per partition is waiting to be loaded at any time, so
+ * memory use doesn't depend on the number of rows.  The
+ * {@code ExecutorService} must be able to run all partitions concurrently.
+ * </p>
+ *
+ * <p>
+ * Connections are taken from the {@code DataSource} of the
+ * {@link QueryRunner} and statements are prepared and filled by it, so its
+ * statement configuration applies.  This class is thread safe.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+public class ParallelBatchLoader {
+
+    /**
+     * The outcome of loading one partition.
+     */
+    public static final class Partition {
+
+        private final int index;
+
+        private long chunks;
+
+        private long rows;
+
+        private long updateCount;
+
+        private SQLException failure;
+
+        private List<Object[]> failedChunk = Collections.emptyList();
+
+        private Partition(final int index) {
+            this.index = index;
+        }
+
+        /**
+         * Gets the number of chunks this partition committed.
+         *
+         * @return The number of chunks.
+         */
+        public long getChunks() {
+            return chunks;
+        }
+
+        /**
+         * Gets the rows of the chunk that failed, which were rolled back.
+         *
+         * @return The rows, empty if the partition didn't fail while loading a chunk.
+         */
+        public List<Object[]> getFailedChunk() {
+            return failedChunk;
+        }
+
+        /**
+         * Gets the exception that stopped this partition.
+         *
+         * @return The exception or {@code null} if the partition didn't fail.
+         */
+        public SQLException getFailure() {
+            return failure;
+        }
+
+        /**
+         * Gets the index of this partition, from zero.
+         *
+         * @return The index.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the number of parameter rows this partition committed.
+         *
+         * @return The number of rows.
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * Gets the total update count of the chunks this partition committed.
+         * Statements the driver reports as
+         * {@link java.sql.Statement#SUCCESS_NO_INFO} are not counted.
+         *
+         * @return The update count.
+         */
+        public long getUpdateCount() {
+            return updateCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition " + index + ": " + rows + " rows, " + updateCount + " updates" + (failure == null ? "" : ", failed: " + failure);
+        }
+    }
+
+    /**
+     * The outcome of a load: the partitions, and the rows no partition
+     * attempted because all of them failed.
+     */
+    public static final class Result {
+
+        private final List<Partition> partitions;
+
+        private final List<Object[]> unprocessedRows;
+
+        private final Iterator<Object[]> unreadRows;
+
+        private Result(final List<Partition> partitions, final List<Object[]> unprocessedRows, final Iterator<Object[]> unreadRows) {
+            this.partitions = partitions;
+            this.unprocessedRows = unprocessedRows;
+            this.unreadRows = unreadRows;
+        }
+
+        /**
+         * Gets the outcome of each partition.
+         *
+         * @return The partitions, ordered by index.
+         */
+        public List<Partition> getPartitions() {
+            return partitions;
+        }
+
+        /**
+         * Gets the rows that were read but never attempted, because all
+         * partitions had failed before taking them.  The rows of the chunks
+         * that failed are reported by their partitions instead.
+         *
+         * @return The rows in input order, empty unless all partitions failed.
+         */
+        public List<Object[]> getUnprocessedRows() {
+            return unprocessedRows;
+        }
+
+        /**
+         * Gets the rows that were never read, because all partitions had
+         * failed before.  The iterator continues where the load stopped.
+         *
+         * @return The remaining rows, empty unless all partitions failed.
+         */
+        public Iterator<Object[]> getUnreadRows() {
+            return unreadRows;
+        }
+
+        /**
+         * Tells whether every row was committed.
+         *
+         * @return {@code true} if no partition failed and no row was left.
+         */
+        public boolean isComplete() {
+            return partitions.stream().allMatch(partition -> partition.failure == null) && unprocessedRows.isEmpty() && !unreadRows.hasNext();
+        }
+    }
+
+    /**
+     * Loads the chunks taken from the queue on one connection.
+     */
+    private final class Worker implements Callable<Partition> {
+
+        private final Partition partition;
+
+        private final String sql;
+
+        private final BlockingQueue<List<Object[]>> chunks;
+
+        private final AtomicInteger running;
+
+        private Worker(final int index, final String sql, final BlockingQueue<List<Object[]>> chunks, final AtomicInteger running) {
+            this.partition = new Partition(index);
+            this.sql = sql;
+            this.chunks = chunks;
+            this.running = running;
+        }
+
+        @Override
+        public Partition call() {
+            Connection conn = null;
+            PreparedStatement stmt = null;
+            boolean autoCommit = true;
+            List<Object[]> chunk = null;
+            try {
+                conn = queryRunner.prepareConnection();
+                autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                stmt = queryRunner.prepareStatement(conn, sql);
+                final ParameterMetaData pmd = queryRunner.getParameterMetaData(sql, stmt);
+
+                while ((chunk = chunks.take()) != END) {
+                    for (final Object[] row : chunk) {
+                        queryRunner.fillStatement(stmt, pmd, row);
+                        stmt.addBatch();
+                    }
+                    long updateCount = 0;
+                    for (final int count : stmt.executeBatch()) {
+                        if (count > 0) {
+                            updateCount += count;
+                        }
+                    }
+                    conn.commit();
+                    partition.chunks++;
+                    partition.rows += chunk.size();
+                    partition.updateCount += updateCount;
+                    chunk = null;
+                }
+
+            } catch (final SQLException e) {
+                fail(conn, chunk, e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(conn, chunk, new SQLException("Interrupted while loading partition " + partition.index, e));
+            } catch (final RuntimeException e) {
+                fail(conn, chunk, new SQLException(e));
+            } finally {
+                running.decrementAndGet();
+                queryRunner.closeQuietly(stmt);
+                if (conn != null) {
+                    try {
+                        conn.setAutoCommit(autoCommit);
+                    } catch (final SQLException e) { // NOPMD
+                        // quiet
+                    }
+                    queryRunner.closeQuietly(conn);
+                }
+            }
+            return partition;
+        }
+
+        private void fail(final Connection conn, final List<Object[]> chunk, final SQLException e) {
+            partition.failure = e;
+            if (chunk != null && chunk != END) {
+                partition.failedChunk = chunk;
+            }
+            DbUtils.rollbackQuietly(conn);
+        }
+    }
+
+    /**
+     * Marks the end of the input for a worker.
+     */
+    private static final List<Object[]> END = new ArrayList<>(0);
+
+    /**
+     * How long to wait for a free slot in the queue before checking whether
+     * any partition is still running.
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 10;
+
+    private final ExecutorService executorService;
+
+    private final QueryRunner queryRunner;
+
+    private final int partitions;
+
+    private final int chunkSize;
+
+    /**
+     * Constructor for ParallelBatchLoader.
+     *
+     * @param executorService The {@code ExecutorService} to run the partitions on.
+     * @param queryRunner The {@code QueryRunner} whose {@code DataSource} provides the connections.
+     * @param partitions The number of partitions, and so of connections, to load concurrently.
+     * @param chunkSize The number of rows each chunk holds and is committed with.
+     */
+    public ParallelBatchLoader(final ExecutorService executorService, final QueryRunner queryRunner, final int partitions, final int chunkSize) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Number of partitions must be positive: " + partitions);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.executorService = executorService;
+        this.queryRunner = queryRunner;
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Executes an SQL INSERT, UPDATE, or DELETE query once for each parameter
+     * row, spreading the rows over the partitions.  A {@code Stream} can be
+     * passed as {@code stream::iterator}.  If all partitions fail, the load
+     * stops: the rows already read but not attempted and the rows not read
+     * yet are returned with the result.
+     *
+     * @param sql The SQL to execute.
+     * @param params The query replacement parameters.  Each element is one
+     * set of batch replacement values.
+     * @return The outcome of each partition and the rows left.
+     * @throws SQLException if the rows could not be handed to the partitions
+     */
+    public Result load(final String sql, final Iterable<Object[]> params) throws SQLException {
+        if (sql == null) {
+            throw new SQLException("Null SQL statement");
+        }
+
+        if (params == null) {
+            throw new SQLException("Null parameters. If parameters aren't need, pass an empty iterable.");
+        }
+
+        final BlockingQueue<List<Object[]>> chunks = new ArrayBlockingQueue<>(partitions);
+        final AtomicInteger running = new AtomicInteger(partitions);
+        final List<Future<Partition>> futures = new ArrayList<>(partitions);
+        final Iterator<Object[]> rows = params.iterator();
+        List<Object[]> chunk = new ArrayList<>(chunkSize);
+        boolean handedOver = false;
+        try {
+            for (int i = 0; i < partitions; i++) {
+                futures.add(executorService.submit(new Worker(i, sql, chunks, running)));
+            }
+
+            boolean offered = true;
+            while (offered && rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == chunkSize) {
+                    offered = offer(chunks, chunk, running);
+                    if (offered) {
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                }
+            }
+            if (offered && !chunk.isEmpty() && offer(chunks, chunk, running)) {
+                chunk = Collections.emptyList();
+            }
+            for (int i = 0; i < partitions; i++) {
+                if (!offer(chunks, END, running)) {
+                    break;
+                }
+            }
+            handedOver = true;
+
+        } finally {
+            if (!handedOver) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+
+        final List<Partition> results = new ArrayList<>(partitions);
+        for (final Future<Partition> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for the partitions", e);
+            } catch (final ExecutionException e) {
+                throw new SQLException(e.getCause());
+            }
+        }
+
+        // all partitions have stopped, so the chunks still queued were never taken
+        final List<Object[]> unprocessed = new ArrayList<>();
+        for (final List<Object[]> queued : chunks) {
+            unprocessed.addAll(queued);
+        }
+        unprocessed.addAll(chunk);
+        return new Result(results, unprocessed, rows);
+    }
+
+    /**
+     * Hands a chunk to the partitions, waiting while they are busy.
+     *
+     * @param chunks The queue of chunks.
+     * @param chunk The chunk.
+     * @param running The number of partitions still running.
+     * @return {@code false} if no partition is running anymore.
+     * @throws SQLException if interrupted while waiting.
+     */
+    private boolean offer(final BlockingQueue<List<Object[]>> chunks, final List<Object[]> chunk, final AtomicInteger running) throws SQLException {
+        try {
+            while (!chunks.offer(chunk, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (running.get() == 0) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while handing rows to the partitions", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Defines how to bind replacement parameters of a given type to a {@link PreparedStatement}. Instances call the statement's type-specific setter instead
+ * of {@link PreparedStatement#setObject(int, Object)}, which makes many drivers inspect the value's type at runtime.
+ *
+ * @param <T> The parameter type.
+ * @since 1.9.0
+ */
+public interface ParameterBinder<T> {
+
+    /**
+     * Binds a value to a parameter of the statement. This method is only called if {@link #match(Class)} returns true for the value's class.
+     *
+     * @param statement      The statement to bind the value to.
+     * @param parameterIndex The position of the parameter, a 1-based index.
+     * @param value          The value, never {@code null}.
+     * @throws SQLException if the parameterIndex is not valid; if a database access error occurs or this method is called on a closed statement
+     */
+    void bind(PreparedStatement statement, int parameterIndex, T value) throws SQLException;
+
+    /**
+     * Tests whether to bind values of the given type.
+     *
+     * @param valueType The class of the value.
+     * @return true if this parameter binder binds values of this {@code valueType}; false otherwise.
+     */
+    boolean match(Class<?> valueType);
+}
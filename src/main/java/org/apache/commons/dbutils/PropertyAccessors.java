@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.ResultSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Binds bean accessor methods to functional interfaces once so they can be
+ * called without {@link Method#invoke(Object, Object...)}.
+ *
+ * <p>
+ * Accessors are generated with {@link LambdaMetafactory} in the bean's own
+ * lookup context so the JIT can treat them like hand-written lambdas. When
+ * that isn't possible, for example because the bean's module doesn't open its
+ * package, they fall back to a proxy calling a {@link MethodHandle}. Factory
+ * methods return {@code null} when neither is accessible, in which case
+ * callers should use reflection.
+ * </p>
+ */
+final class PropertyAccessors {
+
+    /**
+     * Binds a method to a functional interface, preferring a
+     * {@code LambdaMetafactory} instance and falling back to a
+     * {@link MethodHandleProxies} wrapper around a method handle.
+     *
+     * @param <T> The functional interface type.
+     * @param method The method to call.
+     * @param functionalInterface The functional interface to implement.
+     * @param samName The name of the interface's abstract method.
+     * @param samType The erased type of the interface's abstract method.
+     * @param instantiatedType The type of the abstract method once its type variables are bound.
+     * @return The instance or {@code null} if the method isn't accessible.
+     */
+    private static <T> T bind(final Method method, final Class<T> functionalInterface, final String samName,
+            final MethodType samType, final MethodType instantiatedType) {
+        final T lambda = lambda(method, functionalInterface, samName, samType, instantiatedType);
+        if (lambda != null) {
+            return lambda;
+        }
+        final MethodHandle handle = methodHandle(method, samType);
+        return handle == null ? null : MethodHandleProxies.asInterfaceInstance(functionalInterface, handle);
+    }
+
+    /**
+     * Binds a getter for {@code boolean} values.
+     *
+     * @param getter A getter method without parameters returning {@code boolean}.
+     * @return The bound getter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static Predicate<Object> booleanGetter(final Method getter) {
+        return bind(getter, Predicate.class, "test",
+                MethodType.methodType(boolean.class, Object.class),
+                MethodType.methodType(boolean.class, getter.getDeclaringClass()));
+    }
+
+    /**
+     * Binds a getter for {@code double} values.
+     *
+     * @param getter A getter method without parameters returning {@code double}.
+     * @return The bound getter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static ToDoubleFunction<Object> doubleGetter(final Method getter) {
+        return bind(getter, ToDoubleFunction.class, "applyAsDouble",
+                MethodType.methodType(double.class, Object.class),
+                MethodType.methodType(double.class, getter.getDeclaringClass()));
+    }
+
+    /**
+     * Binds a one-parameter setter for {@code double} values.
+     *
+     * @param setter A setter method taking one {@code double} parameter.
+     * @return The bound setter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static ObjDoubleConsumer<Object> doubleSetter(final Method setter) {
+        return bind(setter, ObjDoubleConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, double.class),
+                MethodType.methodType(void.class, setter.getDeclaringClass(), double.class));
+    }
+
+    /**
+     * Binds a getter.  Primitive values are boxed.
+     *
+     * @param getter A getter method without parameters.
+     * @return The bound getter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> getter(final Method getter) {
+        return bind(getter, Function.class, "apply",
+                MethodType.methodType(Object.class, Object.class),
+                MethodType.methodType(MethodType.methodType(getter.getReturnType()).wrap().returnType(), getter.getDeclaringClass()));
+    }
+
+    /**
+     * Binds a getter for {@code int} values.
+     *
+     * @param getter A getter method without parameters returning {@code int}.
+     * @return The bound getter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static ToIntFunction<Object> intGetter(final Method getter) {
+        return bind(getter, ToIntFunction.class, "applyAsInt",
+                MethodType.methodType(int.class, Object.class),
+                MethodType.methodType(int.class, getter.getDeclaringClass()));
+    }
+
+    /**
+     * Binds a one-parameter setter for {@code int} values.
+     *
+     * @param setter A setter method taking one {@code int} parameter.
+     * @return The bound setter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static ObjIntConsumer<Object> intSetter(final Method setter) {
+        return bind(setter, ObjIntConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, int.class),
+                MethodType.methodType(void.class, setter.getDeclaringClass(), int.class));
+    }
+
+    /**
+     * Creates a {@code LambdaMetafactory} instance of a functional interface
+     * that calls the given method.
+     *
+     * @param <T> The functional interface type.
+     * @param method The method to call.
+     * @param functionalInterface The functional interface to implement.
+     * @param samName The name of the interface's abstract method.
+     * @param samType The erased type of the interface's abstract method.
+     * @param instantiatedType The type of the abstract method once its type variables are bound.
+     * @return The instance or {@code null} if it can't be generated.
+     */
+    private static <T> T lambda(final Method method, final Class<T> functionalInterface, final String samName,
+            final MethodType samType, final MethodType instantiatedType) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            final MethodHandle target = lookup.unreflect(method);
+            final MethodHandle factory = LambdaMetafactory.metafactory(lookup, samName, MethodType.methodType(functionalInterface),
+                    samType, target, instantiatedType).getTarget();
+            return functionalInterface.cast(factory.invoke());
+        } catch (final Throwable e) { // NOPMD: the factory rethrows anything, fall back to a method handle
+            if (e instanceof VirtualMachineError) {
+                throw (VirtualMachineError) e;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Binds a getter for {@code long} values.
+     *
+     * @param getter A getter method without parameters returning {@code long}.
+     * @return The bound getter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static ToLongFunction<Object> longGetter(final Method getter) {
+        return bind(getter, ToLongFunction.class, "applyAsLong",
+                MethodType.methodType(long.class, Object.class),
+                MethodType.methodType(long.class, getter.getDeclaringClass()));
+    }
+
+    /**
+     * Binds a one-parameter setter for {@code long} values.
+     *
+     * @param setter A setter method taking one {@code long} parameter.
+     * @return The bound setter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static ObjLongConsumer<Object> longSetter(final Method setter) {
+        return bind(setter, ObjLongConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, long.class),
+                MethodType.methodType(void.class, setter.getDeclaringClass(), long.class));
+    }
+
+    /**
+     * Looks up a method handle for the given method, adapted to a type with
+     * {@code Object} in place of the declaring class.
+     *
+     * @param method The method.
+     * @param type The adapted method type.
+     * @return The method handle or {@code null} if the method isn't accessible.
+     */
+    private static MethodHandle methodHandle(final Method method, final MethodType type) {
+        try {
+            return MethodHandles.lookup().unreflect(method).asType(type);
+        } catch (final IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Rethrows a {@code Throwable} thrown by a method handle, wrapping checked
+     * exceptions in an {@link UndeclaredThrowableException}.
+     *
+     * @param e The throwable.
+     * @return Never returns, declared so callers can {@code throw} the result.
+     */
+    static RuntimeException rethrow(final Throwable e) {
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new UndeclaredThrowableException(e);
+    }
+
+    /**
+     * Binds a one-parameter setter.  Primitive parameters are unboxed, so the
+     * returned setter must not be passed {@code null} for them.
+     *
+     * @param setter A setter method taking one parameter.
+     * @return The bound setter or {@code null} if the method isn't accessible.
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> setter(final Method setter) {
+        final Class<?> type = setter.getParameterTypes()[0];
+        return bind(setter, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class),
+                MethodType.methodType(void.class, setter.getDeclaringClass(), MethodType.methodType(type).wrap().returnType()));
+    }
+
+    /**
+     * Combines a one-parameter setter with the {@code ResultSet} getter
+     * reading its parameter type, as a method handle of type
+     * {@code (Object, ResultSet, int)void} that copies a column into the
+     * property without boxing it.
+     *
+     * @param setter A setter method taking one primitive parameter.
+     * @param getterName The name of the {@code ResultSet} getter returning
+     * the parameter type, such as {@code getShort}.
+     * @return The method handle or {@code null} if the method isn't accessible.
+     */
+    static MethodHandle columnSetterHandle(final Method setter, final String getterName) {
+        final Class<?> type = setter.getParameterTypes()[0];
+        final MethodHandle handle = methodHandle(setter, MethodType.methodType(void.class, Object.class, type));
+        if (handle == null) {
+            return null;
+        }
+        try {
+            final MethodHandle getter = MethodHandles.publicLookup().findVirtual(ResultSet.class, getterName, MethodType.methodType(type, int.class));
+            return MethodHandles.collectArguments(handle, 1, getter);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private PropertyAccessors() {
+        // no instances
+    }
+}
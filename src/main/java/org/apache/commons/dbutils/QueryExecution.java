@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.util.Locale;
+
+/**
+ * The execution of one statement by a {@link QueryRunner}, as reported to a
+ * {@link QueryListener}.  The time spent in each {@link Phase} is measured
+ * with {@link System#nanoTime()}; phases that are entered repeatedly, like
+ * binding and executing the chunks of a batch, add up.  If the statement
+ * fails, the time until it is closed counts for the phase that failed.
+ *
+ * <p>
+ * The query runner methods create an execution only if a listener is
+ * registered or the {@code dbutils.Query} or {@code dbutils.Batch} Java
+ * Flight Recorder event is enabled, in which case the execution is also
+ * committed as that event.  The static methods updating it accept
+ * {@code null} and then do nothing, so the methods need no other check.
+ * </p>
+ *
+ * @since 1.9.0
+ */
+public final class QueryExecution {
+
+    /**
+     * The kinds of statements a query runner executes.
+     */
+    public enum Operation {
+
+        /** A batch, from the {@code batch}, {@code batchBeans} or {@code insertBatch} methods. */
+        BATCH,
+
+        /** A call, from the {@code execute} methods. */
+        EXECUTE,
+
+        /** An insert returning generated keys, from the {@code insert} methods. */
+        INSERT,
+
+        /** A query, from the {@code query} methods. */
+        QUERY,
+
+        /** An update, from the {@code update} methods. */
+        UPDATE
+    }
+
+    /**
+     * The phases of a statement execution.
+     */
+    public enum Phase {
+
+        /** Preparing or creating the statement. */
+        PREPARE,
+
+        /** Binding the parameters, including adding them to a batch. */
+        BIND,
+
+        /** Executing the statement. */
+        EXECUTE,
+
+        /** Converting the results with the {@code ResultSetHandler}. */
+        HANDLE,
+
+        /** Closing the result set and statement. */
+        CLOSE
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * Creates an execution, if there is a listener or a recording to report
+     * it to.
+     *
+     * @param listener The listener, may be null.
+     * @param operation The kind of statement.
+     * @param sql The SQL.
+     * @param handler The handler converting the results, may be null.
+     * @return The execution, or null if there is no listener and the event
+     * is disabled.
+     */
+    static QueryExecution start(final QueryListener listener, final Operation operation, final String sql, final ResultSetHandler<?> handler) {
+        final Object event = FlightRecorderEvents.beginStatement(operation == Operation.BATCH);
+        if (listener == null && event == null) {
+            return null;
+        }
+        return new QueryExecution(listener, event, operation, sql, handler == null ? null : handler.getClass());
+    }
+
+    /**
+     * Ends the phase in progress and starts the given one.
+     *
+     * @param execution The execution, may be null.
+     * @param phase The phase that starts now.
+     */
+    static void enter(final QueryExecution execution, final Phase phase) {
+        if (execution != null) {
+            execution.enter(phase);
+        }
+    }
+
+    /**
+     * Records the number of parameter sets of a batch.
+     *
+     * @param execution The execution, may be null.
+     * @param batchSize The number of parameter sets.
+     */
+    static void batchSize(final QueryExecution execution, final long batchSize) {
+        if (execution != null) {
+            execution.batchSize = batchSize;
+        }
+    }
+
+    /**
+     * Records the number of rows updated.
+     *
+     * @param execution The execution, may be null.
+     * @param rows The number of rows.
+     */
+    static void rows(final QueryExecution execution, final long rows) {
+        if (execution != null) {
+            execution.rows = rows;
+        }
+    }
+
+    /**
+     * Records the number of rows updated by a batch, the total of the
+     * positive update counts.
+     *
+     * @param execution The execution, may be null.
+     * @param counts The update counts of the batch.
+     */
+    static void rows(final QueryExecution execution, final int[] counts) {
+        if (execution != null) {
+            long rows = 0;
+            for (final int count : counts) {
+                if (count > 0) {
+                    rows += count;
+                }
+            }
+            execution.rows = rows;
+        }
+    }
+
+    /**
+     * Records the exception the statement failed with, which may also come
+     * from the handler converting its results.
+     *
+     * @param execution The execution, may be null.
+     * @param exception The exception.
+     */
+    static void failed(final QueryExecution execution, final Throwable exception) {
+        if (execution != null) {
+            execution.exception = exception;
+        }
+    }
+
+    /**
+     * Ends the phase in progress and reports the execution to its listener.
+     * An exception thrown by the listener is ignored, so it can't replace
+     * the outcome of the statement.
+     *
+     * @param execution The execution, may be null.
+     */
+    static void finish(final QueryExecution execution) {
+        if (execution != null) {
+            execution.enter(null);
+            FlightRecorderEvents.commitStatement(execution.event, execution);
+            if (execution.listener != null) {
+                try {
+                    execution.listener.executed(execution);
+                } catch (final RuntimeException e) { // NOPMD
+                    // quiet
+                }
+            }
+        }
+    }
+
+    private final QueryListener listener;
+    private final Object event;
+    private final Operation operation;
+    private final String sql;
+    private final Class<?> handlerType;
+    private final long[] nanos = new long[PHASES.length];
+    private Phase phase = Phase.PREPARE;
+    private long phaseStart;
+    private long batchSize;
+    private long rows = -1;
+    private Throwable exception;
+
+    private QueryExecution(final QueryListener listener, final Object event, final Operation operation, final String sql,
+            final Class<?> handlerType) {
+        this.listener = listener;
+        this.event = event;
+        this.operation = operation;
+        this.sql = sql;
+        this.handlerType = handlerType;
+        this.phaseStart = System.nanoTime();
+    }
+
+    private void enter(final Phase next) {
+        final long now = System.nanoTime();
+        if (phase != null) {
+            nanos[phase.ordinal()] += now - phaseStart;
+        }
+        phase = next;
+        phaseStart = now;
+    }
+
+    /**
+     * Gets the number of parameter sets of a batch.
+     *
+     * @return The batch size, or 0 if the statement isn't a batch.
+     */
+    public long getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Gets the exception the statement failed with, before the query runner
+     * added the SQL and parameters to its message.  This is an
+     * {@code SQLException} unless the {@code ResultSetHandler} or a
+     * subclass of the query runner threw an unchecked exception.
+     *
+     * @return The exception, or null if the statement succeeded.
+     */
+    public Throwable getException() {
+        return exception;
+    }
+
+    /**
+     * Gets the class of the handler that converted the results.
+     *
+     * @return The handler class, or null if the statement had no handler.
+     */
+    public Class<?> getHandlerType() {
+        return handlerType;
+    }
+
+    /**
+     * Gets the time spent in a phase.
+     *
+     * @param phase The phase.
+     * @return The time in nanoseconds, 0 if the phase didn't happen.
+     */
+    public long getNanos(final Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Gets the kind of statement.
+     *
+     * @return The operation.
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the number of rows the statement updated.  For batches, this is
+     * the total of the rows the driver reported for each parameter set.
+     *
+     * @return The number of rows, or -1 if not known, like for queries.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the SQL of the statement.
+     *
+     * @return The SQL.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Gets the time spent in all phases.
+     *
+     * @return The time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (final long n : nanos) {
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * Tells whether the statement succeeded.
+     *
+     * @return true if no exception occurred.
+     */
+    public boolean isSuccessful() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(operation.name()).append(" [").append(sql).append("]");
+        for (final Phase phase : PHASES) {
+            sb.append(' ').append(phase.name().toLowerCase(Locale.ROOT)).append('=').append(nanos[phase.ordinal()]).append("ns");
+        }
+        if (batchSize > 0) {
+            sb.append(" batchSize=").append(batchSize);
+        }
+        if (rows >= 0) {
+            sb.append(" rows=").append(rows);
+        }
+        if (exception != null) {
+            sb.append(" failed: ").append(exception);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+/**
+ * Implementations of this interface observe the statements a
+ * {@link QueryRunner} executes, for example to record metrics.  A listener
+ * is registered with {@link StatementConfiguration.Builder#queryListener(QueryListener)};
+ * query runners without one don't measure their statements at all.
+ *
+ * <p>
+ * Listeners are called on the thread that executed the statement, after it
+ * has been closed, whether it succeeded or not.  They are shared by all
+ * threads using the query runner, so implementations must be thread safe,
+ * and they should be fast and not throw exceptions.
+ * </p>
+ *
+ * @see QueryExecution
+ * @since 1.9.0
+ */
+@FunctionalInterface
+public interface QueryListener {
+
+    /**
+     * Called once for each statement a query runner executed.
+     *
+     * @param execution The SQL, phase timings and outcome of the statement.
+     */
+    void executed(QueryExecution execution);
+
+}
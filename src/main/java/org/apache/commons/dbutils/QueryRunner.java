@@ -23,19 +23,65 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
+import org.apache.commons.dbutils.QueryExecution.Operation;
+import org.apache.commons.dbutils.QueryExecution.Phase;
+
 /**
  * Executes SQL queries with pluggable strategies for handling
  * {@code ResultSet}s.  This class is thread safe.
  *
+ * <p>
+ * Besides the {@code query} methods, which convert the whole result with a
+ * {@link ResultSetHandler} before returning, the {@code stream} methods return
+ * the rows as a {@code Stream} that fetches them on demand, so results larger
+ * than the heap can be processed.  The {@code publish} methods do the same
+ * for reactive subscribers, fetching rows as they are requested.
+ * </p>
+ *
  * @see ResultSetHandler
  */
 public class QueryRunner extends AbstractQueryRunner {
 
+    /**
+     * Binds the rows of a batch executed in chunks.
+     *
+     * @param <R> The type of the rows.
+     */
+    private interface BatchBinder<R> {
+
+        /**
+         * Binds a row to the statement.
+         *
+         * @param stmt The statement.
+         * @param pmd The statement's parameter metadata, may be null.
+         * @param row The row.
+         * @param index The index of the row, starting at 0.
+         * @throws SQLException if a database access error occurs
+         */
+        void bind(PreparedStatement stmt, ParameterMetaData pmd, R row, long index) throws SQLException;
+
+        /**
+         * Prepares binding rows once the statement is prepared.
+         *
+         * @param pmd The statement's parameter metadata, may be null.
+         * @throws SQLException if the rows can't be bound to the statement
+         */
+        default void prepare(final ParameterMetaData pmd) throws SQLException {
+            // nothing to check by default
+        }
+    }
+
     /**
      * Constructor for QueryRunner.
      */
@@ -145,22 +191,36 @@ public class QueryRunner extends AbstractQueryRunner {
         PreparedStatement stmt = null;
         ParameterMetaData pmd = null;
         int[] rows = null;
+        final QueryExecution execution = this.startExecution(Operation.BATCH, sql, null);
         try {
-            stmt = this.prepareStatement(conn, sql);
+            stmt = track(this.prepareStatement(conn, sql));
             // When the batch size is large, prefetching parameter metadata before filling
             // the statement can reduce lots of JDBC communications.
-            pmd = this.getParameterMetaData(stmt);
+            pmd = this.getParameterMetaData(sql, stmt);
 
+            QueryExecution.enter(execution, Phase.BIND);
             for (final Object[] param : params) {
                 this.fillStatement(stmt, pmd, param);
                 stmt.addBatch();
             }
+            QueryExecution.batchSize(execution, params.length);
+            QueryExecution.enter(execution, Phase.EXECUTE);
             rows = stmt.executeBatch();
+            QueryExecution.rows(execution, rows);
 
         } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
             this.rethrow(e, sql, (Object[])params);
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            throw e;
         } finally {
-            close(stmt);
+            QueryExecution.enter(execution, Phase.CLOSE);
+            try {
+                close(stmt);
+            } finally {
+                QueryExecution.finish(execution);
+            }
         }
 
         return rows;
@@ -185,6 +245,170 @@ public class QueryRunner extends AbstractQueryRunner {
         }
     }
 
+    /**
+     * Execute a batch of SQL INSERT, UPDATE, or DELETE queries in chunks.
+     * The parameters are consumed as they are iterated and the batch is
+     * executed every {@code chunkSize} rows, so the rows never need to be in
+     * memory all at once.  A {@code Stream} can be passed as
+     * {@code stream::iterator}.
+     *
+     * <p>
+     * If {@code commitChunks} is {@code true} and the connection isn't in
+     * auto-commit mode, the connection is committed after each chunk and
+     * rolled back if a later chunk fails, so a failure only undoes the rows
+     * added since the last commit.
+     * </p>
+     *
+     * @param conn The Connection to use to run the query.  The caller is
+     * responsible for closing this Connection.
+     * @param sql The SQL to execute.
+     * @param params The query replacement parameters.  Each element is one
+     * set of batch replacement values.
+     * @param chunkSize The number of rows to add before executing the batch.
+     * @param commitChunks Whether to commit the connection after each chunk.
+     * @return The total number of rows updated.  Statements the driver
+     * reports as {@link java.sql.Statement#SUCCESS_NO_INFO} are not counted.
+     * @throws SQLException if a database access error occurs
+     * @since 1.9.0
+     */
+    public long batch(final Connection conn, final String sql, final Iterable<Object[]> params, final int chunkSize, final boolean commitChunks)
+            throws SQLException {
+        if (conn == null) {
+            throw new SQLException("Null connection");
+        }
+
+        if (sql == null) {
+            throw new SQLException("Null SQL statement");
+        }
+
+        if (params == null) {
+            throw new SQLException("Null parameters. If parameters aren't need, pass an empty iterable.");
+        }
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        return this.batchInChunks(conn, sql, params, chunkSize, commitChunks, (stmt, pmd, param, index) -> this.fillStatement(stmt, pmd, param));
+    }
+
+    /**
+     * Execute a batch of SQL INSERT, UPDATE, or DELETE queries in chunks.
+     * The {@code Connection} is retrieved from the {@code DataSource} set in
+     * the constructor.  This {@code Connection} must be in auto-commit mode
+     * or the update will not be saved.
+     *
+     * @param sql The SQL to execute.
+     * @param params The query replacement parameters.  Each element is one
+     * set of batch replacement values.
+     * @param chunkSize The number of rows to add before executing the batch.
+     * @return The total number of rows updated.
+     * @throws SQLException if a database access error occurs
+     * @see #batch(Connection, String, Iterable, int, boolean)
+     * @since 1.9.0
+     */
+    public long batch(final String sql, final Iterable<Object[]> params, final int chunkSize) throws SQLException {
+        try (Connection conn = this.prepareConnection()) {
+            return this.batch(conn, sql, params, chunkSize, false);
+        }
+    }
+
+    /**
+     * Execute a batch of SQL INSERT, UPDATE, or DELETE queries with the
+     * property values of beans as replacement parameters, in chunks like
+     * {@link #batch(Connection, String, Iterable, int, boolean)}.  The
+     * property getters are compiled once per bean class and list of
+     * properties, and primitive and {@code String} values are bound with the
+     * matching typed setter of the statement.
+     *
+     * @param <T> The type of the beans.
+     * @param conn The Connection to use to run the query.  The caller is
+     * responsible for closing this Connection.
+     * @param sql The SQL to execute.
+     * @param beans The beans.  Each bean is one set of batch replacement values
+     * and must not be {@code null}.
+     * @param chunkSize The number of beans to add before executing the batch.
+     * @param commitChunks Whether to commit the connection after each chunk.
+     * @param propertyNames The bean properties to bind, in parameter order.
+     * @return The total number of rows updated.  Statements the driver
+     * reports as {@link java.sql.Statement#SUCCESS_NO_INFO} are not counted.
+     * @throws SQLException if a database access error occurs
+     * @since 1.9.0
+     */
+    public <T> long batchBeans(final Connection conn, final String sql, final Iterable<T> beans, final int chunkSize, final boolean commitChunks,
+            final String... propertyNames) throws SQLException {
+        if (conn == null) {
+            throw new SQLException("Null connection");
+        }
+
+        if (sql == null) {
+            throw new SQLException("Null SQL statement");
+        }
+
+        if (beans == null) {
+            throw new SQLException("Null beans. If there are no beans, pass an empty iterable.");
+        }
+
+        if (propertyNames == null) {
+            throw new SQLException("Null property names");
+        }
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        return this.batchInChunks(conn, sql, beans, chunkSize, commitChunks, new BatchBinder<T>() {
+
+            private int[] nullTypes;
+
+            private BeanBinder binder;
+
+            @Override
+            public void prepare(final ParameterMetaData pmd) throws SQLException {
+                if (pmd != null && pmd.getParameterCount() != propertyNames.length) {
+                    throw new SQLException("Wrong number of parameters: expected "
+                            + pmd.getParameterCount() + ", was given " + propertyNames.length);
+                }
+                nullTypes = BeanBinder.nullTypes(pmd, propertyNames.length);
+            }
+
+            @Override
+            public void bind(final PreparedStatement stmt, final ParameterMetaData pmd, final T bean, final long index) throws SQLException {
+                if (bean == null) {
+                    throw new SQLException("Null bean at index " + index);
+                }
+                if (binder == null || binder.getType() != bean.getClass()) {
+                    binder = QueryRunner.this.beanBinder(bean.getClass(), propertyNames);
+                }
+                binder.bind(stmt, bean, nullTypes);
+            }
+        });
+    }
+
+    /**
+     * Execute a batch of SQL INSERT, UPDATE, or DELETE queries with the
+     * property values of beans as replacement parameters, in chunks.  The
+     * {@code Connection} is retrieved from the {@code DataSource} set in the
+     * constructor.  This {@code Connection} must be in auto-commit mode or
+     * the update will not be saved.
+     *
+     * @param <T> The type of the beans.
+     * @param sql The SQL to execute.
+     * @param beans The beans.  Each bean is one set of batch replacement values
+     * and must not be {@code null}.
+     * @param chunkSize The number of beans to add before executing the batch.
+     * @param propertyNames The bean properties to bind, in parameter order.
+     * @return The total number of rows updated.
+     * @throws SQLException if a database access error occurs
+     * @see #batchBeans(Connection, String, Iterable, int, boolean, String...)
+     * @since 1.9.0
+     */
+    public <T> long batchBeans(final String sql, final Iterable<T> beans, final int chunkSize, final String... propertyNames) throws SQLException {
+        try (Connection conn = this.prepareConnection()) {
+            return this.batchBeans(conn, sql, beans, chunkSize, false, propertyNames);
+        }
+    }
+
     /**
      * Execute an SQL statement, including a stored procedure call, which does
      * not return any result sets.
@@ -215,19 +439,34 @@ public class QueryRunner extends AbstractQueryRunner {
 
         CallableStatement stmt = null;
         int rows = 0;
+        final QueryExecution execution = this.startExecution(Operation.EXECUTE, sql, null);
 
         try {
-            stmt = this.prepareCall(conn, sql);
-            this.fillStatement(stmt, params);
+            stmt = track(this.prepareCall(conn, sql));
+            QueryExecution.enter(execution, Phase.BIND);
+            this.fillStatement(sql, stmt, params);
+            QueryExecution.enter(execution, Phase.EXECUTE);
             stmt.execute();
             rows = stmt.getUpdateCount();
+            QueryExecution.rows(execution, rows);
+            QueryExecution.enter(execution, Phase.HANDLE);
             this.retrieveOutParameters(stmt, params);
 
         } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
             this.rethrow(e, sql, params);
 
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            throw e;
+
         } finally {
-            close(stmt);
+            QueryExecution.enter(execution, Phase.CLOSE);
+            try {
+                close(stmt);
+            } finally {
+                QueryExecution.finish(execution);
+            }
         }
 
         return rows;
@@ -270,10 +509,13 @@ public class QueryRunner extends AbstractQueryRunner {
 
         CallableStatement stmt = null;
         final List<T> results = new LinkedList<>();
+        final QueryExecution execution = this.startExecution(Operation.EXECUTE, sql, rsh);
 
         try {
-            stmt = this.prepareCall(conn, sql);
-            this.fillStatement(stmt, params);
+            stmt = track(this.prepareCall(conn, sql));
+            QueryExecution.enter(execution, Phase.BIND);
+            this.fillStatement(sql, stmt, params);
+            QueryExecution.enter(execution, Phase.EXECUTE);
             boolean moreResultSets = stmt.execute();
             // Handle multiple result sets by passing them through the handler
             // retaining the final result
@@ -281,17 +523,30 @@ public class QueryRunner extends AbstractQueryRunner {
                 try (@SuppressWarnings("resource")
                 // assume the ResultSet wrapper properly closes
                 ResultSet resultSet = this.wrap(stmt.getResultSet())) {
+                    QueryExecution.enter(execution, Phase.HANDLE);
                     results.add(rsh.handle(resultSet));
+                    QueryExecution.enter(execution, Phase.EXECUTE);
                     moreResultSets = stmt.getMoreResults();
                 }
             }
+            QueryExecution.enter(execution, Phase.HANDLE);
             this.retrieveOutParameters(stmt, params);
 
         } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
             this.rethrow(e, sql, params);
 
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            throw e;
+
         } finally {
-            close(stmt);
+            QueryExecution.enter(execution, Phase.CLOSE);
+            try {
+                close(stmt);
+            } finally {
+                QueryExecution.finish(execution);
+            }
         }
 
         return results;
@@ -352,6 +607,116 @@ public class QueryRunner extends AbstractQueryRunner {
         }
     }
 
+    /**
+     * Executes a batch of SQL INSERT, UPDATE, or DELETE queries in chunks,
+     * binding each row with the given binder.  See
+     * {@link #batch(Connection, String, Iterable, int, boolean)}.
+     *
+     * @param <R> The type of the rows.
+     * @param conn The Connection to use to run the query.
+     * @param sql The SQL to execute.
+     * @param rows The rows to bind.
+     * @param chunkSize The number of rows to add before executing the batch.
+     * @param commitChunks Whether to commit the connection after each chunk.
+     * @param binder Binds the rows to the statement.
+     * @return The total number of rows updated.
+     * @throws SQLException if a database access error occurs
+     */
+    private <R> long batchInChunks(final Connection conn, final String sql, final Iterable<R> rows, final int chunkSize, final boolean commitChunks,
+            final BatchBinder<R> binder) throws SQLException {
+        PreparedStatement stmt = null;
+        R current = null;
+        long updated = 0;
+        long count = 0;
+        boolean commit = false;
+        final QueryExecution execution = this.startExecution(Operation.BATCH, sql, null);
+        try {
+            stmt = track(this.prepareStatement(conn, sql));
+            final ParameterMetaData pmd = this.getParameterMetaData(sql, stmt);
+            binder.prepare(pmd);
+            commit = commitChunks && !conn.getAutoCommit();
+
+            QueryExecution.enter(execution, Phase.BIND);
+            int pending = 0;
+            for (final R row : rows) {
+                current = row;
+                binder.bind(stmt, pmd, row, count);
+                stmt.addBatch();
+                count++;
+                if (++pending == chunkSize) {
+                    current = null;
+                    updated += executeChunk(conn, stmt, commit, count - pending + 1, count, execution);
+                    pending = 0;
+                }
+            }
+            current = null;
+            if (pending > 0) {
+                updated += executeChunk(conn, stmt, commit, count - pending + 1, count, execution);
+            }
+
+        } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
+            if (commit) {
+                rollbackChunk(conn, e);
+            }
+            // a row of parameters is reported as is, a bean as the only parameter
+            this.rethrow(e, sql, current == null || current instanceof Object[] ? (Object[]) current : new Object[] {current});
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            if (commit) {
+                rollbackChunk(conn, e);
+            }
+            throw e;
+        } finally {
+            QueryExecution.batchSize(execution, count);
+            QueryExecution.rows(execution, updated);
+            QueryExecution.enter(execution, Phase.CLOSE);
+            try {
+                close(stmt);
+            } finally {
+                QueryExecution.finish(execution);
+            }
+        }
+
+        return updated;
+    }
+
+    /**
+     * Executes the rows added to a batch so far and optionally commits them.
+     *
+     * @param conn The connection the statement belongs to.
+     * @param stmt The statement holding the batch.
+     * @param commit Whether to commit the connection afterwards.
+     * @param firstRow The number of the chunk's first row, starting at 1.
+     * @param lastRow The number of the chunk's last row.
+     * @param execution The measured execution, may be null.
+     * @return The number of rows updated by the batch.
+     * @throws SQLException if a database access error occurs, naming the
+     * rows of the chunk if the batch fails
+     */
+    private long executeChunk(final Connection conn, final PreparedStatement stmt, final boolean commit, final long firstRow, final long lastRow,
+            final QueryExecution execution) throws SQLException {
+        QueryExecution.enter(execution, Phase.EXECUTE);
+        final int[] counts;
+        try {
+            counts = stmt.executeBatch();
+        } catch (final SQLException e) {
+            throw new SQLException("Batch rows " + firstRow + " to " + lastRow + " failed: " + e.getMessage(), e.getSQLState(),
+                    e.getErrorCode(), e);
+        }
+        long rows = 0;
+        for (final int count : counts) {
+            if (count > 0) {
+                rows += count;
+            }
+        }
+        if (commit) {
+            conn.commit();
+        }
+        QueryExecution.enter(execution, Phase.BIND);
+        return rows;
+    }
+
     /**
      * Execute an SQL INSERT query without replacement parameters.
      * @param <T> The type of object that the handler returns
@@ -394,24 +759,38 @@ public class QueryRunner extends AbstractQueryRunner {
 
         Statement stmt = null;
         T generatedKeys = null;
+        final QueryExecution execution = this.startExecution(Operation.INSERT, sql, rsh);
 
         try {
             if (params != null && params.length > 0) {
-                final PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                final PreparedStatement ps = track(conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS));
                 stmt = ps;
-                this.fillStatement(ps, params);
-                ps.executeUpdate();
+                QueryExecution.enter(execution, Phase.BIND);
+                this.fillStatement(sql, ps, params);
+                QueryExecution.enter(execution, Phase.EXECUTE);
+                QueryExecution.rows(execution, ps.executeUpdate());
             } else {
-                stmt = conn.createStatement();
-                stmt.executeUpdate(sql, Statement.RETURN_GENERATED_KEYS);
+                stmt = track(conn.createStatement());
+                QueryExecution.enter(execution, Phase.EXECUTE);
+                QueryExecution.rows(execution, stmt.executeUpdate(sql, Statement.RETURN_GENERATED_KEYS));
             }
             try (ResultSet resultSet = stmt.getGeneratedKeys()) {
+                QueryExecution.enter(execution, Phase.HANDLE);
                 generatedKeys = rsh.handle(resultSet);
             }
         } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
             this.rethrow(e, sql, params);
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            throw e;
         } finally {
-            close(stmt);
+            QueryExecution.enter(execution, Phase.CLOSE);
+            try {
+                close(stmt);
+            } finally {
+                QueryExecution.finish(execution);
+            }
         }
 
         return generatedKeys;
@@ -482,21 +861,35 @@ public class QueryRunner extends AbstractQueryRunner {
 
         PreparedStatement stmt = null;
         T generatedKeys = null;
+        final QueryExecution execution = this.startExecution(Operation.BATCH, sql, rsh);
         try {
-            stmt = this.prepareStatement(conn, sql, Statement.RETURN_GENERATED_KEYS);
+            stmt = track(this.prepareStatement(conn, sql, Statement.RETURN_GENERATED_KEYS));
 
+            QueryExecution.enter(execution, Phase.BIND);
             for (final Object[] param : params) {
-                this.fillStatement(stmt, param);
+                this.fillStatement(sql, stmt, param);
                 stmt.addBatch();
             }
-            stmt.executeBatch();
+            QueryExecution.batchSize(execution, params.length);
+            QueryExecution.enter(execution, Phase.EXECUTE);
+            QueryExecution.rows(execution, stmt.executeBatch());
             try (ResultSet resultSet = stmt.getGeneratedKeys()) {
+                QueryExecution.enter(execution, Phase.HANDLE);
                 generatedKeys = rsh.handle(resultSet);
             }
         } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
             this.rethrow(e, sql, (Object[])params);
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            throw e;
         } finally {
-            close(stmt);
+            QueryExecution.enter(execution, Phase.CLOSE);
+            try {
+                close(stmt);
+            } finally {
+                QueryExecution.finish(execution);
+            }
         }
 
         return generatedKeys;
@@ -522,6 +915,163 @@ public class QueryRunner extends AbstractQueryRunner {
         }
     }
 
+    /**
+     * Executes the given batch of INSERT SQL statements and returns the
+     * auto-generated keys as {@code long}s.  The keys are read from the first
+     * column of the generated keys {@code ResultSet} with
+     * {@link ResultSet#getLong(int)}, without boxing them.
+     *
+     * @param conn The connection to use to run the query.
+     * @param sql The SQL to execute.
+     * @param params The query replacement parameters.
+     * @return The generated keys, in the order the driver returns them,
+     * usually one per row.
+     * @throws SQLException if a database access error occurs or a
+     * generated key is SQL NULL
+     * @since 1.9.0
+     */
+    public long[] insertBatch(final Connection conn, final String sql, final Object[][] params) throws SQLException {
+        final int expected = params == null ? 0 : params.length;
+        return this.insertBatch(conn, sql, rs -> longKeys(rs, expected), params);
+    }
+
+    /**
+     * Executes the given batch of INSERT SQL statements and returns the
+     * auto-generated keys as {@code long}s. The {@code Connection} is
+     * retrieved from the {@code DataSource} set in the constructor.  This
+     * {@code Connection} must be in auto-commit mode or the insert will not
+     * be saved.
+     *
+     * @param sql The SQL statement to execute.
+     * @param params Initializes the PreparedStatement's IN (i.e. '?')
+     * @return The generated keys, in the order the driver returns them,
+     * usually one per row.
+     * @throws SQLException if a database access error occurs or a
+     * generated key is SQL NULL
+     * @see #insertBatch(Connection, String, Object[][])
+     * @since 1.9.0
+     */
+    public long[] insertBatch(final String sql, final Object[][] params) throws SQLException {
+        try (Connection conn = this.prepareConnection()) {
+            return insertBatch(conn, sql, params);
+        }
+    }
+
+    /**
+     * Reads the first column of all rows as {@code long}s.
+     *
+     * @param rs The generated keys.
+     * @param expected The expected number of keys.
+     * @return The keys.
+     * @throws SQLException if a database access error occurs or a key is
+     * SQL NULL
+     */
+    private static long[] longKeys(final ResultSet rs, final int expected) throws SQLException {
+        long[] keys = new long[expected];
+        int count = 0;
+        while (rs.next()) {
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(1, count * 2));
+            }
+            keys[count] = rs.getLong(1);
+            if (rs.wasNull()) {
+                throw new SQLException("SQL NULL generated key in row " + (count + 1));
+            }
+            count++;
+        }
+        return count == keys.length ? keys : Arrays.copyOf(keys, count);
+    }
+
+    /**
+     * Returns a {@code Flow.Publisher} of the rows of the given SELECT SQL
+     * query.  Each subscription executes the query when the subscriber first
+     * requests rows, and a row is only fetched from the {@code ResultSet}
+     * when the subscriber has requested it, on the requesting thread.  The
+     * fetch size of the {@link StatementConfiguration}, if set, controls how
+     * many rows the driver fetches at a time, so it should match the typical
+     * request size.  The statement and result set are closed when the rows
+     * are exhausted, the query fails or the subscription is cancelled.
+     *
+     * <p>
+     * <strong>{@code Subscription.request} blocks</strong> while the query
+     * executes and the requested rows are fetched.  Subscribers that must not
+     * block, for example on an event loop, should use
+     * {@link #publish(Executor, Connection, String, RowMapper, Object...)}.
+     * </p>
+     *
+     * @param <T> The type each row is converted to.
+     * @param conn The connection to execute the query in.  The caller is
+     * responsible for closing this Connection.
+     * @param sql The query to execute.
+     * @param mapper The mapper that converts each row into an object.
+     * @param params The replacement parameters.
+     * @return The publisher of the rows.
+     * @since 1.9.0
+     */
+    public <T> Flow.Publisher<T> publish(final Connection conn, final String sql, final RowMapper<T> mapper, final Object... params) {
+        return new ResultSetPublisher<>(() -> this.stream(conn, sql, mapper, params), null);
+    }
+
+    /**
+     * Returns a {@code Flow.Publisher} of the rows of the given SELECT SQL
+     * query like {@link #publish(Connection, String, RowMapper, Object...)},
+     * but executes the query and fetches the rows on the given executor, so
+     * {@code Subscription.request} never blocks.  The rows of a subscription
+     * are emitted by one task at a time.
+     *
+     * @param <T> The type each row is converted to.
+     * @param executor The executor that runs the query and emits the rows.
+     * @param conn The connection to execute the query in.  The caller is
+     * responsible for closing this Connection.
+     * @param sql The query to execute.
+     * @param mapper The mapper that converts each row into an object.
+     * @param params The replacement parameters.
+     * @return The publisher of the rows.
+     * @since 1.9.0
+     */
+    public <T> Flow.Publisher<T> publish(final Executor executor, final Connection conn, final String sql, final RowMapper<T> mapper,
+            final Object... params) {
+        return new ResultSetPublisher<>(() -> this.stream(conn, sql, mapper, params), Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * Returns a {@code Flow.Publisher} of the rows of the given SELECT SQL
+     * query like {@link #publish(String, RowMapper, Object...)}, but executes
+     * the query and fetches the rows on the given executor, so
+     * {@code Subscription.request} never blocks.
+     *
+     * @param <T> The type each row is converted to.
+     * @param executor The executor that runs the query and emits the rows.
+     * @param sql The query to execute.
+     * @param mapper The mapper that converts each row into an object.
+     * @param params The replacement parameters.
+     * @return The publisher of the rows.
+     * @see #publish(Executor, Connection, String, RowMapper, Object...)
+     * @since 1.9.0
+     */
+    public <T> Flow.Publisher<T> publish(final Executor executor, final String sql, final RowMapper<T> mapper, final Object... params) {
+        return new ResultSetPublisher<>(() -> this.stream(sql, mapper, params), Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * Returns a {@code Flow.Publisher} of the rows of the given SELECT SQL
+     * query.  Each subscription retrieves a {@code Connection} from the
+     * {@code DataSource} set in the constructor and closes it with the
+     * statement.  {@code Subscription.request} blocks while the query
+     * executes and the requested rows are fetched.
+     *
+     * @param <T> The type each row is converted to.
+     * @param sql The query to execute.
+     * @param mapper The mapper that converts each row into an object.
+     * @param params The replacement parameters.
+     * @return The publisher of the rows.
+     * @see #publish(Connection, String, RowMapper, Object...)
+     * @since 1.9.0
+     */
+    public <T> Flow.Publisher<T> publish(final String sql, final RowMapper<T> mapper, final Object... params) {
+        return new ResultSetPublisher<>(() -> this.stream(sql, mapper, params), null);
+    }
+
     /**
      * Execute an SQL SELECT query with a single replacement parameter. The
      * caller is responsible for closing the connection.
@@ -597,25 +1147,37 @@ public class QueryRunner extends AbstractQueryRunner {
         Statement stmt = null;
         ResultSet resultSet = null;
         T result = null;
+        final QueryExecution execution = this.startExecution(Operation.QUERY, sql, rsh);
 
         try {
             if (params != null && params.length > 0) {
-                final PreparedStatement ps = this.prepareStatement(conn, sql);
+                final PreparedStatement ps = track(this.prepareStatement(conn, sql));
                 stmt = ps;
-                this.fillStatement(ps, params);
+                QueryExecution.enter(execution, Phase.BIND);
+                this.fillStatement(sql, ps, params);
+                QueryExecution.enter(execution, Phase.EXECUTE);
                 resultSet = this.wrap(ps.executeQuery());
             } else {
-                stmt = conn.createStatement();
+                stmt = track(conn.createStatement());
+                QueryExecution.enter(execution, Phase.EXECUTE);
                 resultSet = this.wrap(stmt.executeQuery(sql));
             }
+            QueryExecution.enter(execution, Phase.HANDLE);
             result = rsh.handle(resultSet);
 
         } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
             this.rethrow(e, sql, params);
 
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            throw e;
+
         } finally {
+            QueryExecution.enter(execution, Phase.CLOSE);
             closeQuietly(resultSet);
             closeQuietly(stmt);
+            QueryExecution.finish(execution);
         }
 
         return result;
@@ -721,6 +1283,124 @@ public class QueryRunner extends AbstractQueryRunner {
         }
     }
 
+    /**
+     * Rolls back the uncommitted chunk of a failed batch.  A failure to roll
+     * back is added to the batch failure as a suppressed exception.
+     *
+     * @param conn The connection the batch runs on.
+     * @param cause The batch failure.
+     */
+    private static void rollbackChunk(final Connection conn, final Throwable cause) {
+        try {
+            conn.rollback();
+        } catch (final SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Executes the given SELECT SQL query and returns its rows as a
+     * {@code Stream} that fetches them from the database as it is consumed,
+     * converting each one with the given mapper.  The statement honors the
+     * fetch size and the other settings of the {@link StatementConfiguration}.
+     * Note that some drivers only fetch in batches when auto-commit is off.
+     *
+     * <p>
+     * The stream must be closed, for example with a try-with-resources
+     * statement, to close its {@code ResultSet} and {@code Statement}.  The
+     * caller is responsible for closing the connection.  {@code SQLException}s
+     * thrown while consuming the stream are rethrown as
+     * {@code RuntimeException}s with the {@code SQLException} as their cause.
+     * </p>
+     *
+     * @param <T> The type each row is converted to.
+     * @param conn The connection to execute the query in.
+     * @param sql The query to execute.
+     * @param mapper The mapper that converts each row into an object.
+     * @param params The replacement parameters.
+     * @return The rows, fetched on demand.
+     * @throws SQLException if a database access error occurs while executing the query
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final Connection conn, final String sql, final RowMapper<T> mapper, final Object... params) throws SQLException {
+        if (conn == null) {
+            throw new SQLException("Null connection");
+        }
+        return this.stream(conn, false, sql, mapper, params);
+    }
+
+    /**
+     * Executes the given SELECT SQL query and returns its rows as a
+     * {@code Stream} fetched on demand.
+     *
+     * @param <T> The type each row is converted to.
+     * @param conn The connection to execute the query in.
+     * @param closeConn Whether to close the connection with the stream.
+     * @param sql The query to execute.
+     * @param mapper The mapper that converts each row into an object.
+     * @param params The replacement parameters.
+     * @return The rows, fetched on demand.
+     * @throws SQLException if a database access error occurs while executing the query
+     */
+    private <T> Stream<T> stream(final Connection conn, final boolean closeConn, final String sql, final RowMapper<T> mapper, final Object... params)
+            throws SQLException {
+
+        PreparedStatement stmt = null;
+        ResultSet resultSet = null;
+
+        try {
+            if (sql == null) {
+                throw new SQLException("Null SQL statement");
+            }
+
+            if (mapper == null) {
+                throw new SQLException("Null RowMapper");
+            }
+
+            stmt = track(this.prepareStatement(conn, sql));
+            if (params != null && params.length > 0) {
+                this.fillStatement(sql, stmt, params);
+            }
+            resultSet = this.wrap(stmt.executeQuery());
+
+        } catch (final SQLException e) {
+            closeQuietly(stmt);
+            if (closeConn) {
+                closeQuietly(conn);
+            }
+            this.rethrow(e, sql, params);
+        }
+
+        final Statement statement = stmt;
+        final ResultSet rs = resultSet;
+        return StreamSupport.stream(new ResultSetSpliterator<>(rs, mapper), false).onClose(() -> {
+            closeQuietly(rs);
+            closeQuietly(statement);
+            if (closeConn) {
+                closeQuietly(conn);
+            }
+        });
+    }
+
+    /**
+     * Executes the given SELECT SQL query and returns its rows as a
+     * {@code Stream} that fetches them from the database as it is consumed.
+     * The {@code Connection} is retrieved from the {@code DataSource} set in
+     * the constructor and is closed with the stream.
+     *
+     * @param <T> The type each row is converted to.
+     * @param sql The query to execute.
+     * @param mapper The mapper that converts each row into an object.
+     * @param params The replacement parameters.
+     * @return The rows, fetched on demand.
+     * @throws SQLException if a database access error occurs while executing the query
+     * @see #stream(Connection, String, RowMapper, Object...)
+     * @since 1.9.0
+     */
+    public <T> Stream<T> stream(final String sql, final RowMapper<T> mapper, final Object... params) throws SQLException {
+        return this.stream(this.prepareConnection(), true, sql, mapper, params);
+    }
+
     /**
      * Execute an SQL INSERT, UPDATE, or DELETE query without replacement
      * parameters.
@@ -768,23 +1448,38 @@ public class QueryRunner extends AbstractQueryRunner {
 
         Statement stmt = null;
         int rows = 0;
+        final QueryExecution execution = this.startExecution(Operation.UPDATE, sql, null);
 
         try {
             if (params != null && params.length > 0) {
-                final PreparedStatement ps = this.prepareStatement(conn, sql);
+                final PreparedStatement ps = track(this.prepareStatement(conn, sql));
                 stmt = ps;
-                this.fillStatement(ps, params);
+                QueryExecution.enter(execution, Phase.BIND);
+                this.fillStatement(sql, ps, params);
+                QueryExecution.enter(execution, Phase.EXECUTE);
                 rows = ps.executeUpdate();
             } else {
-                stmt = conn.createStatement();
+                stmt = track(conn.createStatement());
+                QueryExecution.enter(execution, Phase.EXECUTE);
                 rows = stmt.executeUpdate(sql);
             }
+            QueryExecution.rows(execution, rows);
 
         } catch (final SQLException e) {
+            QueryExecution.failed(execution, e);
             this.rethrow(e, sql, params);
 
+        } catch (final RuntimeException | Error e) {
+            QueryExecution.failed(execution, e);
+            throw e;
+
         } finally {
-            close(stmt);
+            QueryExecution.enter(execution, Phase.CLOSE);
+            try {
+                close(stmt);
+            } finally {
+                QueryExecution.finish(execution);
+            }
         }
 
         return rows;
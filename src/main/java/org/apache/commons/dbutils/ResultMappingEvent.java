@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The Java Flight Recorder event for converting rows into beans with a
+ * {@link BeanProcessor}.
+ */
+@Name("dbutils.ResultMapping")
+@Label("Result Mapping")
+@Description("Rows converted into beans by a BeanProcessor")
+@Category({"Apache Commons DbUtils", "Mapping"})
+final class ResultMappingEvent extends jdk.jfr.Event {
+
+    @Label("Bean Type")
+    Class<?> beanType;
+
+    @Label("Processor")
+    @Description("The class of the BeanProcessor")
+    Class<?> processor;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Columns")
+    int columns;
+
+}
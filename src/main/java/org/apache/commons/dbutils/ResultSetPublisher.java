@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * A {@code Flow.Publisher} of the rows of a query.  Each subscription executes
+ * the query when the subscriber first requests rows and fetches the next row
+ * only when the subscriber has outstanding demand.  Rows are emitted on the
+ * given executor or, without one, on the thread that requests them.  The JDBC
+ * resources are released when the rows are exhausted, the query fails or the
+ * subscription is cancelled.
+ *
+ * @param <T> The type each row is converted to.
+ */
+final class ResultSetPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * Executes the query.
+     *
+     * @param <T> The type each row is converted to.
+     */
+    @FunctionalInterface
+    interface Query<T> {
+
+        /**
+         * Executes the query.
+         *
+         * @return The rows, releasing the JDBC resources when closed.
+         * @throws SQLException if a database access error occurs
+         */
+        Stream<T> execute() throws SQLException;
+    }
+
+    /**
+     * The subscription of one subscriber.  Signals are emitted by whichever
+     * thread gets to drain, one at a time, or by a task of the executor.
+     */
+    private static final class RowSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Query<T> query;
+
+        private final Executor executor;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        private final AtomicInteger work = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile boolean invalidRequest;
+
+        private boolean done;
+
+        private Stream<T> stream;
+
+        private Spliterator<T> rows;
+
+        private RowSubscription(final Flow.Subscriber<? super T> subscriber, final Query<T> query, final Executor executor) {
+            this.subscriber = subscriber;
+            this.query = query;
+            this.executor = executor;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void close() {
+            done = true;
+            if (stream != null) {
+                stream.close();
+                stream = null;
+                rows = null;
+            }
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            if (executor == null) {
+                drainLoop();
+                return;
+            }
+            try {
+                executor.execute(this::drainLoop);
+            } catch (final RejectedExecutionException e) {
+                // this thread owns the drain, which no later call will start again
+                close();
+                subscriber.onError(e);
+            }
+        }
+
+        private void drainLoop() {
+            int missed = 1;
+            do {
+                emit();
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                close();
+                return;
+            }
+            if (invalidRequest) {
+                close();
+                subscriber.onError(new IllegalArgumentException("Requested a non-positive number of rows"));
+                return;
+            }
+
+            final long requested = demand.get();
+            long emitted = 0;
+            try {
+                if (rows == null && requested > 0) {
+                    stream = query.execute();
+                    rows = stream.spliterator();
+                }
+                while (emitted != requested) {
+                    if (cancelled) {
+                        close();
+                        return;
+                    }
+                    if (!rows.tryAdvance(subscriber::onNext)) {
+                        close();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    emitted++;
+                }
+            } catch (final SQLException | RuntimeException e) {
+                close();
+                subscriber.onError(e instanceof RuntimeException && e.getCause() instanceof SQLException ? e.getCause() : e);
+                return;
+            }
+            if (emitted > 0 && requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                invalidRequest = true;
+            } else {
+                demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+    }
+
+    private final Query<T> query;
+
+    private final Executor executor;
+
+    /**
+     * Constructor for ResultSetPublisher.
+     *
+     * @param query Executes the query for each subscription.
+     * @param executor Executes the query and fetches the rows, or {@code null}
+     * to do so on the thread that requests them.
+     */
+    ResultSetPublisher(final Query<T> query, final Executor executor) {
+        this.query = query;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new RowSubscription<>(subscriber, query, executor));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Fetches the rows of a {@code ResultSet} on demand and converts each one
+ * with a {@link RowMapper}.  Like {@link ResultSetIterator}, it rethrows
+ * {@code SQLException}s as {@code RuntimeException}s.  Closing the
+ * {@code ResultSet} is left to the caller.
+ *
+ * @param <T> the type each row is converted to.
+ */
+final class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    /**
+     * The wrapped {@code ResultSet}.
+     */
+    private final ResultSet resultSet;
+
+    /**
+     * The mapper converting each row.
+     */
+    private final RowMapper<T> mapper;
+
+    /**
+     * Whether the last row has been fetched.
+     */
+    private boolean done;
+
+    /**
+     * Constructor for ResultSetSpliterator.
+     *
+     * @param resultSet The {@code ResultSet}, positioned before its first row.
+     * @param mapper The mapper converting each row.
+     */
+    ResultSetSpliterator(final ResultSet resultSet, final RowMapper<T> mapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.resultSet = resultSet;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (done) {
+            return false;
+        }
+        final T row;
+        try {
+            if (!resultSet.next()) {
+                done = true;
+                return false;
+            }
+            row = mapper.map(resultSet);
+        } catch (final SQLException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+        action.accept(row);
+        return true;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A case insensitive, ordered {@code Map} holding one row of a
+ * {@code ResultSet}.  All rows of a result set share one {@link Schema}, so a
+ * row only stores its values in an array instead of a hash map of its own.
+ *
+ * <p>
+ * Replacing the value of a key spelled exactly like its column is done in
+ * place.  Any other change, like adding or removing keys, first copies the
+ * row into a {@code Map} created by
+ * {@link BasicRowProcessor#createCaseInsensitiveHashMap(int)}, to which the
+ * row delegates from then on, so rows behave exactly like the maps returned
+ * by {@link BasicRowProcessor#toMap(ResultSet)}.  Rows are serialized as such
+ * a map too.
+ * </p>
+ */
+final class RowMap extends AbstractMap<String, Object> implements Serializable {
+
+    /**
+     * The column labels of a result set and a case insensitive index of them.
+     */
+    static final class Schema implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates the schema for the columns of a result set.
+         *
+         * @param rsmd The result set's metadata.
+         * @return The schema or {@code null} if several columns have the
+         * same case insensitive label, so later columns replace earlier ones.
+         * @throws SQLException if a database access error occurs
+         */
+        static Schema of(final ResultSetMetaData rsmd) throws SQLException {
+            final int cols = rsmd.getColumnCount();
+            final String[] labels = new String[cols];
+            final Map<String, Integer> index = new HashMap<>();
+            for (int i = 1; i <= cols; i++) {
+                String label = rsmd.getColumnLabel(i);
+                if (null == label || 0 == label.length()) {
+                    label = rsmd.getColumnName(i);
+                }
+                if (null == label || 0 == label.length()) {
+                    // The column index can't be null
+                    label = Integer.toString(i);
+                }
+                if (index.put(label.toLowerCase(Locale.ENGLISH), Integer.valueOf(i - 1)) != null) {
+                    return null;
+                }
+                labels[i - 1] = label;
+            }
+            return new Schema(labels, index);
+        }
+
+        /**
+         * The column labels, in column order.
+         */
+        private final String[] labels;
+
+        /**
+         * The position of each column, keyed by its lower case label.
+         */
+        private final Map<String, Integer> index;
+
+        private Schema(final String[] labels, final Map<String, Integer> index) {
+            this.labels = labels;
+            this.index = index;
+        }
+
+        /**
+         * Finds the position of a column.
+         *
+         * @param key The column label, in any case.
+         * @return The zero-based position or -1 if there is no such column.
+         */
+        private int indexOf(final Object key) {
+            final Integer i = index.get(key.toString().toLowerCase(Locale.ENGLISH));
+            return i == null ? -1 : i.intValue();
+        }
+
+        /**
+         * Creates a row from the current row of a result set.
+         *
+         * @param resultSet The result set, positioned on a valid row.
+         * @return The row.
+         * @throws SQLException if a database access error occurs
+         */
+        RowMap row(final ResultSet resultSet) throws SQLException {
+            final Object[] values = new Object[labels.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = resultSet.getObject(i + 1);
+            }
+            return new RowMap(this, values);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The columns shared by all rows of the result set.
+     */
+    private final Schema schema;
+
+    /**
+     * The values, in column order.
+     */
+    private final Object[] values;
+
+    /**
+     * The map the row delegates to once keys were added or removed.
+     */
+    private Map<String, Object> map;
+
+    private RowMap(final Schema schema, final Object[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    /**
+     * Copies the columns into a case insensitive map.
+     *
+     * @return The new map.
+     */
+    private Map<String, Object> copy() {
+        final Map<String, Object> copy = BasicRowProcessor.createCaseInsensitiveHashMap(values.length);
+        for (int i = 0; i < values.length; i++) {
+            copy.put(schema.labels[i], values[i]);
+        }
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        delegate().clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsKey(final Object key) {
+        return map != null ? map.containsKey(key) : schema.indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the map to delegate to, copying the columns into it first if needed.
+     *
+     * @return The map.
+     */
+    private Map<String, Object> delegate() {
+        if (map == null) {
+            map = copy();
+        }
+        return map;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (map != null) {
+            return map.entrySet();
+        }
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+
+                    private int next;
+
+                    private boolean removable;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final String key = schema.labels[next++];
+                        removable = true;
+                        return new SimpleEntry<String, Object>(key, get(key)) {
+
+                            private static final long serialVersionUID = 1L;
+
+                            @Override
+                            public Object setValue(final Object value) {
+                                super.setValue(value);
+                                return put(key, value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (!removable) {
+                            throw new IllegalStateException();
+                        }
+                        removable = false;
+                        RowMap.this.remove(schema.labels[next - 1]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return RowMap.this.size();
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object get(final Object key) {
+        if (map != null) {
+            return map.get(key);
+        }
+        final int i = schema.indexOf(key);
+        return i < 0 ? null : values[i];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object put(final String key, final Object value) {
+        if (map == null) {
+            final int i = schema.indexOf(key);
+            if (i >= 0 && schema.labels[i].equals(key)) {
+                final Object old = values[i];
+                values[i] = value;
+                return old;
+            }
+        }
+        return delegate().put(key, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object remove(final Object key) {
+        if (map == null && schema.indexOf(key) < 0) {
+            return null;
+        }
+        return delegate().remove(key);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return map != null ? map.size() : values.length;
+    }
+
+    /**
+     * Serializes the row as a case insensitive map.
+     *
+     * @return The map to serialize instead of this row.
+     */
+    private Object writeReplace() {
+        return map != null ? map : copy();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Implementations of this interface convert the current row of a
+ * {@code ResultSet} into an object.  Unlike a {@link ResultSetHandler}, a
+ * mapper never moves the cursor, so it can be applied to rows one at a time
+ * as they are fetched.
+ *
+ * @param <T> the target type each row will be converted to.
+ * @see QueryRunner#stream(java.sql.Connection, String, RowMapper, Object...)
+ * @since 1.9.0
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * Turn the current row of the {@code ResultSet} into an Object.
+     *
+     * @param resultSet The {@code ResultSet}, positioned on a valid row.
+     * Implementations must not move the cursor.
+     *
+     * @return An Object initialized with the row's data.
+     *
+     * @throws SQLException if a database access error occurs
+     */
+    T map(ResultSet resultSet) throws SQLException;
+
+}
@@ -17,6 +17,7 @@
 package org.apache.commons.dbutils;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,57 @@ import java.util.Map;
  */
 public interface RowProcessor {
 
+    /**
+     * Returns a mapper that converts rows of a result set with the given
+     * columns into arrays like {@link #toArray(ResultSet)}.  Handlers
+     * converting many rows call this once per result set, so implementations
+     * can prepare whatever all rows have in common up front.  The default
+     * implementation simply calls {@link #toArray(ResultSet)} for each row.
+     *
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     * @since 1.9.0
+     */
+    default RowMapper<Object[]> arrayMapper(final ResultSetMetaData metaData) throws SQLException {
+        return this::toArray;
+    }
+
+    /**
+     * Returns a mapper that converts rows of a result set with the given
+     * columns into beans like {@link #toBean(ResultSet, Class)}.  Handlers
+     * converting many rows call this once per result set, so implementations
+     * can prepare whatever all rows have in common up front.  The default
+     * implementation simply calls {@link #toBean(ResultSet, Class)} for each
+     * row.
+     *
+     * @param <T> The type of bean to create
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @param type Class from which to create the bean instances
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     * @since 1.9.0
+     */
+    default <T> RowMapper<T> beanMapper(final ResultSetMetaData metaData, final Class<? extends T> type) throws SQLException {
+        return resultSet -> toBean(resultSet, type);
+    }
+
+    /**
+     * Returns a mapper that converts rows of a result set with the given
+     * columns into {@code Map}s like {@link #toMap(ResultSet)}.  Handlers
+     * converting many rows call this once per result set, so implementations
+     * can prepare whatever all rows have in common up front.  The default
+     * implementation simply calls {@link #toMap(ResultSet)} for each row.
+     *
+     * @param metaData The metadata of the result set the mapper will be used on.
+     * @throws SQLException if a database access error occurs
+     * @return The mapper.
+     * @since 1.9.0
+     */
+    default RowMapper<Map<String, Object>> mapMapper(final ResultSetMetaData metaData) throws SQLException {
+        return this::toMap;
+    }
+
     /**
      * Create an {@code Object[]} from the column values in one
      * {@code ResultSet} row.  The {@code ResultSet} should be
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The prepared statements of one connection that a query runner reuses.
+ * A statement is taken out of the cache while it is in use and put back when
+ * the query runner closes it, so a statement is never used by two callers at
+ * the same time.  The cache holds at most a fixed number of idle statements,
+ * closing the least recently used one when it is full.
+ *
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+final class StatementCache {
+
+    /**
+     * The SQL and generated keys flag a statement was prepared with.
+     */
+    private static final class Key {
+
+        private final String sql;
+
+        private final int returnedKeys;
+
+        private Key(final String sql, final int returnedKeys) {
+            this.sql = sql;
+            this.returnedKeys = returnedKeys;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return returnedKeys == other.returnedKeys && sql.equals(other.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, returnedKeys);
+        }
+    }
+
+    /**
+     * The load factor of the map holding the idle statements.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * The generated keys flag of statements prepared without one, which is
+     * none of the {@code Statement} constants.
+     */
+    static final int NO_RETURNED_KEYS_FLAG = -1;
+
+    /**
+     * The idle statements, least recently used first.
+     */
+    private final LinkedHashMap<Key, PreparedStatement> idle;
+
+    /**
+     * The statements in use, with the key to put them back under.
+     */
+    private final Map<Statement, Key> inUse = new IdentityHashMap<>();
+
+    /**
+     * Whether the cache was closed, after which statements are closed instead of put back.
+     */
+    private boolean closed;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param size The maximum number of idle statements.
+     */
+    StatementCache(final int size) {
+        this.idle = new LinkedHashMap<Key, PreparedStatement>(size, LOAD_FACTOR, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, PreparedStatement> eldest) {
+                if (size() > size) {
+                    DbUtils.closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Closes the idle statements and makes the cache close statements in use
+     * when they are released.
+     */
+    void close() {
+        final List<PreparedStatement> statements;
+        synchronized (this) {
+            closed = true;
+            statements = new ArrayList<>(idle.values());
+            idle.clear();
+        }
+        statements.forEach(DbUtils::closeQuietly);
+    }
+
+    /**
+     * Marks a newly prepared statement as in use, so it is put back into the
+     * cache when it is released.
+     *
+     * @param sql The SQL the statement was prepared with.
+     * @param returnedKeys The generated keys flag the statement was prepared with.
+     * @param statement The statement.
+     */
+    synchronized void lend(final String sql, final int returnedKeys, final PreparedStatement statement) {
+        inUse.put(statement, new Key(sql, returnedKeys));
+    }
+
+    /**
+     * Puts a statement that is no longer in use back into the cache, or closes
+     * it if an idle statement for the same SQL is cached already.  The
+     * parameters and batch rows left on the statement, for example by a
+     * batch that failed part way through, are cleared first; if that fails
+     * the statement is closed instead.
+     *
+     * @param statement The statement.
+     * @return Whether the statement was taken from or lent to this cache.
+     */
+    boolean release(final Statement statement) {
+        final PreparedStatement surplus;
+        synchronized (this) {
+            final Key key = inUse.remove(statement);
+            if (key == null) {
+                return false;
+            }
+            final PreparedStatement ps = (PreparedStatement) statement;
+            if (closed || idle.containsKey(key)) {
+                surplus = ps;
+            } else {
+                try {
+                    ps.clearParameters();
+                    ps.clearBatch();
+                    idle.put(key, ps);
+                    surplus = null;
+                } catch (final SQLException e) {
+                    DbUtils.closeQuietly(ps);
+                    return true;
+                }
+            }
+        }
+        DbUtils.closeQuietly(surplus);
+        return true;
+    }
+
+    /**
+     * Takes an idle statement out of the cache and marks it as in use.
+     * Statements that were closed, for example because the connection
+     * was, are dropped.
+     *
+     * @param sql The SQL to execute.
+     * @param returnedKeys The generated keys flag.
+     * @return The statement or {@code null} if none is cached.
+     */
+    synchronized PreparedStatement take(final String sql, final int returnedKeys) {
+        final Key key = new Key(sql, returnedKeys);
+        final PreparedStatement statement = idle.remove(key);
+        if (statement == null) {
+            return null;
+        }
+        try {
+            if (statement.isClosed()) {
+                return null;
+            }
+        } catch (final SQLException e) {
+            DbUtils.closeQuietly(statement);
+            return null;
+        }
+        inUse.put(statement, key);
+        return statement;
+    }
+}
@@ -31,12 +31,16 @@ public class StatementConfiguration {
         private Integer maxRows;
         private Duration queryTimeout;
         private Integer maxFieldSize;
+        private Integer statementCacheSize;
+        private QueryListener queryListener;
+        private boolean parameterMetaDataCached;
 
         /**
          * @return A new and configured {@link StatementConfiguration}.
          */
         public StatementConfiguration build() {
-            return new StatementConfiguration(fetchDirection, fetchSize, maxFieldSize, maxRows, queryTimeout);
+            return new StatementConfiguration(fetchDirection, fetchSize, maxFieldSize, maxRows, queryTimeout, statementCacheSize, queryListener,
+                    parameterMetaDataCached);
         }
 
         /**
@@ -79,6 +83,17 @@ public class StatementConfiguration {
             return this;
         }
 
+        /**
+         * @param parameterMetaDataCached Whether to cache parameter metadata by SQL across connections.
+         * @return This builder for chaining.
+         * @see StatementConfiguration#isParameterMetaDataCached()
+         * @since 1.9.0
+         */
+        public Builder parameterMetaDataCached(final boolean parameterMetaDataCached) {
+            this.parameterMetaDataCached = parameterMetaDataCached;
+            return this;
+        }
+
         /**
          * @param queryTimeout The number of seconds the driver will wait for execution.
          * @return This builder for chaining.
@@ -101,6 +116,28 @@ public class StatementConfiguration {
             this.queryTimeout = queryTimeout != null ? Duration.ofSeconds(queryTimeout) : null;
             return this;
         }
+
+        /**
+         * @param queryListener The listener notified of each statement a query runner executes.
+         * @return This builder for chaining.
+         * @see StatementConfiguration#getQueryListener()
+         * @since 1.9.0
+         */
+        public Builder queryListener(final QueryListener queryListener) {
+            this.queryListener = queryListener;
+            return this;
+        }
+
+        /**
+         * @param statementCacheSize The number of idle prepared statements to keep open per connection.
+         * @return This builder for chaining.
+         * @see StatementConfiguration#getStatementCacheSize()
+         * @since 1.9.0
+         */
+        public Builder statementCacheSize(final Integer statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
     }
 
     private final Integer fetchDirection;
@@ -108,6 +145,9 @@ public class StatementConfiguration {
     private final Integer maxFieldSize;
     private final Integer maxRows;
     private final Duration queryTimeout;
+    private final Integer statementCacheSize;
+    private final QueryListener queryListener;
+    private final boolean parameterMetaDataCached;
 
     /**
      * Constructor for {@code StatementConfiguration}.  For more flexibility, use {@link Builder}.
@@ -122,6 +162,25 @@ public class StatementConfiguration {
     public StatementConfiguration(final Integer fetchDirection, final Integer fetchSize,
                                   final Integer maxFieldSize, final Integer maxRows,
                                   final Duration queryTimeout) {
+        this(fetchDirection, fetchSize, maxFieldSize, maxRows, queryTimeout, null, null, false);
+    }
+
+    /**
+     * Constructor for {@code StatementConfiguration}, used by the {@link Builder}.
+     *
+     * @param fetchDirection The direction for fetching rows from database tables.
+     * @param fetchSize The number of rows that should be fetched from the database when more rows are needed.
+     * @param maxFieldSize The maximum number of bytes that can be returned for character and binary column values.
+     * @param maxRows The maximum number of rows that a {@code ResultSet} can produce.
+     * @param queryTimeout The number of seconds the driver will wait for execution.
+     * @param statementCacheSize The number of idle prepared statements to keep open per connection.
+     * @param queryListener The listener notified of each statement a query runner executes.
+     * @param parameterMetaDataCached Whether to cache parameter metadata by SQL across connections.
+     */
+    private StatementConfiguration(final Integer fetchDirection, final Integer fetchSize,
+                                   final Integer maxFieldSize, final Integer maxRows,
+                                   final Duration queryTimeout, final Integer statementCacheSize,
+                                   final QueryListener queryListener, final boolean parameterMetaDataCached) {
         this.fetchDirection = fetchDirection;
         this.fetchSize = fetchSize;
         this.maxFieldSize = maxFieldSize;
@@ -130,6 +189,12 @@ public class StatementConfiguration {
             throw new IllegalArgumentException(String.format("queryTimeout overflow: %d > %,d", queryTimeout.getSeconds(), Integer.MAX_VALUE));
         }
         this.queryTimeout = queryTimeout;
+        if (statementCacheSize != null && statementCacheSize < 0) {
+            throw new IllegalArgumentException("statementCacheSize < 0: " + statementCacheSize);
+        }
+        this.statementCacheSize = statementCacheSize;
+        this.queryListener = queryListener;
+        this.parameterMetaDataCached = parameterMetaDataCached;
     }
 
     /**
@@ -185,6 +250,17 @@ public class StatementConfiguration {
         return maxRows;
     }
 
+    /**
+     * Gets the listener a query runner notifies of each statement it
+     * executes.  Query runners only measure their statements if this is set.
+     *
+     * @return The query listener or null if not set.
+     * @since 1.9.0
+     */
+    public QueryListener getQueryListener() {
+        return queryListener;
+    }
+
     /**
      * Gets the query timeout.
      *
@@ -206,6 +282,21 @@ public class StatementConfiguration {
         return queryTimeout;
     }
 
+    /**
+     * Gets the number of idle prepared statements a query runner keeps open
+     * per connection to reuse them for the same SQL.  Statements are only
+     * cached if this is set and greater than zero.  The cached statements of
+     * a connection are closed when the query runner closes it; caches of
+     * connections closed elsewhere are dropped when a cache is created for
+     * another connection, and statements closed by the driver are never reused.
+     *
+     * @return The statement cache size or null if not set.
+     * @since 1.9.0
+     */
+    public Integer getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
     /**
      * Whether fetch direction is set.
      *
@@ -242,6 +333,29 @@ public class StatementConfiguration {
         return maxRows != null;
     }
 
+    /**
+     * Whether the query listener is set.
+     *
+     * @return true if set, false otherwise.
+     * @since 1.9.0
+     */
+    public boolean isQueryListenerSet() {
+        return queryListener != null;
+    }
+
+    /**
+     * Whether a query runner caches the parameter count and types of its SQL
+     * statements, so it only fetches their parameter metadata once.  The
+     * cache is keyed by SQL only and shared by all the connections the
+     * runner uses, so only enable it if they all see the same tables.
+     *
+     * @return true if parameter metadata is cached, false by default.
+     * @since 1.9.0
+     */
+    public boolean isParameterMetaDataCached() {
+        return parameterMetaDataCached;
+    }
+
     /**
      * Whether query timeout is set.
      *
@@ -250,4 +364,14 @@ public class StatementConfiguration {
     public boolean isQueryTimeoutSet() {
         return queryTimeout != null;
     }
+
+    /**
+     * Whether the statement cache size is set.
+     *
+     * @return true if set, false otherwise.
+     * @since 1.9.0
+     */
+    public boolean isStatementCacheSizeSet() {
+        return statementCacheSize != null;
+    }
 }
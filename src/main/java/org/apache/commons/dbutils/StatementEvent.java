@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Timespan;
+
+/**
+ * The Java Flight Recorder event fields shared by the statements a
+ * {@link QueryRunner} executes.  The events are committed by
+ * {@link QueryExecution}, which only exists if a {@link QueryListener} is
+ * registered or the event is enabled in a recording.
+ */
+@Category({"Apache Commons DbUtils", "Statement"})
+abstract class StatementEvent extends jdk.jfr.Event {
+
+    /**
+     * The maximum number of SQL statements whose fingerprint is cached.
+     */
+    private static final int FINGERPRINT_CACHE_SIZE = 256;
+
+    /**
+     * The fingerprints of SQL statements.
+     */
+    private static final BoundedCache<String, String> FINGERPRINTS = new BoundedCache<>(FINGERPRINT_CACHE_SIZE);
+
+    /**
+     * Gets the SQL with runs of whitespace collapsed and literals replaced
+     * by {@code ?}, so statements differing only in their literal values
+     * are grouped together.
+     *
+     * @param sql The SQL.
+     * @return The fingerprint.
+     */
+    static String fingerprint(final String sql) {
+        final String fingerprint = FINGERPRINTS.get(sql);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        return FINGERPRINTS.putIfAbsent(sql, normalize(sql));
+    }
+
+    private static String normalize(final String sql) {
+        final StringBuilder sb = new StringBuilder(sql.length());
+        final int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (sb.length() > 0 && i < length) {
+                    sb.append(' ');
+                }
+            } else if (c == '\'') {
+                // a quoted string, where '' is an escaped quote
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i++) == '\'') {
+                        if (i < length && sql.charAt(i) == '\'') {
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+                sb.append('?');
+            } else if (Character.isDigit(c) && (sb.length() == 0 || !Character.isLetterOrDigit(sb.charAt(sb.length() - 1))
+                    && sb.charAt(sb.length() - 1) != '_')) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                sb.append('?');
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    @Label("SQL")
+    @Description("The SQL with whitespace collapsed and literals replaced by ?")
+    String sql;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Handler")
+    @Description("The class of the ResultSetHandler, if any")
+    Class<?> handler;
+
+    @Label("Rows")
+    @Description("The number of rows updated, -1 if not known")
+    long rows;
+
+    @Label("Prepare")
+    @Timespan(Timespan.NANOSECONDS)
+    long prepare;
+
+    @Label("Bind")
+    @Timespan(Timespan.NANOSECONDS)
+    long bind;
+
+    @Label("Execute")
+    @Timespan(Timespan.NANOSECONDS)
+    long execute;
+
+    @Label("Handle")
+    @Timespan(Timespan.NANOSECONDS)
+    long handle;
+
+    @Label("Close")
+    @Timespan(Timespan.NANOSECONDS)
+    long close;
+
+    @Label("Failure")
+    @Description("The message of the SQLException the statement failed with")
+    String failure;
+
+}
@@ -17,11 +17,13 @@
 package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowMapper;
 
 /**
  * <p>
@@ -46,6 +48,50 @@ public abstract class AbstractKeyedHandler<K, V> implements ResultSetHandler<Map
      */
     protected abstract K createKey(ResultSet resultSet) throws SQLException;
 
+    /**
+     * This factory method is called by the handler returned by
+     * {@code intKeyed()} to retrieve the key value from the current
+     * {@code ResultSet} row.  This implementation converts the
+     * {@code Number} returned by {@code createKey()}; subclasses should read
+     * the key column with {@code ResultSet.getInt()} instead.
+     *
+     * @param resultSet ResultSet to create a key from
+     * @return The key from the configured key column name/index
+     * @throws SQLException if a database access error occurs or the key is
+     * {@code null}
+     * @throws ClassCastException if the key isn't a {@code Number}
+     * @since 1.9.0
+     */
+    protected int createIntKey(final ResultSet resultSet) throws SQLException {
+        final Object key = createKey(resultSet);
+        if (key == null) {
+            throw new SQLException("Null key in a row of an int keyed map");
+        }
+        return ((Number) key).intValue();
+    }
+
+    /**
+     * This factory method is called by the handler returned by
+     * {@code longKeyed()} to retrieve the key value from the current
+     * {@code ResultSet} row.  This implementation converts the
+     * {@code Number} returned by {@code createKey()}; subclasses should read
+     * the key column with {@code ResultSet.getLong()} instead.
+     *
+     * @param resultSet ResultSet to create a key from
+     * @return The key from the configured key column name/index
+     * @throws SQLException if a database access error occurs or the key is
+     * {@code null}
+     * @throws ClassCastException if the key isn't a {@code Number}
+     * @since 1.9.0
+     */
+    protected long createLongKey(final ResultSet resultSet) throws SQLException {
+        final Object key = createKey(resultSet);
+        if (key == null) {
+            throw new SQLException("Null key in a row of a long keyed map");
+        }
+        return ((Number) key).longValue();
+    }
+
     /**
      * This factory method is called by {@code handle()} to create the Map
      * to store records in.  This implementation returns a {@code HashMap}
@@ -77,10 +123,86 @@ public abstract class AbstractKeyedHandler<K, V> implements ResultSetHandler<Map
     @Override
     public Map<K, V> handle(final ResultSet resultSet) throws SQLException {
         final Map<K, V> result = createMap();
-        while (resultSet.next()) {
-            result.put(createKey(resultSet), createRow(resultSet));
+        if (!resultSet.next()) {
+            return result;
         }
+        final RowMapper<V> mapper = rowMapper(resultSet.getMetaData());
+        do {
+            result.put(createKey(resultSet), mapper.map(resultSet));
+        } while (resultSet.next());
         return result;
     }
 
+    /**
+     * Returns a handler that stores the rows like this one, but under
+     * {@code int} keys from {@code createIntKey()} in an
+     * {@link IntKeyedMap}, so the keys aren't boxed.  A row with an SQL
+     * NULL key fails the handler with an {@code SQLException}.
+     *
+     * @param expectedRows The expected number of rows, which the map holds
+     * without growing.
+     * @return The handler, thread safe if this one is.
+     * @since 1.9.0
+     */
+    public ResultSetHandler<IntKeyedMap<V>> intKeyed(final int expectedRows) {
+        return resultSet -> {
+            final IntKeyedMap<V> result = new IntKeyedMap<>(expectedRows);
+            if (!resultSet.next()) {
+                return result;
+            }
+            final RowMapper<V> mapper = rowMapper(resultSet.getMetaData());
+            do {
+                result.put(createIntKey(resultSet), mapper.map(resultSet));
+            } while (resultSet.next());
+            return result;
+        };
+    }
+
+    /**
+     * Returns a handler that stores the rows like this one, but under
+     * {@code long} keys from {@code createLongKey()} in a
+     * {@link LongKeyedMap}, so the keys aren't boxed.  A row with an SQL
+     * NULL key fails the handler with an {@code SQLException}.
+     *
+     * <pre>
+     * LongKeyedMap&lt;Person&gt; people = queryRunner.query("select * from person",
+     *         new BeanMapHandler&lt;Long, Person&gt;(Person.class, "id").longKeyed(rowCount));
+     * Person jane = people.get(1); // jane's id is 1
+     * </pre>
+     *
+     * @param expectedRows The expected number of rows, which the map holds
+     * without growing.
+     * @return The handler, thread safe if this one is.
+     * @since 1.9.0
+     */
+    public ResultSetHandler<LongKeyedMap<V>> longKeyed(final int expectedRows) {
+        return resultSet -> {
+            final LongKeyedMap<V> result = new LongKeyedMap<>(expectedRows);
+            if (!resultSet.next()) {
+                return result;
+            }
+            final RowMapper<V> mapper = rowMapper(resultSet.getMetaData());
+            do {
+                result.put(createLongKey(resultSet), mapper.map(resultSet));
+            } while (resultSet.next());
+            return result;
+        };
+    }
+
+    /**
+     * This factory method is called by {@code handle()} once per result set,
+     * when the first row is fetched, to retrieve the mapper storing each row
+     * in some object.  Subclasses can prepare whatever all rows have in
+     * common here.  This implementation calls {@code createRow()} for every
+     * row.
+     *
+     * @param metaData The metadata of the result set to process.
+     * @return The mapper.
+     * @throws SQLException if a database access error occurs
+     * @since 1.9.0
+     */
+    protected RowMapper<V> rowMapper(final ResultSetMetaData metaData) throws SQLException {
+        return this::createRow;
+    }
+
 }
@@ -17,11 +17,13 @@
 package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.RowMapper;
 
 /**
  * Abstract class that simplify development of {@code ResultSetHandler}
@@ -35,9 +37,10 @@ public abstract class AbstractListHandler<T> implements ResultSetHandler<List<T>
     /**
      * Whole {@code ResultSet} handler. It produce {@code List} as
      * result. To convert individual rows into Java objects it uses
-     * {@code handleRow(ResultSet)} method.
+     * the mapper returned by {@code rowMapper(ResultSetMetaData)}, which is
+     * created once, when the first row is fetched.
      *
-     * @see #handleRow(ResultSet)
+     * @see #rowMapper(ResultSetMetaData)
      * @param resultSet {@code ResultSet} to process.
      * @return a list of all rows in the result set
      * @throws SQLException error occurs
@@ -45,9 +48,13 @@ public abstract class AbstractListHandler<T> implements ResultSetHandler<List<T>
     @Override
     public List<T> handle(final ResultSet resultSet) throws SQLException {
         final List<T> rows = new ArrayList<>();
-        while (resultSet.next()) {
-            rows.add(this.handleRow(resultSet));
+        if (!resultSet.next()) {
+            return rows;
         }
+        final RowMapper<T> mapper = this.rowMapper(resultSet.getMetaData());
+        do {
+            rows.add(mapper.map(resultSet));
+        } while (resultSet.next());
         return rows;
     }
 
@@ -59,4 +66,19 @@ public abstract class AbstractListHandler<T> implements ResultSetHandler<List<T>
      * @throws SQLException error occurs
      */
     protected abstract T handleRow(ResultSet resultSet) throws SQLException;
+
+    /**
+     * Returns the mapper converting the rows of a result set with the given
+     * columns, so subclasses can prepare whatever all rows have in common
+     * once per result set.  This implementation calls
+     * {@code handleRow(ResultSet)} for every row.
+     *
+     * @param metaData The metadata of the result set to process.
+     * @return The mapper.
+     * @throws SQLException error occurs
+     * @since 1.9.0
+     */
+    protected RowMapper<T> rowMapper(final ResultSetMetaData metaData) throws SQLException {
+        return this::handleRow;
+    }
 }
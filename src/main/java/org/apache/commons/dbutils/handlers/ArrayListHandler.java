@@ -17,8 +17,10 @@
 package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
+import org.apache.commons.dbutils.RowMapper;
 import org.apache.commons.dbutils.RowProcessor;
 
 /**
@@ -36,6 +38,12 @@ public class ArrayListHandler extends AbstractListHandler<Object[]> {
      */
     private final RowProcessor convert;
 
+    /**
+     * Whether a subclass overrides {@link #handleRow(ResultSet)}, in which
+     * case {@link #rowMapper(ResultSetMetaData)} must call it for every row.
+     */
+    private final boolean handleRowOverridden = Overrides.isOverridden(ArrayListHandler.class, this, "handleRow", ResultSet.class);
+
     /**
      * Creates a new instance of ArrayListHandler using a
      * {@code BasicRowProcessor} for conversions.
@@ -68,4 +76,20 @@ public class ArrayListHandler extends AbstractListHandler<Object[]> {
         return this.convert.toArray(resultSet);
     }
 
+    /**
+     * Returns the mapper returned by
+     * {@link RowProcessor#arrayMapper(java.sql.ResultSetMetaData)}, so the
+     * rows can share what they have in common, unless a subclass overrides
+     * {@link #handleRow(ResultSet)}.
+     *
+     * @param metaData The metadata of the result set to process.
+     * @return The mapper.
+     * @throws SQLException if a database access error occurs
+     * @since 1.9.0
+     */
+    @Override
+    protected RowMapper<Object[]> rowMapper(final ResultSetMetaData metaData) throws SQLException {
+        return handleRowOverridden ? super.rowMapper(metaData) : this.convert.arrayMapper(metaData);
+    }
+
 }
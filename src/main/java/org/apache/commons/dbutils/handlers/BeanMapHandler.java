@@ -17,8 +17,10 @@
 package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
+import org.apache.commons.dbutils.RowMapper;
 import org.apache.commons.dbutils.RowProcessor;
 
 /**
@@ -78,6 +80,18 @@ public class BeanMapHandler<K, V> extends AbstractKeyedHandler<K, V> {
      */
     private final String columnName;
 
+    /**
+     * Whether a subclass overrides {@link #createRow(ResultSet)}, in which
+     * case {@link #rowMapper(ResultSetMetaData)} must call it for every row.
+     */
+    private final boolean createRowOverridden = Overrides.isOverridden(BeanMapHandler.class, this, "createRow", ResultSet.class);
+
+    /**
+     * Whether a subclass overrides {@link #createKey(ResultSet)}, in which
+     * case the primitive keys must be converted from its result.
+     */
+    private final boolean createKeyOverridden = Overrides.isOverridden(BeanMapHandler.class, this, "createKey", ResultSet.class);
+
     /**
      * Creates a new instance of BeanMapHandler. The value of the first column
      * of each row will be a key in the Map.
@@ -176,9 +190,75 @@ public class BeanMapHandler<K, V> extends AbstractKeyedHandler<K, V> {
                (K) resultSet.getObject(columnName);
     }
 
+    /**
+     * This factory method is called by the handler returned by
+     * {@code intKeyed()} to retrieve the key value from the current
+     * {@code ResultSet} row.  This implementation returns
+     * {@code ResultSet.getInt()} for the configured key column name or
+     * index, unless a subclass overrides {@code createKey()}.
+     *
+     * @param resultSet ResultSet to create a key from
+     * @return The key from the configured key column name/index
+     * @throws SQLException if a database access error occurs or the key is
+     * SQL NULL
+     * @since 1.9.0
+     */
+    @Override
+    protected int createIntKey(final ResultSet resultSet) throws SQLException {
+        if (createKeyOverridden) {
+            return super.createIntKey(resultSet);
+        }
+        final int key = columnName == null ? resultSet.getInt(columnIndex) : resultSet.getInt(columnName);
+        if (resultSet.wasNull()) {
+            throw new SQLException("SQL NULL key in column " + (columnName == null ? columnIndex : columnName));
+        }
+        return key;
+    }
+
+    /**
+     * This factory method is called by the handler returned by
+     * {@code longKeyed()} to retrieve the key value from the current
+     * {@code ResultSet} row.  This implementation returns
+     * {@code ResultSet.getLong()} for the configured key column name or
+     * index, unless a subclass overrides {@code createKey()}.
+     *
+     * @param resultSet ResultSet to create a key from
+     * @return The key from the configured key column name/index
+     * @throws SQLException if a database access error occurs or the key is
+     * SQL NULL
+     * @since 1.9.0
+     */
+    @Override
+    protected long createLongKey(final ResultSet resultSet) throws SQLException {
+        if (createKeyOverridden) {
+            return super.createLongKey(resultSet);
+        }
+        final long key = columnName == null ? resultSet.getLong(columnIndex) : resultSet.getLong(columnName);
+        if (resultSet.wasNull()) {
+            throw new SQLException("SQL NULL key in column " + (columnName == null ? columnIndex : columnName));
+        }
+        return key;
+    }
+
     @Override
     protected V createRow(final ResultSet resultSet) throws SQLException {
         return this.convert.toBean(resultSet, type);
     }
 
+    /**
+     * Returns the mapper returned by
+     * {@link RowProcessor#beanMapper(java.sql.ResultSetMetaData, Class)}, so
+     * the columns are matched to the bean's properties once per result set,
+     * unless a subclass overrides {@link #createRow(ResultSet)}.
+     *
+     * @param metaData The metadata of the result set to process.
+     * @return The mapper.
+     * @throws SQLException if a database access error occurs
+     * @since 1.9.0
+     */
+    @Override
+    protected RowMapper<V> rowMapper(final ResultSetMetaData metaData) throws SQLException {
+        return createRowOverridden ? super.rowMapper(metaData) : this.convert.beanMapper(metaData, type);
+    }
+
 }
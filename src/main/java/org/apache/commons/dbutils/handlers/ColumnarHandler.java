@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * {@code ResultSetHandler} implementation that converts a {@code ResultSet}
+ * into {@link Columns}, storing each column in a single array instead of
+ * creating an object per row.  The column types are read from the
+ * {@code ResultSetMetaData} once:
+ * <ul>
+ *     <li>{@code TINYINT}, {@code SMALLINT} and {@code INTEGER} columns are
+ *     read with {@code getInt} into an {@code int[]},</li>
+ *     <li>{@code BIGINT} columns with {@code getLong} into a {@code long[]},</li>
+ *     <li>{@code REAL}, {@code FLOAT} and {@code DOUBLE} columns with
+ *     {@code getDouble} into a {@code double[]},</li>
+ *     <li>{@code BIT} and {@code BOOLEAN} columns with {@code getBoolean}
+ *     into a {@code boolean[]}, and</li>
+ *     <li>all other columns with {@code getObject} into an {@code Object[]}.</li>
+ * </ul>
+ * Which values were SQL NULL is recorded in a bitmap per column.  This avoids
+ * boxing numeric values and the per row {@code Object[]} or {@code Map} of
+ * {@link ArrayListHandler} and {@link MapListHandler}, which matters for
+ * large numeric results.  This class is thread safe.
+ *
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class ColumnarHandler implements ResultSetHandler<Columns> {
+
+    /**
+     * Reads one column of every row into an array of the column's type.
+     */
+    private abstract static class ColumnReader {
+
+        /**
+         * The column number, starting at 1.
+         */
+        final int column;
+
+        /**
+         * The rows whose value is SQL NULL.
+         */
+        final BitSet nulls = new BitSet();
+
+        /**
+         * Creates a new instance of ColumnReader.
+         *
+         * @param column The column number, starting at 1.
+         */
+        ColumnReader(final int column) {
+            this.column = column;
+        }
+
+        /**
+         * Reads the column of the current row.
+         *
+         * @param resultSet The result set.
+         * @param row The row number, starting at 0.
+         * @throws SQLException if a database access error occurs
+         */
+        abstract void read(ResultSet resultSet, int row) throws SQLException;
+
+        /**
+         * Copies the values into an array of the given length.
+         *
+         * @param length The new length.
+         */
+        abstract void resize(int length);
+
+        /**
+         * Gets the array of values.
+         *
+         * @return The primitive or {@code Object} array.
+         */
+        abstract Object values();
+    }
+
+    /**
+     * The number of rows the column arrays are created for, doubled whenever they are full.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The largest number of rows, the array length most VMs support.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Gets the number of rows to grow full column arrays to.
+     *
+     * @param capacity The current number of rows.
+     * @return Twice the current number, at most {@link #MAX_CAPACITY}.
+     * @throws SQLException if the arrays can't grow any further
+     */
+    static int grow(final int capacity) throws SQLException {
+        if (capacity >= MAX_CAPACITY) {
+            throw new SQLException("Too many rows to store in arrays: more than " + MAX_CAPACITY);
+        }
+        return capacity > MAX_CAPACITY / 2 ? MAX_CAPACITY : capacity * 2;
+    }
+
+    /**
+     * Creates the reader of a column, holding an array of the column's type.
+     *
+     * @param type The column's {@code java.sql.Types} constant.
+     * @param column The column number, starting at 1.
+     * @return The reader.
+     */
+    private static ColumnReader reader(final int type, final int column) {
+        switch (type) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+            return new ColumnReader(column) {
+                private int[] values = new int[INITIAL_CAPACITY];
+
+                @Override
+                void read(final ResultSet resultSet, final int row) throws SQLException {
+                    values[row] = resultSet.getInt(column);
+                    if (resultSet.wasNull()) {
+                        nulls.set(row);
+                    }
+                }
+
+                @Override
+                void resize(final int length) {
+                    values = Arrays.copyOf(values, length);
+                }
+
+                @Override
+                Object values() {
+                    return values;
+                }
+            };
+        case Types.BIGINT:
+            return new ColumnReader(column) {
+                private long[] values = new long[INITIAL_CAPACITY];
+
+                @Override
+                void read(final ResultSet resultSet, final int row) throws SQLException {
+                    values[row] = resultSet.getLong(column);
+                    if (resultSet.wasNull()) {
+                        nulls.set(row);
+                    }
+                }
+
+                @Override
+                void resize(final int length) {
+                    values = Arrays.copyOf(values, length);
+                }
+
+                @Override
+                Object values() {
+                    return values;
+                }
+            };
+        case Types.REAL:
+        case Types.FLOAT:
+        case Types.DOUBLE:
+            return new ColumnReader(column) {
+                private double[] values = new double[INITIAL_CAPACITY];
+
+                @Override
+                void read(final ResultSet resultSet, final int row) throws SQLException {
+                    values[row] = resultSet.getDouble(column);
+                    if (resultSet.wasNull()) {
+                        nulls.set(row);
+                    }
+                }
+
+                @Override
+                void resize(final int length) {
+                    values = Arrays.copyOf(values, length);
+                }
+
+                @Override
+                Object values() {
+                    return values;
+                }
+            };
+        case Types.BIT:
+        case Types.BOOLEAN:
+            return new ColumnReader(column) {
+                private boolean[] values = new boolean[INITIAL_CAPACITY];
+
+                @Override
+                void read(final ResultSet resultSet, final int row) throws SQLException {
+                    values[row] = resultSet.getBoolean(column);
+                    if (resultSet.wasNull()) {
+                        nulls.set(row);
+                    }
+                }
+
+                @Override
+                void resize(final int length) {
+                    values = Arrays.copyOf(values, length);
+                }
+
+                @Override
+                Object values() {
+                    return values;
+                }
+            };
+        default:
+            return new ColumnReader(column) {
+                private Object[] values = new Object[INITIAL_CAPACITY];
+
+                @Override
+                void read(final ResultSet resultSet, final int row) throws SQLException {
+                    final Object value = resultSet.getObject(column);
+                    values[row] = value;
+                    if (value == null) {
+                        nulls.set(row);
+                    }
+                }
+
+                @Override
+                void resize(final int length) {
+                    values = Arrays.copyOf(values, length);
+                }
+
+                @Override
+                Object values() {
+                    return values;
+                }
+            };
+        }
+    }
+
+    /**
+     * Creates a new instance of ColumnarHandler.
+     */
+    public ColumnarHandler() {
+    }
+
+    /**
+     * Reads all rows of the {@code ResultSet} into {@code Columns}.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The columns, with no rows if the {@code ResultSet} is empty.
+     * @throws SQLException if a database access error occurs
+     * @see org.apache.commons.dbutils.ResultSetHandler#handle(java.sql.ResultSet)
+     */
+    @Override
+    public Columns handle(final ResultSet resultSet) throws SQLException {
+        final ResultSetMetaData rsmd = resultSet.getMetaData();
+        final int columnCount = rsmd.getColumnCount();
+        final String[] labels = new String[columnCount];
+        final int[] types = new int[columnCount];
+        final ColumnReader[] readers = new ColumnReader[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            String label = rsmd.getColumnLabel(i + 1);
+            if (label == null || label.isEmpty()) {
+                label = rsmd.getColumnName(i + 1);
+            }
+            labels[i] = label;
+            types[i] = rsmd.getColumnType(i + 1);
+            readers[i] = reader(types[i], i + 1);
+        }
+
+        int rows = 0;
+        int capacity = INITIAL_CAPACITY;
+        while (resultSet.next()) {
+            if (rows == capacity) {
+                capacity = grow(capacity);
+                for (final ColumnReader reader : readers) {
+                    reader.resize(capacity);
+                }
+            }
+            for (final ColumnReader reader : readers) {
+                reader.read(resultSet, rows);
+            }
+            rows++;
+        }
+
+        final Object[] values = new Object[columnCount];
+        final BitSet[] nulls = new BitSet[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            if (rows < capacity) {
+                readers[i].resize(rows);
+            }
+            values[i] = readers[i].values();
+            nulls[i] = readers[i].nulls;
+        }
+        return new Columns(labels, types, values, nulls, rows);
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.util.BitSet;
+
+/**
+ * The rows of a {@code ResultSet} stored column by column, as created by
+ * {@link ColumnarHandler}.  Integer, floating point and boolean columns are
+ * held in primitive arrays, with a bitmap recording which of their values
+ * were SQL NULL; all other columns are held in {@code Object} arrays.
+ *
+ * <p>
+ * Columns are numbered from 1 like in a {@code ResultSet}, rows from 0.  The
+ * arrays returned by the getters are not copied, so changes to them are
+ * visible to later calls.  This class is not thread safe.
+ * </p>
+ *
+ * @see ColumnarHandler
+ * @since 1.9.0
+ */
+public final class Columns {
+
+    /**
+     * The column labels.
+     */
+    private final String[] labels;
+
+    /**
+     * The {@code java.sql.Types} of the columns.
+     */
+    private final int[] types;
+
+    /**
+     * The values of each column, a primitive or {@code Object} array with
+     * one element per row.
+     */
+    private final Object[] values;
+
+    /**
+     * The rows whose value is SQL NULL, per column.
+     */
+    private final BitSet[] nulls;
+
+    /**
+     * The number of rows.
+     */
+    private final int rowCount;
+
+    /**
+     * Creates columns from arrays that have exactly one element per row.
+     *
+     * @param labels The column labels.
+     * @param types The {@code java.sql.Types} of the columns.
+     * @param values The values of each column.
+     * @param nulls The rows whose value is SQL NULL, per column.
+     * @param rowCount The number of rows.
+     */
+    Columns(final String[] labels, final int[] types, final Object[] values, final BitSet[] nulls, final int rowCount) {
+        this.labels = labels;
+        this.types = types;
+        this.values = values;
+        this.nulls = nulls;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Gets the values of a column, checking the array's type.
+     *
+     * @param <T> The array type.
+     * @param column The column number, starting at 1.
+     * @param type The array type.
+     * @return The values.
+     * @throws IllegalArgumentException if the column isn't held in an array of the given type.
+     */
+    private <T> T array(final int column, final Class<T> type) {
+        final Object array = values[column - 1];
+        if (!type.isInstance(array)) {
+            throw new IllegalArgumentException("Column " + column + " (" + labels[column - 1] + ") is held in a "
+                    + array.getClass().getComponentType() + "[], not a " + type.getComponentType() + "[]");
+        }
+        return type.cast(array);
+    }
+
+    /**
+     * Finds the number of the column with the given label, ignoring case.
+     *
+     * @param label The column label.
+     * @return The column number, starting at 1.
+     * @throws IllegalArgumentException if there is no such column.
+     */
+    public int findColumn(final String label) {
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("No column labeled " + label);
+    }
+
+    /**
+     * Gets the values of a {@code BIT} or {@code BOOLEAN} column.  SQL NULL
+     * values are {@code false}.
+     *
+     * @param column The column number, starting at 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column isn't a boolean column.
+     */
+    public boolean[] getBooleans(final int column) {
+        return array(column, boolean[].class);
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return labels.length;
+    }
+
+    /**
+     * Gets a column's label, or its name if it has no label.
+     *
+     * @param column The column number, starting at 1.
+     * @return The label.
+     */
+    public String getColumnLabel(final int column) {
+        return labels[column - 1];
+    }
+
+    /**
+     * Gets a column's SQL type.
+     *
+     * @param column The column number, starting at 1.
+     * @return The type, one of the {@code java.sql.Types} constants.
+     */
+    public int getColumnType(final int column) {
+        return types[column - 1];
+    }
+
+    /**
+     * Gets the values of a {@code REAL}, {@code FLOAT} or {@code DOUBLE}
+     * column.  SQL NULL values are {@code 0}.
+     *
+     * @param column The column number, starting at 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column isn't a floating point column.
+     */
+    public double[] getDoubles(final int column) {
+        return array(column, double[].class);
+    }
+
+    /**
+     * Gets the values of a {@code TINYINT}, {@code SMALLINT} or
+     * {@code INTEGER} column.  SQL NULL values are {@code 0}.
+     *
+     * @param column The column number, starting at 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column isn't an integer column.
+     */
+    public int[] getInts(final int column) {
+        return array(column, int[].class);
+    }
+
+    /**
+     * Gets the values of a {@code BIGINT} column.  SQL NULL values are {@code 0}.
+     *
+     * @param column The column number, starting at 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column isn't a {@code BIGINT} column.
+     */
+    public long[] getLongs(final int column) {
+        return array(column, long[].class);
+    }
+
+    /**
+     * Gets a single value, boxing it if its column is held in a primitive array.
+     *
+     * @param column The column number, starting at 1.
+     * @param row The row number, starting at 0.
+     * @return The value, {@code null} if it is SQL NULL.
+     */
+    public Object getObject(final int column, final int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+        if (isNull(column, row)) {
+            return null;
+        }
+        final Object array = values[column - 1];
+        if (array instanceof int[]) {
+            return Integer.valueOf(((int[]) array)[row]);
+        }
+        if (array instanceof long[]) {
+            return Long.valueOf(((long[]) array)[row]);
+        }
+        if (array instanceof double[]) {
+            return Double.valueOf(((double[]) array)[row]);
+        }
+        if (array instanceof boolean[]) {
+            return Boolean.valueOf(((boolean[]) array)[row]);
+        }
+        return ((Object[]) array)[row];
+    }
+
+    /**
+     * Gets the values of a column that isn't held in a primitive array, as
+     * returned by {@code ResultSet.getObject}.
+     *
+     * @param column The column number, starting at 1.
+     * @return The values, one per row.
+     * @throws IllegalArgumentException if the column is held in a primitive array.
+     */
+    public Object[] getObjects(final int column) {
+        return array(column, Object[].class);
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Tells whether a value is SQL NULL.
+     *
+     * @param column The column number, starting at 1.
+     * @param row The row number, starting at 0.
+     * @return Whether the value is SQL NULL.
+     */
+    public boolean isNull(final int column, final int row) {
+        return nulls[column - 1].get(row);
+    }
+}
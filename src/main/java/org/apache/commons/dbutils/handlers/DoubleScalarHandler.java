@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@code ResultSetHandler} implementation that reads one {@code ResultSet}
+ * column of the first row with {@code ResultSet.getDouble()} instead of
+ * {@code getObject()}, for counting and other queries returning a
+ * {@code double}.  SQL NULL is returned as the configured null value, which
+ * defaults to 0.0.  {@link #handleDouble(ResultSet)} returns the value without
+ * boxing it.  This class is thread safe.
+ *
+ * @see ScalarHandler
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class DoubleScalarHandler extends PrimitiveScalarHandler<Double> {
+
+    /**
+     * The value returned for SQL NULL.
+     */
+    private final double nullValue;
+
+    /**
+     * Creates a new instance of DoubleScalarHandler.  The first column will
+     * be returned from {@code handle()}.
+     */
+    public DoubleScalarHandler() {
+        this(1, null, 0.0);
+    }
+
+    /**
+     * Creates a new instance of DoubleScalarHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public DoubleScalarHandler(final int columnIndex) {
+        this(columnIndex, null, 0.0);
+    }
+
+    /**
+     * Creates a new instance of DoubleScalarHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     */
+    public DoubleScalarHandler(final int columnIndex, final double nullValue) {
+        this(columnIndex, null, nullValue);
+    }
+
+    /** Helper constructor
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     */
+    private DoubleScalarHandler(final int columnIndex, final String columnName, final double nullValue) {
+        super(columnIndex, columnName);
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * Creates a new instance of DoubleScalarHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public DoubleScalarHandler(final String columnName) {
+        this(1, columnName, 0.0);
+    }
+
+    /**
+     * Creates a new instance of DoubleScalarHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     */
+    public DoubleScalarHandler(final String columnName, final double nullValue) {
+        this(1, columnName, nullValue);
+    }
+
+    @Override
+    Double handleRow(final ResultSet resultSet) throws SQLException {
+        return Double.valueOf(getDouble(resultSet, this.nullValue));
+    }
+
+    /**
+     * Returns one {@code ResultSet} column of the first row without boxing
+     * it.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The column, or the null value if it is SQL NULL or there are
+     * no rows in the {@code ResultSet}.
+     * @throws SQLException if a database access error occurs
+     */
+    public double handleDouble(final ResultSet resultSet) throws SQLException {
+        return resultSet.next() ? getDouble(resultSet, this.nullValue) : this.nullValue;
+    }
+}
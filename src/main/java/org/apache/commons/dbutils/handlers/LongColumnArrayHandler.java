@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * {@code ResultSetHandler} implementation that converts one
+ * {@code ResultSet} column into a {@code long[]}, reading it with
+ * {@code ResultSet.getLong()}.  Unlike {@link ColumnListHandler} this
+ * creates no object per row, which matters for queries returning many
+ * ids.  SQL NULL is stored as the configured null value, which defaults
+ * to 0L.  This class is thread safe.
+ *
+ * @see ColumnListHandler
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class LongColumnArrayHandler implements ResultSetHandler<long[]> {
+
+    /**
+     * The number of rows the array is created for, doubled whenever it is full.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The column number to retrieve.
+     */
+    private final int columnIndex;
+
+    /**
+     * The column name to retrieve.  Either columnName or columnIndex
+     * will be used but never both.
+     */
+    private final String columnName;
+
+    /**
+     * The value stored for SQL NULL.
+     */
+    private final long nullValue;
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.  The first column of each
+     * row will be returned from {@code handle()}.
+     */
+    public LongColumnArrayHandler() {
+        this(1, null, 0L);
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongColumnArrayHandler(final int columnIndex) {
+        this(columnIndex, null, 0L);
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value stored for SQL NULL.
+     */
+    public LongColumnArrayHandler(final int columnIndex, final long nullValue) {
+        this(columnIndex, null, nullValue);
+    }
+
+    /** Helper constructor
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value stored for SQL NULL.
+     */
+    private LongColumnArrayHandler(final int columnIndex, final String columnName, final long nullValue) {
+        this.columnIndex = columnIndex;
+        this.columnName = columnName;
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongColumnArrayHandler(final String columnName) {
+        this(1, columnName, 0L);
+    }
+
+    /**
+     * Creates a new instance of LongColumnArrayHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value stored for SQL NULL.
+     */
+    public LongColumnArrayHandler(final String columnName, final long nullValue) {
+        this(1, columnName, nullValue);
+    }
+
+    /**
+     * Reads the column of all rows of the {@code ResultSet}.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The column values, empty if the {@code ResultSet} is empty.
+     * @throws SQLException if a database access error occurs
+     * @see org.apache.commons.dbutils.ResultSetHandler#handle(java.sql.ResultSet)
+     */
+    @Override
+    public long[] handle(final ResultSet resultSet) throws SQLException {
+        long[] values = new long[INITIAL_CAPACITY];
+        final int column = this.columnName == null ? this.columnIndex : resultSet.findColumn(this.columnName);
+        int rows = 0;
+        while (resultSet.next()) {
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, rows * 2);
+            }
+            final long value = resultSet.getLong(column);
+            values[rows++] = resultSet.wasNull() ? this.nullValue : value;
+        }
+        return rows == values.length ? values : Arrays.copyOf(values, rows);
+    }
+}
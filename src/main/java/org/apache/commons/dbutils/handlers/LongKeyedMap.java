@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * A map from {@code long} keys to objects, as created by
+ * {@link AbstractKeyedHandler#longKeyed(int)}.  The keys are stored unboxed
+ * in a {@code long} array with open addressing, so a map of {@code n} rows
+ * costs two arrays of at most {@code 4n} elements instead of {@code n} map
+ * entries and {@code n} boxed keys.
+ *
+ * <p>
+ * Values may not be {@code null}.  Lookups go through {@link #get(long)},
+ * which is also this map's {@link LongFunction} method.  This class is not
+ * thread safe, but may be read by many threads once it is filled.
+ * </p>
+ *
+ * @param <V> the type of mapped values
+ * @see IntKeyedMap
+ * @since 1.9.0
+ */
+public final class LongKeyedMap<V> implements LongFunction<V> {
+
+    /**
+     * The smallest number of slots.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Spreads the keys over the slots, see Knuth's multiplicative hashing.
+     */
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Gets the number of slots holding {@code expectedSize} keys at a load
+     * factor of at most one half.
+     *
+     * @param expectedSize The number of keys.
+     * @return A power of two.
+     */
+    static int capacity(final int expectedSize) {
+        if (expectedSize >= 1 << 29) {
+            return 1 << 30;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1);
+    }
+
+    /**
+     * The keys, 0 marking a free slot.
+     */
+    private long[] keys;
+
+    /**
+     * The values, {@code null} in free slots.
+     */
+    private Object[] values;
+
+    /**
+     * The value of key 0, which can't be stored in a slot.
+     */
+    private Object zeroValue;
+
+    /**
+     * The number of keys, including 0.
+     */
+    private int size;
+
+    /**
+     * Creates an empty map for a default number of keys.
+     */
+    public LongKeyedMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} keys without
+     * growing.
+     *
+     * @param expectedSize The expected number of keys, for example a row
+     * count.
+     */
+    public LongKeyedMap(final int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize < 0: " + expectedSize);
+        }
+        final int capacity = capacity(expectedSize);
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * Same as {@link #get(long)}.
+     *
+     * @param key The key.
+     * @return The value, or {@code null} if the key isn't mapped.
+     */
+    @Override
+    public V apply(final long key) {
+        return get(key);
+    }
+
+    /**
+     * Tells whether a key is mapped.
+     *
+     * @param key The key.
+     * @return true if the key is mapped.
+     */
+    public boolean containsKey(final long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param key The key.
+     * @return The value, or {@code null} if the key isn't mapped.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long key) {
+        if (key == 0) {
+            return (V) zeroValue;
+        }
+        final long[] k = keys;
+        final int mask = k.length - 1;
+        for (int i = slot(key, mask); k[i] != 0; i = (i + 1) & mask) {
+            if (k[i] == key) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Grows the slots to twice their number.
+     */
+    private void grow() {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int capacity = oldKeys.length * 2;
+        final int mask = capacity - 1;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        for (int j = 0; j < oldKeys.length; j++) {
+            final long key = oldKeys[j];
+            if (key != 0) {
+                int i = slot(key, mask);
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Tells whether no key is mapped.
+     *
+     * @return true if the map is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the mapped keys, in no particular order.
+     *
+     * @return A new array.
+     */
+    public long[] keys() {
+        final long[] result = new long[size];
+        int n = 0;
+        if (zeroValue != null) {
+            result[n++] = 0;
+        }
+        for (final long key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return The previous value of the key, or {@code null} if it wasn't
+     * mapped.
+     * @throws NullPointerException if the value is {@code null}.
+     */
+    public V put(final long key, final V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        if (key == 0) {
+            final V previous = get(0);
+            if (previous == null) {
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        final int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                @SuppressWarnings("unchecked")
+                final V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > keys.length / 2 && keys.length < 1 << 30) {
+            grow();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of mapped keys.
+     *
+     * @return The size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the first slot to probe for a key.
+     *
+     * @param key The key, not 0.
+     * @param mask The number of slots minus one.
+     * @return The slot.
+     */
+    private static int slot(final long key, final int mask) {
+        final long h = key * PHI;
+        return (int) (h ^ h >>> 32) & mask;
+    }
+
+    @Override
+    public String toString() {
+        final long[] sorted = keys();
+        Arrays.sort(sorted);
+        final StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < sorted.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(sorted[i]).append('=').append(get(sorted[i]));
+        }
+        return sb.append('}').toString();
+    }
+
+}
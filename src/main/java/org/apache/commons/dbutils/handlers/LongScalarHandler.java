@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@code ResultSetHandler} implementation that reads one {@code ResultSet}
+ * column of the first row with {@code ResultSet.getLong()} instead of
+ * {@code getObject()}, for counting and other queries returning a
+ * {@code long}.  SQL NULL is returned as the configured null value, which
+ * defaults to 0L.  {@link #handleLong(ResultSet)} returns the value without
+ * boxing it.  This class is thread safe.
+ *
+ * @see ScalarHandler
+ * @see org.apache.commons.dbutils.ResultSetHandler
+ * @since 1.9.0
+ */
+public class LongScalarHandler extends PrimitiveScalarHandler<Long> {
+
+    /**
+     * The value returned for SQL NULL.
+     */
+    private final long nullValue;
+
+    /**
+     * Creates a new instance of LongScalarHandler.  The first column will
+     * be returned from {@code handle()}.
+     */
+    public LongScalarHandler() {
+        this(1, null, 0L);
+    }
+
+    /**
+     * Creates a new instance of LongScalarHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongScalarHandler(final int columnIndex) {
+        this(columnIndex, null, 0L);
+    }
+
+    /**
+     * Creates a new instance of LongScalarHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     */
+    public LongScalarHandler(final int columnIndex, final long nullValue) {
+        this(columnIndex, null, nullValue);
+    }
+
+    /** Helper constructor
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     */
+    private LongScalarHandler(final int columnIndex, final String columnName, final long nullValue) {
+        super(columnIndex, columnName);
+        this.nullValue = nullValue;
+    }
+
+    /**
+     * Creates a new instance of LongScalarHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     */
+    public LongScalarHandler(final String columnName) {
+        this(1, columnName, 0L);
+    }
+
+    /**
+     * Creates a new instance of LongScalarHandler.
+     *
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     */
+    public LongScalarHandler(final String columnName, final long nullValue) {
+        this(1, columnName, nullValue);
+    }
+
+    @Override
+    Long handleRow(final ResultSet resultSet) throws SQLException {
+        return Long.valueOf(getLong(resultSet, this.nullValue));
+    }
+
+    /**
+     * Returns one {@code ResultSet} column of the first row without boxing
+     * it.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The column, or the null value if it is SQL NULL or there are
+     * no rows in the {@code ResultSet}.
+     * @throws SQLException if a database access error occurs
+     */
+    public long handleLong(final ResultSet resultSet) throws SQLException {
+        return resultSet.next() ? getLong(resultSet, this.nullValue) : this.nullValue;
+    }
+}
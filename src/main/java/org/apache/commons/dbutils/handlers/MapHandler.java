@@ -69,7 +69,7 @@ public class MapHandler implements ResultSetHandler<Map<String, Object>> {
      */
     @Override
     public Map<String, Object> handle(final ResultSet resultSet) throws SQLException {
-        return resultSet.next() ? this.convert.toMap(resultSet) : null;
+        return resultSet.next() ? this.convert.mapMapper(resultSet.getMetaData()).map(resultSet) : null;
     }
 
 }
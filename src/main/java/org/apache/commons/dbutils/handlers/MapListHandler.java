@@ -17,9 +17,11 @@
 package org.apache.commons.dbutils.handlers;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Map;
 
+import org.apache.commons.dbutils.RowMapper;
 import org.apache.commons.dbutils.RowProcessor;
 
 /**
@@ -37,6 +39,12 @@ public class MapListHandler extends AbstractListHandler<Map<String, Object>> {
      */
     private final RowProcessor convert;
 
+    /**
+     * Whether a subclass overrides {@link #handleRow(ResultSet)}, in which
+     * case {@link #rowMapper(ResultSetMetaData)} must call it for every row.
+     */
+    private final boolean handleRowOverridden = Overrides.isOverridden(MapListHandler.class, this, "handleRow", ResultSet.class);
+
     /**
      * Creates a new instance of MapListHandler using a
      * {@code BasicRowProcessor} for conversion.
@@ -69,4 +77,20 @@ public class MapListHandler extends AbstractListHandler<Map<String, Object>> {
         return this.convert.toMap(resultSet);
     }
 
+    /**
+     * Returns the mapper returned by
+     * {@link RowProcessor#mapMapper(java.sql.ResultSetMetaData)}, so the rows
+     * can share what they have in common, unless a subclass overrides
+     * {@link #handleRow(ResultSet)}.
+     *
+     * @param metaData The metadata of the result set to process.
+     * @return The mapper.
+     * @throws SQLException if a database access error occurs
+     * @since 1.9.0
+     */
+    @Override
+    protected RowMapper<Map<String, Object>> rowMapper(final ResultSetMetaData metaData) throws SQLException {
+        return handleRowOverridden ? super.rowMapper(metaData) : this.convert.mapMapper(metaData);
+    }
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+/**
+ * Tells whether a subclass overrides a method of a handler class.  Handlers
+ * use this to take faster paths, like resolving per result set what they
+ * would otherwise do for every row, only when no subclass has customized
+ * the methods those paths bypass.  It is the handlers' copy of
+ * {@code org.apache.commons.dbutils.Overrides}, so that neither needs to be
+ * public.  This class is thread safe.
+ */
+final class Overrides {
+
+    /**
+     * Tells whether the class of an object, or one of its superclasses
+     * below a base class, declares a method.
+     *
+     * @param base The class declaring the method.
+     * @param obj The object, an instance of {@code base}.
+     * @param name The method name.
+     * @param parameterTypes The method parameter types.
+     * @return true if a subclass of {@code base} declares the method.
+     */
+    static boolean isOverridden(final Class<?> base, final Object obj, final String name, final Class<?>... parameterTypes) {
+        for (Class<?> c = obj.getClass(); c != base && c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                // not declared here, keep looking up the hierarchy
+            }
+        }
+        return false;
+    }
+
+    private Overrides() {
+        // no instances
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+/**
+ * Base of the {@code ResultSetHandler} implementations that read one
+ * {@code ResultSet} column of the first row with a primitive getter.  It
+ * selects the column by index or name and replaces SQL NULL, detected with
+ * {@code wasNull()}, with the subclass's null value.
+ *
+ * @param <T> The boxed type of the column.
+ */
+abstract class PrimitiveScalarHandler<T> implements ResultSetHandler<T> {
+
+    /**
+     * The column number to retrieve.
+     */
+    private final int columnIndex;
+
+    /**
+     * The column name to retrieve.  Either columnName or columnIndex
+     * will be used but never both.
+     */
+    private final String columnName;
+
+    /**
+     * Creates a new instance of PrimitiveScalarHandler.
+     *
+     * @param columnIndex The index of the column to retrieve from the
+     * {@code ResultSet}, used if there is no column name.
+     * @param columnName The name of the column to retrieve from the
+     * {@code ResultSet} or {@code null}.
+     */
+    PrimitiveScalarHandler(final int columnIndex, final String columnName) {
+        this.columnIndex = columnIndex;
+        this.columnName = columnName;
+    }
+
+    /**
+     * Reads the column of the current row as a {@code double}.
+     *
+     * @param resultSet The {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     * @return The column value.
+     * @throws SQLException if a database access error occurs
+     */
+    final double getDouble(final ResultSet resultSet, final double nullValue) throws SQLException {
+        final double value = this.columnName == null ? resultSet.getDouble(this.columnIndex) : resultSet.getDouble(this.columnName);
+        return resultSet.wasNull() ? nullValue : value;
+    }
+
+    /**
+     * Reads the column of the current row as an {@code int}.
+     *
+     * @param resultSet The {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     * @return The column value.
+     * @throws SQLException if a database access error occurs
+     */
+    final int getInt(final ResultSet resultSet, final int nullValue) throws SQLException {
+        final int value = this.columnName == null ? resultSet.getInt(this.columnIndex) : resultSet.getInt(this.columnName);
+        return resultSet.wasNull() ? nullValue : value;
+    }
+
+    /**
+     * Reads the column of the current row as a {@code long}.
+     *
+     * @param resultSet The {@code ResultSet}.
+     * @param nullValue The value returned for SQL NULL.
+     * @return The column value.
+     * @throws SQLException if a database access error occurs
+     */
+    final long getLong(final ResultSet resultSet, final long nullValue) throws SQLException {
+        final long value = this.columnName == null ? resultSet.getLong(this.columnIndex) : resultSet.getLong(this.columnName);
+        return resultSet.wasNull() ? nullValue : value;
+    }
+
+    /**
+     * Returns one {@code ResultSet} column of the first row.
+     *
+     * @param resultSet {@code ResultSet} to process.
+     * @return The column, the null value if it is SQL NULL, or
+     * {@code null} if there are no rows in the {@code ResultSet}.
+     * @throws SQLException if a database access error occurs
+     * @see org.apache.commons.dbutils.ResultSetHandler#handle(java.sql.ResultSet)
+     */
+    @Override
+    public T handle(final ResultSet resultSet) throws SQLException {
+        return resultSet.next() ? handleRow(resultSet) : null;
+    }
+
+    /**
+     * Reads the column of the current row.
+     *
+     * @param resultSet The {@code ResultSet}, positioned on a row.
+     * @return The boxed column value.
+     * @throws SQLException if a database access error occurs
+     */
+    abstract T handleRow(ResultSet resultSet) throws SQLException;
+}
@@ -27,13 +27,12 @@ import java.sql.Clob;
 import java.sql.Date;
 import java.sql.Ref;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.HashMap;
+import java.util.Calendar;
 import java.util.Map;
 
-import org.apache.commons.dbutils.ProxyFactory;
-
 /**
  * Decorates a {@code ResultSet} with checks for a SQL NULL value on each
  * {@code getXXX} method. If a column value obtained by a
@@ -54,7 +53,7 @@ import org.apache.commons.dbutils.ProxyFactory;
  * SqlNullCheckedResultSet wrapper = new SqlNullCheckedResultSet(resultSet);
  * wrapper.setNullString("---N/A---"); // Set null string
  * wrapper.setNullInt(-999); // Set null integer
- * resultSet = ProxyFactory.instance().createResultSet(wrapper);
+ * resultSet = wrapper;
  *
  * while (resultSet.next()) {
  *     // If col1 is SQL NULL, value returned will be "---N/A---"
@@ -66,51 +65,24 @@ import org.apache.commons.dbutils.ProxyFactory;
  * </pre>
  * </blockquote>
  * &lt;/p&gt;
+ * <p>
+ * Instances are {@code ResultSet}s that check each value with plain method
+ * calls.  For compatibility they can still be wrapped in a proxy with
+ * {@code ProxyFactory.instance().createResultSet(wrapper)}, which calls them
+ * reflectively.
+ * </p>
  * <p>Unlike some other classes in DbUtils, this class is NOT thread-safe.</p>
  */
-public class SqlNullCheckedResultSet implements InvocationHandler {
-
-    /**
-     * Maps normal method names (ie. "getBigDecimal") to the corresponding null
-     * Method object (ie. getNullBigDecimal).
-     */
-    private static final Map<String, Method> NULL_METHODS = new HashMap<>();
-
-    /**
-     * The {@code getNull} string prefix.
-     * @since 1.4
-     */
-    private static final String GET_NULL_PREFIX = "getNull";
-
-    static {
-        final Method[] methods = SqlNullCheckedResultSet.class.getMethods();
-        for (final Method method : methods) {
-            final String methodName = method.getName();
-
-            if (methodName.startsWith(GET_NULL_PREFIX)) {
-                final String normalName = "get" + methodName.substring(GET_NULL_PREFIX.length());
-                NULL_METHODS.put(normalName, method);
-            }
-        }
-    }
+public class SqlNullCheckedResultSet extends DelegatingResultSet implements InvocationHandler {
 
     /**
-     * The factory to create proxies with.
-     */
-    private static final ProxyFactory factory = ProxyFactory.instance();
-
-    /**
-     * Wraps the {@code ResultSet} in an instance of this class.  This is
-     * equivalent to:
-     * <pre>
-     * ProxyFactory.instance().createResultSet(new SqlNullCheckedResultSet(resultSet));
-     * </pre>
+     * Wraps the {@code ResultSet} in an instance of this class.
      *
      * @param resultSet The {@code ResultSet} to wrap.
      * @return wrapped ResultSet
      */
     public static ResultSet wrap(final ResultSet resultSet) {
-        return factory.createResultSet(new SqlNullCheckedResultSet(resultSet));
+        return new SqlNullCheckedResultSet(resultSet);
     }
 
     private InputStream nullAsciiStream;
@@ -135,11 +107,6 @@ public class SqlNullCheckedResultSet implements InvocationHandler {
     private Timestamp nullTimestamp;
     private URL nullURL;
 
-    /**
-     * The wrapped result.
-     */
-    private final ResultSet resultSet;
-
     /**
      * Constructs a new instance of
      * {@code SqlNullCheckedResultSet}
@@ -147,7 +114,335 @@ public class SqlNullCheckedResultSet implements InvocationHandler {
      * @param resultSet ResultSet to wrap
      */
     public SqlNullCheckedResultSet(final ResultSet resultSet) {
-        this.resultSet = resultSet;
+        super(resultSet);
+    }
+
+    @Override
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        final InputStream value = super.getAsciiStream(columnIndex);
+        return wasNull() ? getNullAsciiStream() : value;
+    }
+
+    @Override
+    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+        final InputStream value = super.getAsciiStream(columnLabel);
+        return wasNull() ? getNullAsciiStream() : value;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        final BigDecimal value = super.getBigDecimal(columnIndex);
+        return wasNull() ? getNullBigDecimal() : value;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        final BigDecimal value = super.getBigDecimal(columnLabel);
+        return wasNull() ? getNullBigDecimal() : value;
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+        final BigDecimal value = super.getBigDecimal(columnIndex, scale);
+        return wasNull() ? getNullBigDecimal() : value;
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+        final BigDecimal value = super.getBigDecimal(columnLabel, scale);
+        return wasNull() ? getNullBigDecimal() : value;
+    }
+
+    @Override
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        final InputStream value = super.getBinaryStream(columnIndex);
+        return wasNull() ? getNullBinaryStream() : value;
+    }
+
+    @Override
+    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+        final InputStream value = super.getBinaryStream(columnLabel);
+        return wasNull() ? getNullBinaryStream() : value;
+    }
+
+    @Override
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        final Blob value = super.getBlob(columnIndex);
+        return wasNull() ? getNullBlob() : value;
+    }
+
+    @Override
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        final Blob value = super.getBlob(columnLabel);
+        return wasNull() ? getNullBlob() : value;
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        final boolean value = super.getBoolean(columnIndex);
+        return wasNull() ? getNullBoolean() : value;
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        final boolean value = super.getBoolean(columnLabel);
+        return wasNull() ? getNullBoolean() : value;
+    }
+
+    @Override
+    public byte getByte(final int columnIndex) throws SQLException {
+        final byte value = super.getByte(columnIndex);
+        return wasNull() ? getNullByte() : value;
+    }
+
+    @Override
+    public byte getByte(final String columnLabel) throws SQLException {
+        final byte value = super.getByte(columnLabel);
+        return wasNull() ? getNullByte() : value;
+    }
+
+    @Override
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        final byte[] value = super.getBytes(columnIndex);
+        return wasNull() ? getNullBytes() : value;
+    }
+
+    @Override
+    public byte[] getBytes(final String columnLabel) throws SQLException {
+        final byte[] value = super.getBytes(columnLabel);
+        return wasNull() ? getNullBytes() : value;
+    }
+
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        final Reader value = super.getCharacterStream(columnIndex);
+        return wasNull() ? getNullCharacterStream() : value;
+    }
+
+    @Override
+    public Reader getCharacterStream(final String columnLabel) throws SQLException {
+        final Reader value = super.getCharacterStream(columnLabel);
+        return wasNull() ? getNullCharacterStream() : value;
+    }
+
+    @Override
+    public Clob getClob(final int columnIndex) throws SQLException {
+        final Clob value = super.getClob(columnIndex);
+        return wasNull() ? getNullClob() : value;
+    }
+
+    @Override
+    public Clob getClob(final String columnLabel) throws SQLException {
+        final Clob value = super.getClob(columnLabel);
+        return wasNull() ? getNullClob() : value;
+    }
+
+    @Override
+    public Date getDate(final int columnIndex) throws SQLException {
+        final Date value = super.getDate(columnIndex);
+        return wasNull() ? getNullDate() : value;
+    }
+
+    @Override
+    public Date getDate(final String columnLabel) throws SQLException {
+        final Date value = super.getDate(columnLabel);
+        return wasNull() ? getNullDate() : value;
+    }
+
+    @Override
+    public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
+        final Date value = super.getDate(columnIndex, cal);
+        return wasNull() ? getNullDate() : value;
+    }
+
+    @Override
+    public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
+        final Date value = super.getDate(columnLabel, cal);
+        return wasNull() ? getNullDate() : value;
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        final double value = super.getDouble(columnIndex);
+        return wasNull() ? getNullDouble() : value;
+    }
+
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        final double value = super.getDouble(columnLabel);
+        return wasNull() ? getNullDouble() : value;
+    }
+
+    @Override
+    public float getFloat(final int columnIndex) throws SQLException {
+        final float value = super.getFloat(columnIndex);
+        return wasNull() ? getNullFloat() : value;
+    }
+
+    @Override
+    public float getFloat(final String columnLabel) throws SQLException {
+        final float value = super.getFloat(columnLabel);
+        return wasNull() ? getNullFloat() : value;
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        final int value = super.getInt(columnIndex);
+        return wasNull() ? getNullInt() : value;
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        final int value = super.getInt(columnLabel);
+        return wasNull() ? getNullInt() : value;
+    }
+
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        final long value = super.getLong(columnIndex);
+        return wasNull() ? getNullLong() : value;
+    }
+
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        final long value = super.getLong(columnLabel);
+        return wasNull() ? getNullLong() : value;
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        final Object value = super.getObject(columnIndex);
+        return wasNull() ? getNullObject() : value;
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        final Object value = super.getObject(columnLabel);
+        return wasNull() ? getNullObject() : value;
+    }
+
+    @SuppressWarnings("unchecked") // the null object replaces a value of any type
+    @Override
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        final T value = super.getObject(columnIndex, type);
+        return wasNull() ? (T) getNullObject() : value;
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        final Object value = super.getObject(columnIndex, map);
+        return wasNull() ? getNullObject() : value;
+    }
+
+    @SuppressWarnings("unchecked") // the null object replaces a value of any type
+    @Override
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        final T value = super.getObject(columnLabel, type);
+        return wasNull() ? (T) getNullObject() : value;
+    }
+
+    @Override
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        final Object value = super.getObject(columnLabel, map);
+        return wasNull() ? getNullObject() : value;
+    }
+
+    @Override
+    public Ref getRef(final int columnIndex) throws SQLException {
+        final Ref value = super.getRef(columnIndex);
+        return wasNull() ? getNullRef() : value;
+    }
+
+    @Override
+    public Ref getRef(final String columnLabel) throws SQLException {
+        final Ref value = super.getRef(columnLabel);
+        return wasNull() ? getNullRef() : value;
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        final short value = super.getShort(columnIndex);
+        return wasNull() ? getNullShort() : value;
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        final short value = super.getShort(columnLabel);
+        return wasNull() ? getNullShort() : value;
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        final String value = super.getString(columnIndex);
+        return wasNull() ? getNullString() : value;
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        final String value = super.getString(columnLabel);
+        return wasNull() ? getNullString() : value;
+    }
+
+    @Override
+    public Time getTime(final int columnIndex) throws SQLException {
+        final Time value = super.getTime(columnIndex);
+        return wasNull() ? getNullTime() : value;
+    }
+
+    @Override
+    public Time getTime(final String columnLabel) throws SQLException {
+        final Time value = super.getTime(columnLabel);
+        return wasNull() ? getNullTime() : value;
+    }
+
+    @Override
+    public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
+        final Time value = super.getTime(columnIndex, cal);
+        return wasNull() ? getNullTime() : value;
+    }
+
+    @Override
+    public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
+        final Time value = super.getTime(columnLabel, cal);
+        return wasNull() ? getNullTime() : value;
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        final Timestamp value = super.getTimestamp(columnIndex);
+        return wasNull() ? getNullTimestamp() : value;
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+        final Timestamp value = super.getTimestamp(columnLabel);
+        return wasNull() ? getNullTimestamp() : value;
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
+        final Timestamp value = super.getTimestamp(columnIndex, cal);
+        return wasNull() ? getNullTimestamp() : value;
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
+        final Timestamp value = super.getTimestamp(columnLabel, cal);
+        return wasNull() ? getNullTimestamp() : value;
+    }
+
+    @Override
+    public URL getURL(final int columnIndex) throws SQLException {
+        final URL value = super.getURL(columnIndex);
+        return wasNull() ? getNullURL() : value;
+    }
+
+    @Override
+    public URL getURL(final String columnLabel) throws SQLException {
+        final URL value = super.getURL(columnLabel);
+        return wasNull() ? getNullURL() : value;
     }
 
     /**
@@ -370,12 +665,13 @@ public class SqlNullCheckedResultSet implements InvocationHandler {
     }
 
     /**
-     * Intercepts calls to {@code get*} methods and calls the appropriate
-     * {@code getNull*} method if the {@code ResultSet} returned
-     * {@code null}.
+     * Forwards calls to a proxy created for this instance to the
+     * {@code ResultSet} methods of this instance, whose {@code get*}
+     * methods return the appropriate {@code getNull*} value if the
+     * {@code ResultSet} returned {@code null}.
      *
      * @see java.lang.reflect.InvocationHandler#invoke(Object, java.lang.reflect.Method, Object[])
-     * @param proxy Not used; all method calls go to the internal result set
+     * @param proxy Not used; all method calls go to this result set
      * @param method The method to invoke on the result set
      * @param args The arguments to pass to the result set
      * @return null checked result
@@ -385,15 +681,7 @@ public class SqlNullCheckedResultSet implements InvocationHandler {
     public Object invoke(final Object proxy, final Method method, final Object[] args)
         throws Throwable {
 
-        final Object result = method.invoke(this.resultSet, args);
-
-        final Method nullMethod = NULL_METHODS.get(method.getName());
-
-        // Check nullMethod != null first so that we don't call wasNull()
-        // before a true getter method was invoked on the ResultSet.
-        return nullMethod != null && this.resultSet.wasNull()
-            ? nullMethod.invoke(this, (Object[]) null)
-            : result;
+        return method.invoke(this, args);
     }
 
     /**
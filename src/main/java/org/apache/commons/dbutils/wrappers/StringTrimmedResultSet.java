@@ -19,8 +19,8 @@ package org.apache.commons.dbutils.wrappers;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
-
-import org.apache.commons.dbutils.ProxyFactory;
+import java.sql.SQLException;
+import java.util.Map;
 
 /**
  * Wraps a {@code ResultSet} to trim strings returned by the
@@ -42,27 +42,37 @@ import org.apache.commons.dbutils.ProxyFactory;
  * // Pass wrapped ResultSet to processor
  * List list = new BasicRowProcessor().toBeanList(resultSet);
  * </pre>
+ *
+ * <p>
+ * Instances are {@code ResultSet}s that trim the values with plain method
+ * calls.  For compatibility they can still be wrapped in a proxy with
+ * {@code ProxyFactory.instance().createResultSet(wrapper)}, which calls them
+ * reflectively.
+ * </p>
  */
-public class StringTrimmedResultSet implements InvocationHandler {
+public class StringTrimmedResultSet extends DelegatingResultSet implements InvocationHandler {
 
     /**
-     * Wraps the {@code ResultSet} in an instance of this class.  This is
-     * equivalent to:
-     * <pre>
-     * ProxyFactory.instance().createResultSet(new StringTrimmedResultSet(resultSet));
-     * </pre>
+     * Wraps the {@code ResultSet} in an instance of this class.
      *
      * @param resultSet The {@code ResultSet} to wrap.
      * @return wrapped ResultSet
      */
     public static ResultSet wrap(final ResultSet resultSet) {
-        return ProxyFactory.instance().createResultSet(new StringTrimmedResultSet(resultSet));
+        return new StringTrimmedResultSet(resultSet);
     }
 
     /**
-     * The wrapped result.
+     * Trims a value if it is a {@code String}.
+     *
+     * @param <T> The type of the value.
+     * @param value The value.
+     * @return The trimmed value.
      */
-    private final ResultSet resultSet;
+    @SuppressWarnings("unchecked") // a String stays a String
+    private static <T> T trim(final T value) {
+        return value instanceof String ? (T) ((String) value).trim() : value;
+    }
 
     /**
      * Constructs a new instance of {@code StringTrimmedResultSet}
@@ -70,16 +80,56 @@ public class StringTrimmedResultSet implements InvocationHandler {
      * @param resultSet ResultSet to wrap
      */
     public StringTrimmedResultSet(final ResultSet resultSet) {
-        this.resultSet = resultSet;
+        super(resultSet);
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return trim(super.getObject(columnIndex));
+    }
+
+    @Override
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        return trim(super.getObject(columnIndex, type));
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        return trim(super.getObject(columnIndex, map));
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        return trim(super.getObject(columnLabel));
+    }
+
+    @Override
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        return trim(super.getObject(columnLabel, type));
+    }
+
+    @Override
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        return trim(super.getObject(columnLabel, map));
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        return trim(super.getString(columnIndex));
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return trim(super.getString(columnLabel));
     }
 
     /**
-     * Intercept calls to the {@code getString()} and
-     * {@code getObject()} methods and trim any Strings before they're
-     * returned.
+     * Forwards calls to a proxy created for this instance to the
+     * {@code ResultSet} methods of this instance, which trim any Strings
+     * returned by the {@code getString()} and {@code getObject()} methods.
      *
      * @see java.lang.reflect.InvocationHandler#invoke(Object, java.lang.reflect.Method, Object[])
-     * @param proxy Not used; all method calls go to the internal result set
+     * @param proxy Not used; all method calls go to this result set
      * @param method The method to invoke on the result set
      * @param args The arguments to pass to the result set
      * @return string trimmed result
@@ -89,15 +139,7 @@ public class StringTrimmedResultSet implements InvocationHandler {
     public Object invoke(final Object proxy, final Method method, final Object[] args)
         throws Throwable {
 
-        Object result = method.invoke(this.resultSet, args);
-
-        if (result instanceof String
-                && (method.getName().equals("getObject")
-                || method.getName().equals("getString"))) {
-            result = ((String) result).trim();
-        }
-
-        return result;
+        return method.invoke(this, args);
     }
 
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.dbutils;
 
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -31,6 +32,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -386,6 +388,19 @@ public class AsyncQueryRunnerTest {
         verify(mockQueryRunner).insert(conn, "4", handler, "param1");
     }
 
+    @Test
+    public void testNewExecutorService() throws Exception {
+        final ExecutorService executorService = AsyncQueryRunner.newExecutorService(2);
+        try {
+            runner = new AsyncQueryRunner(executorService, new QueryRunner(dataSource));
+            callGoodQuery();
+            final int max = BoundedExecutorServiceTest.maxConcurrency(executorService, 8);
+            assertTrue("max " + max, max >= 1 && max <= 2);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void testNoParamsQuery() throws Exception {
         callGoodQuery();
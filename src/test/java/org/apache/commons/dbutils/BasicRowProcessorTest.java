@@ -16,6 +16,8 @@
  */
 package org.apache.commons.dbutils;
 
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -40,6 +42,92 @@ public class BasicRowProcessorTest extends BaseTestCase {
     private static final DateFormat datef =
         new SimpleDateFormat("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
 
+    public void testArrayMapper() throws SQLException {
+        final RowMapper<Object[]> mapper = processor.arrayMapper(this.rs.getMetaData());
+
+        assertTrue(this.rs.next());
+        final Object[] first = mapper.map(this.rs);
+        assertTrue(this.rs.next());
+        final Object[] second = mapper.map(this.rs);
+
+        assertEquals(COLS, first.length);
+        assertEquals("1", first[0]);
+        assertEquals("THREE", first[2]);
+        assertEquals("5", second[1]);
+        assertFalse(this.rs.next());
+    }
+
+    public void testBeanMapper() throws SQLException {
+        final RowMapper<TestBean> mapper = processor.beanMapper(this.rs.getMetaData(), TestBean.class);
+
+        assertTrue(this.rs.next());
+        final TestBean first = mapper.map(this.rs);
+        assertTrue(this.rs.next());
+        final TestBean second = mapper.map(this.rs);
+
+        assertNotSame(first, second);
+        assertEquals("1", first.getOne());
+        assertEquals(TestBean.Ordinal.THREE, first.getThree());
+        assertEquals("5", second.getTwo());
+        assertEquals(Integer.valueOf(4), second.getIntegerTest());
+        assertEquals("not set", second.getDoNotSet());
+        assertFalse(this.rs.next());
+    }
+
+    public void testMapMapper() throws SQLException {
+        final RowMapper<Map<String, Object>> mapper = processor.mapMapper(this.rs.getMetaData());
+
+        assertTrue(this.rs.next());
+        final Map<String, Object> first = mapper.map(this.rs);
+        assertTrue(this.rs.next());
+        final Map<String, Object> second = mapper.map(this.rs);
+        this.rs = this.createMockResultSet();
+        assertTrue(this.rs.next());
+
+        assertEquals(processor.toMap(this.rs), first);
+        assertEquals(COLS, first.size());
+        assertEquals("1", first.get("ONE"));
+        assertEquals("SIX", second.get("three"));
+        assertTrue(second.containsKey("Two"));
+        assertFalse(second.containsKey("four"));
+        assertNull(second.get("four"));
+        assertEquals("one", first.keySet().iterator().next());
+    }
+
+    public void testMapMapperRowsCanBeChanged() throws SQLException {
+        assertTrue(this.rs.next());
+        final Map<String, Object> m = processor.mapMapper(this.rs.getMetaData()).map(this.rs);
+
+        assertEquals("1", m.put("one", "uno"));
+        assertEquals("uno", m.get("ONE"));
+        m.entrySet().iterator().next().setValue("eins");
+        assertEquals("eins", m.get("one"));
+
+        assertEquals("2", m.remove("TWO"));
+        assertEquals(COLS - 1, m.size());
+        assertNull(m.put("Four", "4"));
+        assertEquals("THREE", m.put("THREE", "3"));
+        assertEquals("3", m.get("three"));
+
+        final Iterator<String> itr = m.keySet().iterator();
+        assertEquals("one", itr.next());
+        assertEquals("notInBean", itr.next());
+        itr.remove();
+        assertFalse(m.containsKey("notInBean"));
+        assertEquals(COLS - 1, m.size());
+    }
+
+    public void testMapMapperWithDuplicateLabels() throws SQLException {
+        final ResultSetMetaData rsmd = MockResultSetMetaData.create(new String[] {"id", "ID"});
+        final ResultSet duplicates = MockResultSet.create(rsmd, new Object[][] {{"1", "2"}});
+
+        assertTrue(duplicates.next());
+        final Map<String, Object> m = processor.mapMapper(rsmd).map(duplicates);
+
+        assertEquals(1, m.size());
+        assertEquals("2", m.get("id"));
+    }
+
     public void testPutAllContainsKeyAndRemove() throws Exception {
         final Map<String, Object> test = new HashMap<>(3);
         test.put("fiRst", "thing");
@@ -17,17 +17,26 @@
 package org.apache.commons.dbutils;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.dbutils.handlers.columns.TestColumnHandler;
+
 public class BeanProcessorTest extends BaseTestCase {
 
     private static final class IndexedPropertyTestClass {
@@ -70,6 +79,18 @@ public class BeanProcessorTest extends BaseTestCase {
         }
     }
 
+    public static class CustomColumnBean {
+        private TestColumnHandler.Upper name;
+
+        public TestColumnHandler.Upper getName() {
+            return name;
+        }
+
+        public void setName(final TestColumnHandler.Upper name) {
+            this.name = name;
+        }
+    }
+
     public static class MapColumnToAnnotationFieldBean {
         private String one;
 
@@ -155,6 +176,72 @@ public class BeanProcessorTest extends BaseTestCase {
         }
     }
 
+    public static class PrimitivesBean {
+        private boolean active;
+        private byte flags;
+        private long id;
+        private short rank;
+        private float ratio;
+        private double score;
+        private int size;
+
+        public byte getFlags() {
+            return flags;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public short getRank() {
+            return rank;
+        }
+
+        public float getRatio() {
+            return ratio;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(final boolean active) {
+            this.active = active;
+        }
+
+        public void setFlags(final byte flags) {
+            this.flags = flags;
+        }
+
+        public void setId(final long id) {
+            this.id = id;
+        }
+
+        public void setRank(final short rank) {
+            this.rank = rank;
+        }
+
+        public void setRatio(final float ratio) {
+            this.ratio = ratio;
+        }
+
+        public void setScore(final double score) {
+            this.score = score;
+        }
+
+        public void setSize(final int size) {
+            this.size = size;
+        }
+    }
+
     private static final class TestNoGetter {
         public String testField;
 
@@ -212,6 +299,15 @@ public class BeanProcessorTest extends BaseTestCase {
      * @throws Exception
      * @see <a href="https://issues.apache.org/jira/browse/DBUTILS-150">DBUTILS-150</a>
      */
+    public void testCustomColumnHandlerSkipsSqlNull() throws Exception {
+        final ResultSetMetaData rsmd = MockResultSetMetaData.create(new String[] {"name"});
+        final Object[][] rows = {{"abc"}, {null}};
+        final List<CustomColumnBean> beans = new BeanProcessor().toBeanList(MockResultSet.create(rsmd, rows), CustomColumnBean.class);
+
+        assertEquals("ABC", beans.get(0).getName().toString());
+        assertNull(beans.get(1).getName());
+    }
+
     public void testIndexedPropertyDescriptor() throws Exception {
         final String[] colNames = {"name", "things", "stuff"};
         final ResultSetMetaData metaData = MockResultSetMetaData.create(colNames);
@@ -274,6 +370,21 @@ public class BeanProcessorTest extends BaseTestCase {
         }
     }
 
+    public void testMapColumnToPropertiesIgnoresLaterOverrides() throws Exception {
+        final Map<String, String> columnToPropertyOverrides = new HashMap<>();
+        columnToPropertyOverrides.put("five", "four");
+        final BeanProcessor beanProc = new BeanProcessor(columnToPropertyOverrides);
+        columnToPropertyOverrides.put("five", "missing");
+        final String[] columnNames = { "test", "test", "three", "five" };
+        final String[] columnLabels = { "one", "two", null, null };
+        final ResultSetMetaData rsmd = ProxyFactory.instance().createResultSetMetaData(
+                new MockResultSetMetaData(columnNames, columnLabels));
+        final PropertyDescriptor[] props = Introspector.getBeanInfo(MapColumnToPropertiesBean.class).getPropertyDescriptors();
+
+        final int[] columns = beanProc.mapColumnsToProperties(rsmd, props);
+        assertTrue(columns[4] != BeanProcessor.PROPERTY_NOT_FOUND);
+    }
+
     public void testProcessWithPopulateBean() throws SQLException {
         TestBean b = new TestBean();
 
@@ -304,6 +415,106 @@ public class BeanProcessorTest extends BaseTestCase {
         assertFalse(this.rs.next());
     }
 
+    public void testToBeanListWithCompiledPrimitiveSetters() throws Exception {
+        final ResultSetMetaData rsmd = MockResultSetMetaData.create(new String[] {"active", "flags", "id", "rank", "ratio", "score", "size"});
+        final Object[][] rows = {
+                {Boolean.TRUE, Byte.valueOf((byte) 1), Long.valueOf(2), Short.valueOf((short) 3), Float.valueOf(4.5f), Double.valueOf(6.5), Integer.valueOf(7)},
+                {null, null, null, null, null, null, null}
+        };
+
+        final List<PrimitivesBean> beans = new GenerousBeanProcessor(true).toBeanList(MockResultSet.create(rsmd, rows), PrimitivesBean.class);
+
+        final PrimitivesBean full = beans.get(0);
+        assertTrue(full.isActive());
+        assertEquals(1, full.getFlags());
+        assertEquals(2L, full.getId());
+        assertEquals(3, full.getRank());
+        assertEquals(4.5f, full.getRatio(), 0);
+        assertEquals(6.5, full.getScore(), 0);
+        assertEquals(7, full.getSize());
+        final PrimitivesBean empty = beans.get(1);
+        assertFalse(empty.isActive());
+        assertEquals(0, empty.getFlags());
+        assertEquals(0L, empty.getId());
+        assertEquals(0, empty.getRank());
+        assertEquals(0f, empty.getRatio(), 0);
+        assertEquals(0.0, empty.getScore(), 0);
+        assertEquals(0, empty.getSize());
+    }
+
+    public void testToBeanListWithCompiledSetters() throws Exception {
+        final List<TestBean> beans = new BeanProcessor(new HashMap<>(), true).toBeanList(this.rs, TestBean.class);
+
+        assertEquals(ROWS, beans.size());
+        final TestBean b = beans.get(1);
+        assertEquals("4", b.getOne());
+        assertEquals("5", b.getTwo());
+        assertEquals(TestBean.Ordinal.SIX, b.getThree());
+        assertEquals("not set", b.getDoNotSet());
+        assertEquals(3, b.getIntTest());
+        assertEquals(Integer.valueOf(4), b.getIntegerTest());
+        assertNull(b.getNullObjectTest());
+        assertEquals(0, b.getNullPrimitiveTest());
+        assertTrue(b.getNotDate().endsWith("789456123"));
+        assertEquals(13.0, b.getColumnProcessorDoubleTest(), 0);
+    }
+
+    public void testToBeanListWithDifferentColumnLayouts() throws Exception {
+        final ResultSetMetaData oneTwo = MockResultSetMetaData.create(new String[] {"one", "two"});
+        final ResultSetMetaData twoFour = MockResultSetMetaData.create(new String[] {"two", "four"});
+
+        final List<MapColumnToPropertiesBean> first = beanProc.toBeanList(
+                MockResultSet.create(oneTwo, new Object[][] {{"1", "2"}}), MapColumnToPropertiesBean.class);
+        final List<MapColumnToPropertiesBean> second = beanProc.toBeanList(
+                MockResultSet.create(twoFour, new Object[][] {{"2", "4"}}), MapColumnToPropertiesBean.class);
+        final List<MapColumnToPropertiesBean> third = beanProc.toBeanList(
+                MockResultSet.create(oneTwo, new Object[][] {{"one", "two"}}), MapColumnToPropertiesBean.class);
+
+        assertEquals("1", first.get(0).getOne());
+        assertEquals("2", first.get(0).getTwo());
+        assertNull(first.get(0).getFour());
+        assertNull(second.get(0).getOne());
+        assertEquals("2", second.get(0).getTwo());
+        assertEquals("4", second.get(0).getFour());
+        assertEquals("one", third.get(0).getOne());
+        assertEquals("two", third.get(0).getTwo());
+    }
+
+    public void testToBeanListWithOverriddenWriteMethod() throws Exception {
+        final List<String> written = new ArrayList<>();
+        final BeanProcessor processor = new BeanProcessor() {
+            @Override
+            protected Method getWriteMethod(final Object target, final PropertyDescriptor prop, final Object value) {
+                written.add(prop.getName() + "=" + value);
+                return "two".equals(prop.getName()) ? null : prop.getWriteMethod();
+            }
+        };
+        final ResultSetMetaData rsmd = MockResultSetMetaData.create(new String[] {"one", "two"});
+        final Object[][] rows = {{"1", "2"}, {"3", "4"}};
+
+        final List<MapColumnToPropertiesBean> beans = processor.toBeanList(MockResultSet.create(rsmd, rows), MapColumnToPropertiesBean.class);
+
+        assertEquals(Arrays.asList("one=1", "two=2", "one=3", "two=4"), written);
+        assertEquals("1", beans.get(0).getOne());
+        assertNull(beans.get(0).getTwo());
+        assertEquals("3", beans.get(1).getOne());
+        assertNull(beans.get(1).getTwo());
+    }
+
+    public void testToBeanReadsEachColumnOnce() throws Exception {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(MockResultSetMetaData.create(new String[] {"integerTest", "one"}));
+        when(resultSet.getInt(1)).thenReturn(0);
+        when(resultSet.getString(2)).thenReturn("1");
+        when(resultSet.wasNull()).thenReturn(true, false);
+
+        final TestBean bean = beanProc.toBean(resultSet, TestBean.class);
+
+        assertNull(bean.getIntegerTest());
+        assertEquals("1", bean.getOne());
+        verify(resultSet, never()).getObject(anyInt());
+    }
+
     public void testWrongSetterParamCount() throws Exception {
         final String[] colNames = {"testField"};
         final ResultSetMetaData metaData = MockResultSetMetaData.create(colNames);
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testEvictsWhenFull() {
+        final BoundedCache<Integer, String> cache = new BoundedCache<>(3);
+        for (int i = 0; i < 10; i++) {
+            cache.putIfAbsent(i, Integer.toString(i));
+            assertEquals(Math.min(i + 1, 3), cache.size());
+        }
+        assertEquals("9", cache.get(9));
+    }
+
+    @Test
+    public void testKeepsFirstValue() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(2);
+        final String first = "first";
+        assertSame(first, cache.putIfAbsent("key", first));
+        assertSame(first, cache.putIfAbsent("key", "second"));
+        assertSame(first, cache.get("key"));
+        cache.clear();
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testKeepsEntriesWhenKeyIsPresent() {
+        final BoundedCache<Integer, String> cache = new BoundedCache<>(3);
+        for (int i = 0; i < 3; i++) {
+            cache.putIfAbsent(i, Integer.toString(i));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Integer.toString(i), cache.putIfAbsent(i, "other"));
+        }
+        assertEquals(3, cache.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Integer.toString(i), cache.get(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsNonPositiveSize() {
+        new BoundedCache<>(0);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class BoundedExecutorServiceTest {
+
+    /**
+     * Runs tasks that wait for each other and returns the highest number
+     * running at the same time.
+     */
+    static int maxConcurrency(final ExecutorService executor, final int tasks) throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            futures.add(executor.submit(() -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                release.await(100, TimeUnit.MILLISECONDS);
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        release.countDown();
+        for (final Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        return max.get();
+    }
+
+    @Test
+    public void testLimitsConcurrency() throws Exception {
+        final ExecutorService executor = new BoundedExecutorService(Executors.newCachedThreadPool(), 2);
+        try {
+            final int max = maxConcurrency(executor, 8);
+            assertTrue("max " + max, max >= 1 && max <= 2);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(executor.isTerminated());
+    }
+
+    @Test
+    public void testShutdownNowCancelsWaitingTasks() throws Exception {
+        final ExecutorService executor = new BoundedExecutorService(Executors.newCachedThreadPool(), 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final Future<?> first = executor.submit(() -> {
+            started.countDown();
+            blocked.await();
+            return null;
+        });
+        started.await(10, TimeUnit.SECONDS);
+        final Future<?> waiting = executor.submit(() -> null);
+
+        executor.shutdownNow();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(first.isDone());
+        assertTrue(waiting.isDone());
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.dbutils.handlers.ScalarHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompletableQueryRunnerTest {
+
+    private DataSource dataSource;
+
+    private Connection conn;
+
+    private PreparedStatement stmt;
+
+    private ResultSet results;
+
+    private ExecutorService executor;
+
+    /**
+     * Makes the query block until its statement is cancelled.
+     */
+    private void blockUntilCancelled() throws SQLException {
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelled.countDown();
+            return null;
+        }).when(stmt).cancel();
+        when(stmt.executeQuery()).thenAnswer(invocation -> {
+            if (!cancelled.await(10, TimeUnit.SECONDS)) {
+                fail("Statement not cancelled");
+            }
+            throw new SQLException("cancelled");
+        });
+    }
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        conn = mock(Connection.class);
+        stmt = mock(PreparedStatement.class);
+        results = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(conn);
+        when(conn.prepareStatement(any(String.class))).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(results);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCancelCancelsStatement() throws Exception {
+        blockUntilCancelled();
+        final CompletableFuture<Object> future = new CompletableQueryRunner(executor, new QueryRunner(dataSource, true))
+                .query("select * from blah where unit = ?", new ScalarHandler<>(), "unit");
+
+        verify(stmt, timeout(10000)).executeQuery();
+        assertTrue(future.cancel(true));
+
+        verify(stmt).cancel();
+        verify(conn, timeout(10000)).close();
+    }
+
+    @Test
+    public void testError() throws Exception {
+        when(stmt.executeQuery()).thenThrow(new AssertionError("bad"));
+
+        try {
+            new CompletableQueryRunner(executor, new QueryRunner(dataSource, true)).query("select * from blah where unit = ?", new ScalarHandler<>(), "unit")
+                    .get(10, TimeUnit.SECONDS);
+            fail("Exception expected");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof AssertionError);
+        }
+        verify(conn).close();
+    }
+
+    @Test
+    public void testInlineRestoresStatementListener() throws Exception {
+        final List<Statement> tracked = new ArrayList<>();
+        AbstractQueryRunner.setStatementListener(tracked::add);
+        try {
+            new CompletableQueryRunner(Runnable::run, new QueryRunner(dataSource, true)).update("update blah set unit = ?", "unit").get();
+            assertTrue(tracked.isEmpty());
+
+            AbstractQueryRunner.track(stmt);
+            assertEquals(Collections.singletonList(stmt), tracked);
+        } finally {
+            AbstractQueryRunner.setStatementListener(null);
+        }
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        when(stmt.executeQuery()).thenThrow(new SQLException("bad"));
+
+        try {
+            new CompletableQueryRunner(executor, new QueryRunner(dataSource, true)).query("select * from blah where unit = ?", new ScalarHandler<>(), "unit")
+                    .get();
+            fail("Exception expected");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof SQLException);
+        }
+        verify(conn).close();
+    }
+
+    @Test
+    public void testQuery() throws Exception {
+        when(results.next()).thenReturn(true);
+        when(results.getObject(1)).thenReturn("unit");
+
+        final CompletableFuture<String> future = new CompletableQueryRunner(executor, new QueryRunner(dataSource, true))
+                .query("select * from blah where unit = ?", new ScalarHandler<>(), "unit");
+
+        assertEquals("UNIT", future.thenApply(String::toUpperCase).get());
+        verify(conn).close();
+    }
+
+    @Test
+    public void testQueryTimeout() throws Exception {
+        blockUntilCancelled();
+        final StatementConfiguration stmtConfig = new StatementConfiguration.Builder().queryTimeout(Duration.ofSeconds(1)).build();
+
+        try {
+            new CompletableQueryRunner(executor, new QueryRunner(dataSource, true, stmtConfig))
+                    .query("select * from blah where unit = ?", new ScalarHandler<>(), "unit").get();
+            fail("Exception expected");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        verify(stmt, timeout(10000)).cancel();
+        verify(stmt).setQueryTimeout(1);
+    }
+
+    @Test
+    public void testWithExecutor() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableQueryRunner runner = new CompletableQueryRunner(executor, new QueryRunner(dataSource, true)).withExecutor(command -> {
+            calls.incrementAndGet();
+            command.run();
+        });
+        when(stmt.executeUpdate()).thenReturn(2);
+
+        assertEquals(Integer.valueOf(2), runner.update("update blah set unit = ?", "unit").get());
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.beans.ConstructorProperties;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.junit.Test;
+
+public class ConstructorBeanProcessorTest {
+
+    public static final class Person {
+        private final long id;
+        private final String name;
+        private final Integer age;
+        private final TestBean.Ordinal rank;
+
+        public Person(final long id) {
+            this(id, null, null, null);
+        }
+
+        @ConstructorProperties({"id", "name", "age", "rank"})
+        public Person(final long id, final String name, final Integer age, final TestBean.Ordinal rank) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.rank = rank;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        @Column(name = "full_name")
+        public String getName() {
+            return name;
+        }
+
+        public TestBean.Ordinal getRank() {
+            return rank;
+        }
+    }
+
+    private static ResultSet resultSet(final String[] columns, final Object[]... rows) {
+        return MockResultSet.create(MockResultSetMetaData.create(columns), rows);
+    }
+
+    @Test
+    public void testBeanMapper() throws SQLException {
+        final String[] columns = {"id", "full_name"};
+        final ResultSet rs = resultSet(columns, new Object[] {1L, "Ann"}, new Object[] {2L, "Bob"});
+        final RowMapper<Person> mapper = new ConstructorBeanProcessor().beanMapper(MockResultSetMetaData.create(columns), Person.class);
+
+        rs.next();
+        assertEquals("Ann", mapper.map(rs).getName());
+        rs.next();
+        final Person person = mapper.map(rs);
+        assertEquals(2L, person.getId());
+        assertEquals("Bob", person.getName());
+    }
+
+    @Test
+    public void testBeanMapperFallsBackToSetters() throws SQLException {
+        final String[] columns = {"one", "intTest"};
+        final ResultSet rs = resultSet(columns, new Object[] {"1", 2});
+        final RowMapper<TestBean> mapper = new ConstructorBeanProcessor().beanMapper(MockResultSetMetaData.create(columns), TestBean.class);
+
+        rs.next();
+        final TestBean bean = mapper.map(rs);
+        assertEquals("1", bean.getOne());
+        assertEquals(2, bean.getIntTest());
+    }
+
+    @Test
+    public void testToBean() throws SQLException {
+        final ResultSet rs = resultSet(new String[] {"id", "full_name", "age", "rank"}, new Object[] {1L, "Ann", 42, "THREE"});
+        rs.next();
+
+        final Person person = new ConstructorBeanProcessor().toBean(rs, Person.class);
+
+        assertEquals(1L, person.getId());
+        assertEquals("Ann", person.getName());
+        assertEquals(Integer.valueOf(42), person.getAge());
+        assertEquals(TestBean.Ordinal.THREE, person.getRank());
+    }
+
+    @Test
+    public void testToBeanListFallsBackToSetters() throws SQLException {
+        final List<TestBean> beans = new ConstructorBeanProcessor().toBeanList(resultSet(new String[] {"one", "intTest"}, new Object[] {"1", 2}),
+                TestBean.class);
+
+        assertEquals(1, beans.size());
+        assertEquals("1", beans.get(0).getOne());
+        assertEquals(2, beans.get(0).getIntTest());
+    }
+
+    @Test
+    public void testToBeanListWithNullsAndMissingColumns() throws SQLException {
+        final List<Person> people = new ConstructorBeanProcessor().toBeanList(
+                resultSet(new String[] {"id", "age", "ignored"}, new Object[] {null, null, "x"}, new Object[] {2L, 7, "y"}), Person.class);
+
+        assertEquals(2, people.size());
+        assertEquals(0L, people.get(0).getId());
+        assertNull(people.get(0).getAge());
+        assertNull(people.get(0).getName());
+        assertEquals(2L, people.get(1).getId());
+        assertEquals(Integer.valueOf(7), people.get(1).getAge());
+        assertNull(people.get(1).getRank());
+    }
+
+    @Test
+    public void testToBeanListWithOverrides() throws SQLException {
+        final BasicRowProcessor rowProcessor = new BasicRowProcessor(new ConstructorBeanProcessor(Collections.singletonMap("person_id", "id")));
+
+        final List<Person> people = new BeanListHandler<>(Person.class, rowProcessor).handle(
+                resultSet(new String[] {"person_id", "full_name"}, new Object[] {3L, "Bob"}));
+
+        assertEquals(1, people.size());
+        assertEquals(3L, people.get(0).getId());
+        assertEquals("Bob", people.get(0).getName());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testToBeanWithIncompatibleColumn() throws SQLException {
+        final ResultSet rs = resultSet(new String[] {"id", "age"}, new Object[] {1L, "old"});
+        rs.next();
+
+        new ConstructorBeanProcessor().toBean(rs, Person.class);
+    }
+}
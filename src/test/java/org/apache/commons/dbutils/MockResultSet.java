@@ -96,7 +96,7 @@ public class MockResultSet implements InvocationHandler {
      * @throws SQLException if the column name is invalid
      */
     private int columnNameToIndex(final String columnName) throws SQLException {
-        for (int i = 0; i < this.currentRow.length; i++) {
+        for (int i = 0; i < this.metaData.getColumnCount(); i++) {
             final int c = i + 1;
             if (this.metaData.getColumnName(c).equalsIgnoreCase(columnName)) {
                 return c;
@@ -315,6 +315,9 @@ public class MockResultSet implements InvocationHandler {
         } else if (methodName.equals("isLast")) {
             return this.isLast();
 
+        } else if (methodName.equals("findColumn")) {
+            return this.columnNameToIndex((String) args[0]);
+
         } else if (methodName.equals("hashCode")) {
             return Integer.valueOf(System.identityHashCode(proxy));
 
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.ResultSet;
+
+import org.junit.Test;
+
+public class OverridesTest {
+
+    private static class Direct extends BasicRowProcessor {
+        @Override
+        public Object[] toArray(final ResultSet resultSet) {
+            return new Object[0];
+        }
+    }
+
+    private static class Indirect extends Direct {
+        // inherits the override
+    }
+
+    @Test
+    public void testIsOverridden() {
+        assertTrue(Overrides.isOverridden(BasicRowProcessor.class, new Direct(), "toArray", ResultSet.class));
+        assertTrue(Overrides.isOverridden(BasicRowProcessor.class, new Indirect(), "toArray", ResultSet.class));
+        assertFalse(Overrides.isOverridden(BasicRowProcessor.class, new Indirect(), "toMap", ResultSet.class));
+        assertFalse(Overrides.isOverridden(BasicRowProcessor.class, new BasicRowProcessor(), "toArray", ResultSet.class));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelBatchLoaderTest {
+
+    private final List<Connection> connections = new ArrayList<>();
+
+    private DataSource dataSource;
+
+    private ExecutorService executor;
+
+    private final AtomicInteger failingConnections = new AtomicInteger();
+
+    private volatile Connection failingConnection;
+
+    private Connection connection() throws SQLException {
+        final Connection conn = mock(Connection.class);
+        when(conn.getAutoCommit()).thenReturn(true);
+        final PreparedStatement stmt = mock(PreparedStatement.class);
+        final AtomicInteger added = new AtomicInteger();
+        doAnswer(invocation -> added.incrementAndGet()).when(stmt).addBatch();
+        if (failingConnections.getAndDecrement() > 0) {
+            when(stmt.executeBatch()).thenThrow(new SQLException("bad"));
+            failingConnection = conn;
+        } else {
+            when(stmt.executeBatch()).thenAnswer(invocation -> {
+                final int[] counts = new int[added.getAndSet(0)];
+                Arrays.fill(counts, 1);
+                return counts;
+            });
+        }
+        when(conn.prepareStatement(any(String.class))).thenReturn(stmt);
+        synchronized (connections) {
+            connections.add(conn);
+        }
+        return conn;
+    }
+
+    private static Iterable<Object[]> rows(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Object[] {i})::iterator;
+    }
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> connection());
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+        final ParallelBatchLoader.Result result = new ParallelBatchLoader(executor, new QueryRunner(dataSource, true), 3, 2)
+                .load("insert into blah values (?)", rows(7));
+        final List<ParallelBatchLoader.Partition> partitions = result.getPartitions();
+
+        assertTrue(result.isComplete());
+        assertEquals(3, partitions.size());
+        long rows = 0;
+        long updates = 0;
+        long chunks = 0;
+        for (final ParallelBatchLoader.Partition partition : partitions) {
+            assertNull(partition.getFailure());
+            rows += partition.getRows();
+            updates += partition.getUpdateCount();
+            chunks += partition.getChunks();
+        }
+        assertEquals(7, rows);
+        assertEquals(7, updates);
+        assertEquals(4, chunks);
+        assertEquals(3, connections.size());
+        for (final Connection conn : connections) {
+            verify(conn).setAutoCommit(false);
+            verify(conn).setAutoCommit(true);
+            verify(conn).close();
+        }
+    }
+
+    @Test
+    public void testLoadReportsFailedPartition() throws Exception {
+        failingConnections.set(1);
+
+        final List<ParallelBatchLoader.Partition> partitions = new ParallelBatchLoader(executor, new QueryRunner(dataSource, true), 3, 2)
+                .load("insert into blah values (?)", rows(20)).getPartitions();
+
+        long rows = 0;
+        long rolledBack = 0;
+        for (final ParallelBatchLoader.Partition partition : partitions) {
+            rows += partition.getRows();
+            if (partition.getFailure() != null) {
+                // the failing partition fails on its first chunk unless the others took all chunks before it started
+                assertEquals(0, partition.getRows());
+                assertEquals(2, partition.getFailedChunk().size());
+                rolledBack += partition.getFailedChunk().size();
+                verify(failingConnection).rollback();
+            }
+        }
+        assertEquals(20, rows + rolledBack);
+    }
+
+    @Test
+    public void testLoadWhenAllPartitionsFail() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("no connection"));
+
+        final ParallelBatchLoader.Result result = new ParallelBatchLoader(executor, new QueryRunner(dataSource, true), 3, 2)
+                .load("insert into blah values (?)", rows(100));
+        final List<ParallelBatchLoader.Partition> partitions = result.getPartitions();
+
+        assertFalse(result.isComplete());
+        assertEquals(3, partitions.size());
+        for (final ParallelBatchLoader.Partition partition : partitions) {
+            assertNotNull(partition.getFailure());
+            assertEquals(0, partition.getRows());
+            assertEquals(0, partition.getFailedChunk().size());
+        }
+    }
+
+    @Test
+    public void testLoadWhenAllPartitionsFailReturnsRowsLeft() throws Exception {
+        failingConnections.set(3);
+
+        final ParallelBatchLoader.Result result = new ParallelBatchLoader(executor, new QueryRunner(dataSource, true), 3, 2)
+                .load("insert into blah values (?)", rows(20));
+
+        assertFalse(result.isComplete());
+        final List<Object> failed = new ArrayList<>();
+        for (final ParallelBatchLoader.Partition partition : result.getPartitions()) {
+            assertNotNull(partition.getFailure());
+            assertEquals(0, partition.getRows());
+            partition.getFailedChunk().forEach(row -> failed.add(row[0]));
+        }
+        // each partition failed on one of the first three chunks
+        failed.sort(null);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), failed);
+        // the three chunks still queued and the one in hand
+        final List<Object> unprocessed = new ArrayList<>();
+        result.getUnprocessedRows().forEach(row -> unprocessed.add(row[0]));
+        assertEquals(Arrays.asList(6, 7, 8, 9, 10, 11, 12, 13), unprocessed);
+        final List<Object> unread = new ArrayList<>();
+        result.getUnreadRows().forEachRemaining(row -> unread.add(row[0]));
+        assertEquals(Arrays.asList(14, 15, 16, 17, 18, 19), unread);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveChunkSize() {
+        new ParallelBatchLoader(executor, new QueryRunner(dataSource), 1, 0);
+    }
+}
@@ -18,8 +18,10 @@ package org.apache.commons.dbutils;
 
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -36,7 +38,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -46,6 +53,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -69,6 +77,23 @@ public class QueryRunnerTest {
         public void setB(final double b) { this.b = b; }
         public void setC(final String c) { this.c = c; }
     }
+
+    static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        final List<T> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onComplete() { completed = true; }
+        @Override
+        public void onError(final Throwable throwable) { error = throwable; }
+        @Override
+        public void onNext(final T item) { items.add(item); }
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) { this.subscription = subscription; }
+    }
+
     QueryRunner runner;
 
     ArrayHandler handler;
@@ -681,6 +706,18 @@ public class QueryRunnerTest {
         callExecuteWithResultSetWithException(handler, "unit", "test");
     }
 
+    @Test
+    public void testFillStatementUsesParameterBinders() throws Exception {
+        final Object other = new Object();
+        when(meta.getParameterCount()).thenReturn(4);
+        runner.fillStatement(prepStmt, 1, 2L, "three", other);
+
+        verify(prepStmt).setInt(1, 1);
+        verify(prepStmt).setLong(2, 2L);
+        verify(prepStmt).setString(3, "three");
+        verify(prepStmt).setObject(4, other);
+    }
+
     @Test
     public void testFillStatementWithBean() throws Exception {
         final MyBean bean = new MyBean();
@@ -710,6 +747,123 @@ public class QueryRunnerTest {
         callGoodBatch(conn, params);
     }
 
+    @Test
+    public void testGoodBatchInChunks() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(prepStmt.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1, Statement.SUCCESS_NO_INFO}, new int[] {1});
+        final Stream<Object[]> params = Stream.of(1, 2, 3, 4, 5).map(i -> new Object[] {i});
+
+        final long rows = runner.batch("update blah set unit = ?", params::iterator, 2);
+
+        Assert.assertEquals(4, rows);
+        verify(prepStmt, times(5)).addBatch();
+        verify(prepStmt, times(3)).executeBatch();
+        verify(prepStmt, times(1)).close();
+        verify(conn, never()).commit();
+        verify(conn, times(1)).close();
+    }
+
+    @Test
+    public void testGoodBatchInChunksCommits() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(conn.getAutoCommit()).thenReturn(false);
+        when(prepStmt.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1, 1});
+
+        final long rows = runner.batch(conn, "update blah set unit = ?", Arrays.asList(new Object[] {1}, new Object[] {2}, new Object[] {3},
+                new Object[] {4}), 2, true);
+
+        Assert.assertEquals(4, rows);
+        verify(prepStmt, times(2)).executeBatch();
+        verify(conn, times(2)).commit();
+        verify(prepStmt, times(1)).close();
+        verify(conn, never()).close();
+    }
+
+    @Test
+    public void testBadBatchInChunksRollsBackFailingChunk() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(conn.getAutoCommit()).thenReturn(false);
+        when(prepStmt.executeBatch()).thenReturn(new int[] {1, 1}).thenThrow(new SQLException("bad"));
+
+        try {
+            runner.batch(conn, "update blah set unit = ?", Arrays.asList(new Object[] {1}, new Object[] {2}, new Object[] {3},
+                    new Object[] {4}, new Object[] {5}), 2, true);
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("rows 3 to 4"));
+        }
+        verify(prepStmt, times(4)).addBatch();
+        verify(conn, times(1)).commit();
+        verify(conn, times(1)).rollback();
+        verify(prepStmt, times(1)).close();
+    }
+
+    @Test
+    public void testBadBatchInChunksReportsFailingRow() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        doThrow(new SQLException("bad")).when(prepStmt).setString(1, "second");
+
+        try {
+            runner.batch(conn, "update blah set unit = ?", Arrays.asList(new Object[] {"first"}, new Object[] {"second"}), 10, false);
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("second"));
+        }
+        verify(prepStmt, never()).executeBatch();
+        verify(prepStmt, times(1)).close();
+    }
+
+    @Test
+    public void testBatchBeans() throws Exception {
+        when(meta.getParameterCount()).thenReturn(3);
+        when(meta.getParameterType(anyInt())).thenReturn(Types.VARCHAR);
+        when(prepStmt.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1});
+        final List<MyBean> beans = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            final MyBean bean = new MyBean();
+            bean.setA(i);
+            bean.setB(i / 2d);
+            bean.setC(i == 2 ? null : "c" + i);
+            beans.add(bean);
+        }
+
+        final long rows = runner.batchBeans("insert into blah values (?, ?, ?)", beans, 2, "a", "b", "c");
+
+        Assert.assertEquals(3, rows);
+        verify(prepStmt).setInt(1, 1);
+        verify(prepStmt).setDouble(2, 0.5d);
+        verify(prepStmt).setString(3, "c1");
+        verify(prepStmt).setNull(3, Types.VARCHAR);
+        verify(prepStmt).setString(3, "c3");
+        verify(prepStmt, never()).setObject(anyInt(), any());
+        verify(prepStmt, times(3)).addBatch();
+        verify(prepStmt, times(2)).executeBatch();
+        verify(prepStmt).close();
+        verify(conn).close();
+    }
+
+    @Test
+    public void testBatchBeansWithNullBean() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+
+        try {
+            runner.batchBeans(conn, "insert into blah values (?)", Arrays.asList(new MyBean(), null), 10, false, "a");
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("Null bean at index 1"));
+        }
+        verify(prepStmt, times(1)).addBatch();
+        verify(prepStmt, never()).executeBatch();
+        verify(prepStmt).close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testBatchBeansWithUnknownProperty() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+
+        runner.batchBeans(conn, "insert into blah values (?)", Arrays.asList(new MyBean()), 10, false, "unknown");
+    }
+
     @Test
     public void testGoodBatchInsert() throws Exception {
         results = mock(ResultSet.class);
@@ -745,6 +899,42 @@ public class QueryRunnerTest {
         Assert.assertEquals(2, generatedKeys.size());
     }
 
+    @Test
+    public void testGoodBatchInsertLongKeys() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(conn.prepareStatement(any(String.class), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(prepStmt);
+        when(prepStmt.getGeneratedKeys()).thenReturn(results);
+        when(results.next()).thenReturn(true, true, true, false);
+        when(results.getLong(1)).thenReturn(7L, 8L, 9L);
+
+        final long[] keys = runner.insertBatch(conn, "INSERT INTO blah(col1) VALUES(?)", new Object[][] {{"a"}, {"b"}});
+
+        Assert.assertArrayEquals(new long[] {7, 8, 9}, keys);
+        verify(results, never()).getObject(1);
+        verify(results).close();
+        verify(prepStmt).close();
+        verify(conn, never()).close();
+    }
+
+    @Test
+    public void testBatchInsertLongKeysWithNullKey() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(conn.prepareStatement(any(String.class), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(prepStmt);
+        when(prepStmt.getGeneratedKeys()).thenReturn(results);
+        when(results.next()).thenReturn(true, true, false);
+        when(results.getLong(1)).thenReturn(7L, 0L);
+        when(results.wasNull()).thenReturn(false, true);
+
+        try {
+            runner.insertBatch(conn, "INSERT INTO blah(col1) VALUES(?)", new Object[][] {{"a"}, {"b"}});
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("SQL NULL generated key in row 2"));
+        }
+        verify(results).close();
+        verify(prepStmt).close();
+    }
+
     @Test
     public void testGoodBatchPmdTrue() throws Exception {
         runner = new QueryRunner(dataSource, true);
@@ -957,6 +1147,254 @@ public class QueryRunnerTest {
         runner.update(null);
     }
 
+    @Test
+    public void testParameterMetaDataNotCachedByDefault() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+
+        runner.update(conn, "update blah set a = ?", "x");
+        runner.update(conn, "update blah set a = ?", "y");
+
+        verify(prepStmt, times(2)).getParameterMetaData();
+        verify(meta, times(2)).getParameterCount();
+    }
+
+    @Test
+    public void testParameterMetaDataCachedBySql() throws Exception {
+        runner = new QueryRunner(new StatementConfiguration.Builder().parameterMetaDataCached(true).build());
+        when(meta.getParameterCount()).thenReturn(2);
+        when(meta.getParameterType(2)).thenReturn(Types.INTEGER);
+
+        runner.update(conn, "update blah set a = ? where b = ?", "x", null);
+        runner.update(conn, "update blah set a = ? where b = ?", "y", null);
+
+        verify(prepStmt).getParameterMetaData();
+        verify(meta).getParameterCount();
+        verify(meta).getParameterType(2);
+        verify(prepStmt, times(2)).setNull(2, Types.INTEGER);
+    }
+
+    @Test
+    public void testParameterMetaDataCacheChecksParameterCount() throws Exception {
+        runner = new QueryRunner(new StatementConfiguration.Builder().parameterMetaDataCached(true).build());
+        when(meta.getParameterCount()).thenReturn(1);
+        runner.update(conn, "update blah set a = ?", "x");
+
+        try {
+            runner.update(conn, "update blah set a = ?", "x", "y");
+            fail("Exception never thrown, but expected");
+        } catch (final SQLException e) {
+            verify(prepStmt).getParameterMetaData();
+        }
+    }
+
+    @Test
+    public void testQueryListenerReportsBatch() throws Exception {
+        final List<QueryExecution> executions = new ArrayList<>();
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().queryListener(executions::add).build());
+        when(prepStmt.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1, Statement.SUCCESS_NO_INFO}, new int[] {1});
+        final Stream<Object[]> params = Stream.of(1, 2, 3, 4, 5).map(i -> new Object[] {i});
+
+        queryRunner.batch(conn, "update blah set unit = ?", params::iterator, 2, false);
+
+        Assert.assertEquals(1, executions.size());
+        final QueryExecution execution = executions.get(0);
+        Assert.assertEquals(QueryExecution.Operation.BATCH, execution.getOperation());
+        Assert.assertEquals(5, execution.getBatchSize());
+        Assert.assertEquals(4, execution.getRows());
+        Assert.assertTrue(execution.isSuccessful());
+    }
+
+    @Test
+    public void testQueryListenerReportsFailure() throws Exception {
+        final List<QueryExecution> executions = new ArrayList<>();
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().queryListener(executions::add).build());
+        final SQLException failure = new SQLException("bad");
+        when(prepStmt.executeUpdate()).thenThrow(failure);
+
+        try {
+            queryRunner.update(conn, "update blah set unit = ?", "unit");
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            Assert.assertNotSame(failure, e);
+        }
+
+        Assert.assertEquals(1, executions.size());
+        Assert.assertSame(failure, executions.get(0).getException());
+        Assert.assertEquals(-1, executions.get(0).getRows());
+        verify(prepStmt).close();
+    }
+
+    @Test
+    public void testQueryListenerFailureDoesNotReplaceException() throws Exception {
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().queryListener(execution -> {
+            throw new IllegalStateException("listener");
+        }).build());
+        when(prepStmt.executeUpdate()).thenThrow(new SQLException("bad"));
+
+        try {
+            queryRunner.update(conn, "update blah set unit = ?", "unit");
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            Assert.assertEquals("bad", e.getNextException().getMessage());
+        }
+        verify(prepStmt).close();
+    }
+
+    @Test
+    public void testQueryListenerReportsHandlerFailure() throws Exception {
+        final List<QueryExecution> executions = new ArrayList<>();
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().queryListener(executions::add).build());
+        final IllegalStateException failure = new IllegalStateException("bad row");
+
+        try {
+            queryRunner.query(conn, "select * from blah where a = ?", rs -> {
+                throw failure;
+            }, 1);
+            fail("Exception expected");
+        } catch (final IllegalStateException e) {
+            Assert.assertSame(failure, e);
+        }
+
+        Assert.assertEquals(1, executions.size());
+        Assert.assertFalse(executions.get(0).isSuccessful());
+        Assert.assertSame(failure, executions.get(0).getException());
+        verify(prepStmt).close();
+    }
+
+    @Test
+    public void testQueryListenerReportsQueryPhases() throws Exception {
+        final List<QueryExecution> executions = new ArrayList<>();
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().queryListener(executions::add).build());
+
+        queryRunner.query(conn, "select * from blah where a = ?", rs -> {
+            final long start = System.nanoTime();
+            while (System.nanoTime() - start < 1_000_000) {
+                // spend some time handling the results
+            }
+            return null;
+        }, 1);
+
+        Assert.assertEquals(1, executions.size());
+        final QueryExecution execution = executions.get(0);
+        Assert.assertEquals(QueryExecution.Operation.QUERY, execution.getOperation());
+        Assert.assertEquals("select * from blah where a = ?", execution.getSql());
+        Assert.assertTrue(execution.getNanos(QueryExecution.Phase.HANDLE) >= 1_000_000);
+        Assert.assertEquals(0, execution.getBatchSize());
+        Assert.assertEquals(-1, execution.getRows());
+        Assert.assertNull(execution.getException());
+        long total = 0;
+        for (final QueryExecution.Phase phase : QueryExecution.Phase.values()) {
+            total += execution.getNanos(phase);
+        }
+        Assert.assertEquals(total, execution.getTotalNanos());
+    }
+
+    @Test
+    public void testStatementCacheClearsBatchOfFailedBatch() throws Exception {
+        final QueryRunner queryRunner = new QueryRunner(new StatementConfiguration.Builder().statementCacheSize(2).build());
+        when(meta.getParameterCount()).thenReturn(1);
+        doThrow(new SQLException("bad")).when(prepStmt).setString(1, "second");
+        when(prepStmt.executeBatch()).thenReturn(new int[] {1});
+
+        try {
+            queryRunner.batch(conn, "update blah set unit = ?", Arrays.asList(new Object[] {"first"}, new Object[] {"second"}), 10, false);
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("second"));
+        }
+        final InOrder order = inOrder(prepStmt);
+        order.verify(prepStmt).addBatch();
+        order.verify(prepStmt).clearBatch();
+
+        final long rows = queryRunner.batch(conn, "update blah set unit = ?", Arrays.<Object[]>asList(new Object[] {"third"}), 10, false);
+
+        Assert.assertEquals(1, rows);
+        order.verify(prepStmt).setString(1, "third");
+        order.verify(prepStmt).addBatch();
+        order.verify(prepStmt).executeBatch();
+        verify(conn).prepareStatement("update blah set unit = ?");
+        verify(prepStmt, never()).close();
+    }
+
+    @Test
+    public void testStatementCacheDropsClosedStatements() throws Exception {
+        final QueryRunner queryRunner = new QueryRunner(new StatementConfiguration.Builder().statementCacheSize(2).build());
+        when(meta.getParameterCount()).thenReturn(1);
+        when(prepStmt.isClosed()).thenReturn(true);
+
+        queryRunner.query(conn, "select * from blah where a = ?", handler, 1);
+        queryRunner.query(conn, "select * from blah where a = ?", handler, 2);
+
+        verify(conn, times(2)).prepareStatement("select * from blah where a = ?");
+    }
+
+    @Test
+    public void testStatementCacheEvictsLeastRecentlyUsed() throws Exception {
+        final PreparedStatement other = mock(PreparedStatement.class);
+        when(conn.prepareStatement("select b from blah where a = ?")).thenReturn(other);
+        when(other.executeQuery()).thenReturn(results);
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().statementCacheSize(1).build());
+
+        queryRunner.query(conn, "select c from blah where a = ?", handler, 1);
+        queryRunner.query(conn, "select b from blah where a = ?", handler, 2);
+        verify(prepStmt).close();
+        verify(other, never()).close();
+
+        queryRunner.query(conn, "select c from blah where a = ?", handler, 3);
+        verify(conn, times(2)).prepareStatement("select c from blah where a = ?");
+        verify(other).close();
+    }
+
+    @Test
+    public void testStatementCacheReusesStatements() throws Exception {
+        final QueryRunner queryRunner = new QueryRunner(new StatementConfiguration.Builder().statementCacheSize(2).fetchSize(10).build());
+        when(meta.getParameterCount()).thenReturn(2);
+
+        queryRunner.query(conn, "select * from blah where ? = ?", handler, "a", "b");
+        queryRunner.query(conn, "select * from blah where ? = ?", handler, "c", "d");
+
+        verify(conn).prepareStatement("select * from blah where ? = ?");
+        verify(prepStmt).setFetchSize(10);
+        verify(prepStmt).setString(1, "c");
+        verify(prepStmt, times(2)).clearParameters();
+        verify(prepStmt, never()).close();
+
+        queryRunner.close(conn);
+        verify(prepStmt).close();
+        verify(conn).close();
+    }
+
+    @Test
+    public void testStatementCacheOfClosedConnectionIsDropped() throws Exception {
+        final Connection other = mock(Connection.class);
+        final PreparedStatement otherStmt = mock(PreparedStatement.class);
+        when(other.prepareStatement("select * from blah where a = ?")).thenReturn(otherStmt);
+        when(otherStmt.executeQuery()).thenReturn(results);
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().statementCacheSize(2).build());
+
+        queryRunner.query(conn, "select * from blah where a = ?", handler, 1);
+        when(conn.isClosed()).thenReturn(true);
+        queryRunner.query(other, "select * from blah where a = ?", handler, 2);
+
+        verify(prepStmt).close();
+        verify(otherStmt, never()).close();
+    }
+
+    @Test
+    public void testStatementCacheWithNestedQueries() throws Exception {
+        final PreparedStatement nested = mock(PreparedStatement.class);
+        when(conn.prepareStatement("select * from blah where a = ?")).thenReturn(prepStmt, nested);
+        when(nested.executeQuery()).thenReturn(results);
+        final QueryRunner queryRunner = new QueryRunner(null, true, new StatementConfiguration.Builder().statementCacheSize(2).build());
+
+        queryRunner.query(conn, "select * from blah where a = ?", rs -> queryRunner.query(conn, "select * from blah where a = ?", handler, 2), 1);
+
+        // the inner statement is cached first, so the outer one is closed
+        verify(conn, times(2)).prepareStatement("select * from blah where a = ?");
+        verify(nested, never()).close();
+        verify(prepStmt).close();
+    }
+
     @Test
     public void testStatementConfiguration() throws Exception {
         final StatementConfiguration stmtConfig = new StatementConfiguration(1, 2, 3, 4, 5);
@@ -970,6 +1408,161 @@ public class QueryRunnerTest {
         verify(prepStmt).setQueryTimeout(eq(5));
     }
 
+    @Test
+    public void testPublishCompletes() throws Exception {
+        when(results.next()).thenReturn(true, true, false);
+        when(results.getString(1)).thenReturn("a", "b");
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        runner.publish("select * from blah", rs -> rs.getString(1)).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        Assert.assertEquals(Arrays.asList("a", "b"), subscriber.items);
+        Assert.assertTrue(subscriber.completed);
+        verify(results).close();
+        verify(prepStmt).close();
+        verify(conn).close();
+    }
+
+    @Test
+    public void testPublishFetchesRowsOnRequest() throws Exception {
+        when(results.next()).thenReturn(true);
+        when(results.getInt(1)).thenReturn(1, 2, 3);
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        runner.publish(conn, "select * from blah", rs -> rs.getInt(1)).subscribe(subscriber);
+        verify(prepStmt, never()).executeQuery();
+        subscriber.subscription.request(2);
+        Assert.assertEquals(Arrays.asList(1, 2), subscriber.items);
+        verify(results, times(2)).next();
+        subscriber.subscription.request(1);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), subscriber.items);
+        subscriber.subscription.cancel();
+
+        Assert.assertFalse(subscriber.completed);
+        verify(results, times(3)).next();
+        verify(results).close();
+        verify(prepStmt).close();
+        verify(conn, never()).close();
+    }
+
+    @Test
+    public void testPublishOnExecutor() throws Exception {
+        when(results.next()).thenReturn(true, true, false);
+        when(results.getString(1)).thenReturn("a", "b");
+        final List<Runnable> tasks = new ArrayList<>();
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        runner.publish(tasks::add, "select * from blah", rs -> rs.getString(1)).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        verify(prepStmt, never()).executeQuery();
+        Assert.assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        Assert.assertEquals(Arrays.asList("a", "b"), subscriber.items);
+        Assert.assertTrue(subscriber.completed);
+        verify(conn).close();
+    }
+
+    @Test
+    public void testPublishSignalsRejectedExecution() throws Exception {
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        runner.publish(task -> {
+            throw new RejectedExecutionException();
+        }, conn, "select * from blah", rs -> rs.getString(1)).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Assert.assertTrue(subscriber.error instanceof RejectedExecutionException);
+        verify(prepStmt, never()).executeQuery();
+    }
+
+    @Test
+    public void testPublishRejectsNonPositiveRequest() throws Exception {
+        final RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+
+        runner.publish(conn, "select * from blah", rs -> rs.getInt(1)).subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+        verify(prepStmt, never()).executeQuery();
+    }
+
+    @Test
+    public void testPublishSignalsQueryFailure() throws Exception {
+        when(prepStmt.executeQuery()).thenThrow(new SQLException("failed"));
+        final RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        runner.publish("select * from blah", rs -> rs.getString(1)).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        Assert.assertTrue(subscriber.error instanceof SQLException);
+        Assert.assertTrue(subscriber.items.isEmpty());
+        verify(prepStmt).close();
+        verify(conn).close();
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        when(meta.getParameterCount()).thenReturn(1);
+        when(results.next()).thenReturn(true, true, false);
+        when(results.getString(1)).thenReturn("a", "b");
+        final QueryRunner queryRunner = new QueryRunner(dataSource, new StatementConfiguration.Builder().fetchSize(100).build());
+
+        final List<String> rows;
+        try (Stream<String> stream = queryRunner.stream("select * from blah where ? = ?", rs -> rs.getString(1), "unit")) {
+            verify(prepStmt).setFetchSize(100);
+            verify(prepStmt).setString(1, "unit");
+            rows = stream.collect(Collectors.toList());
+            verify(results, never()).close();
+            verify(conn, never()).close();
+        }
+
+        Assert.assertEquals(Arrays.asList("a", "b"), rows);
+        verify(results).close();
+        verify(prepStmt).close();
+        verify(conn).close();
+    }
+
+    @Test
+    public void testStreamClosesConnectionWhenQueryFails() throws Exception {
+        when(prepStmt.executeQuery()).thenThrow(new SQLException("failed"));
+
+        try {
+            runner.stream("select * from blah", rs -> rs.getString(1));
+            fail("Exception never thrown, but expected");
+        } catch (final SQLException e) {
+            verify(prepStmt).close();
+            verify(conn).close();
+        }
+    }
+
+    @Test
+    public void testStreamFetchesRowsOnDemand() throws Exception {
+        when(results.next()).thenReturn(true);
+        when(results.getInt(1)).thenReturn(1, 2, 3);
+
+        try (Stream<Integer> stream = runner.stream(conn, "select * from blah", rs -> rs.getInt(1))) {
+            Assert.assertEquals(Arrays.asList(1, 2), stream.limit(2).collect(Collectors.toList()));
+        }
+
+        verify(results, times(2)).next();
+        verify(results).close();
+        verify(prepStmt).close();
+        verify(conn, never()).close();
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testStreamRethrowsMapperException() throws Exception {
+        when(results.next()).thenReturn(true);
+
+        try (Stream<Object> stream = runner.stream(conn, "select * from blah", rs -> {
+            throw new SQLException("failed");
+        })) {
+            stream.count();
+        }
+    }
+
     @Test
     public void testTooFewParamsBatch() throws Exception {
         final String[][] params = { { "unit" }, { "test" } };
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.apache.commons.dbutils.handlers.BeanMapHandler;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class StatementEventTest {
+
+    private static List<RecordedEvent> record(final Recording recording, final String name) throws Exception {
+        final Path file = Files.createTempFile("dbutils", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(name))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testBeanMapperEvents() throws Exception {
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(MockResultSetMetaData.create(new String[] {"one", "two"}));
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getString(1)).thenReturn("1", "3");
+        when(rs.getString(2)).thenReturn("2", "4");
+
+        final List<RecordedEvent> mappings;
+        try (Recording recording = new Recording()) {
+            recording.enable("dbutils.ResultMapping").withoutThreshold();
+            recording.start();
+            new BeanMapHandler<String, TestBean>(TestBean.class, "one").handle(rs);
+            recording.stop();
+            mappings = record(recording, "dbutils.ResultMapping");
+        }
+
+        assertEquals(2, mappings.size());
+        for (final RecordedEvent mapping : mappings) {
+            assertEquals(TestBean.class.getName(), mapping.getClass("beanType").getName());
+            assertEquals(1, mapping.getLong("rows"));
+            assertEquals(2, mapping.getInt("columns"));
+        }
+    }
+
+    @Test
+    public void testDisabledWithoutListenerOrRecording() {
+        assertNull(QueryExecution.start(null, QueryExecution.Operation.QUERY, "select 1", null));
+        assertNull(FlightRecorderEvents.beginMapping());
+    }
+
+    @Test
+    public void testFingerprint() {
+        assertEquals("select * from t1 where a = ? and b = ? and c_2 = ?",
+                StatementEvent.fingerprint("  select *\n  from t1\twhere a = 'it''s'  and b = 42.5 and c_2 = ?  "));
+    }
+
+    @Test
+    public void testQueryAndMappingEvents() throws Exception {
+        final Connection conn = mock(Connection.class);
+        final PreparedStatement stmt = mock(PreparedStatement.class);
+        final ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(MockResultSetMetaData.create(new String[] {"one", "two"}));
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getString(1)).thenReturn("1", "3");
+        when(rs.getString(2)).thenReturn("2", "4");
+        when(conn.prepareStatement("select one, two from blah where id = ?")).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+
+        final List<RecordedEvent> queries;
+        final List<RecordedEvent> mappings;
+        try (Recording recording = new Recording()) {
+            recording.enable("dbutils.Query").withoutThreshold();
+            recording.enable("dbutils.ResultMapping").withoutThreshold();
+            recording.start();
+            new QueryRunner(true).query(conn, "select one, two from blah where id = ?", new BeanListHandler<>(TestBean.class), 7);
+            recording.stop();
+            queries = record(recording, "dbutils.Query");
+            mappings = record(recording, "dbutils.ResultMapping");
+        }
+
+        assertEquals(1, queries.size());
+        final RecordedEvent query = queries.get(0);
+        assertEquals("select one, two from blah where id = ?", query.getString("sql"));
+        assertEquals("QUERY", query.getString("operation"));
+        assertEquals(BeanListHandler.class.getName(), query.getClass("handler").getName());
+        assertEquals(-1, query.getLong("rows"));
+        assertTrue(query.getDuration().toNanos() >= query.getLong("handle"));
+
+        assertEquals(1, mappings.size());
+        final RecordedEvent mapping = mappings.get(0);
+        assertEquals(TestBean.class.getName(), mapping.getClass("beanType").getName());
+        assertEquals(2, mapping.getLong("rows"));
+        assertEquals(2, mapping.getInt("columns"));
+    }
+
+    @Test
+    public void testBatchEvent() throws Exception {
+        final Connection conn = mock(Connection.class);
+        final PreparedStatement stmt = mock(PreparedStatement.class);
+        when(conn.prepareStatement("insert into blah values (?)")).thenReturn(stmt);
+        when(stmt.executeBatch()).thenReturn(new int[] {1, 1, 1});
+
+        final List<RecordedEvent> batches;
+        try (Recording recording = new Recording()) {
+            recording.enable("dbutils.Batch").withoutThreshold();
+            recording.start();
+            new QueryRunner(true).batch(conn, "insert into blah values (?)", new Object[][] {{1}, {2}, {3}});
+            recording.stop();
+            batches = record(recording, "dbutils.Batch");
+        }
+
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).getLong("batchSize"));
+        assertEquals(3, batches.get(0).getLong("rows"));
+    }
+}
@@ -16,12 +16,16 @@
  */
 package org.apache.commons.dbutils.handlers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.Map;
 
 import org.apache.commons.dbutils.RowProcessor;
@@ -29,6 +33,7 @@ import org.apache.commons.dbutils.TestBean;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -39,7 +44,7 @@ public class BeanMapHandlerTest {
     private Map<Long, TestBean> res;
     @Mock private ResultSet rs;
     @Mock private ResultSetMetaData rsmd;
-    @Mock private RowProcessor rp;
+    @Mock(answer = Answers.CALLS_REAL_METHODS) private RowProcessor rp;
 
     private void handle() throws Exception {
         res = bmh.handle(rs);
@@ -88,4 +93,35 @@ public class BeanMapHandlerTest {
         assertNull(res.get(Long.valueOf(23L)));
     }
 
+    @Test
+    public void testIntKeyed() throws Exception {
+        when(Integer.valueOf(rs.getInt(2))).thenReturn(Integer.valueOf(23));
+        bmh = new BeanMapHandler<>(TestBean.class, 2);
+        final IntKeyedMap<TestBean> beans = bmh.intKeyed(1).handle(rs);
+        assertEquals(1, beans.size());
+        assertNotNull(beans.get(23));
+    }
+
+    @Test
+    public void testIntKeyedRejectsNullKey() throws Exception {
+        when(Boolean.valueOf(rs.wasNull())).thenReturn(Boolean.TRUE);
+        bmh = new BeanMapHandler<>(TestBean.class, 2);
+        try {
+            bmh.intKeyed(1).handle(rs);
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("column 2"));
+        }
+    }
+
+    @Test
+    public void testLongKeyed() throws Exception {
+        when(Long.valueOf(rs.getLong("id"))).thenReturn(Long.valueOf(23L));
+        bmh = new BeanMapHandler<>(TestBean.class, "id");
+        final LongKeyedMap<TestBean> beans = bmh.longKeyed(1).handle(rs);
+        assertEquals(1, beans.size());
+        assertNotNull(beans.apply(23L));
+        assertNull(beans.get(0L));
+    }
+
 }
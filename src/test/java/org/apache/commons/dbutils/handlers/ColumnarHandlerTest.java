@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.Test;
+
+public class ColumnarHandlerTest {
+
+    private static final int ROWS = 40;
+
+    private static ResultSet resultSet(final int rows) throws SQLException {
+        final ResultSetMetaData rsmd = mock(ResultSetMetaData.class);
+        when(rsmd.getColumnCount()).thenReturn(4);
+        when(rsmd.getColumnLabel(1)).thenReturn("id");
+        when(rsmd.getColumnName(2)).thenReturn("total");
+        when(rsmd.getColumnLabel(3)).thenReturn("active");
+        when(rsmd.getColumnLabel(4)).thenReturn("name");
+        when(rsmd.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(rsmd.getColumnType(2)).thenReturn(Types.DOUBLE);
+        when(rsmd.getColumnType(3)).thenReturn(Types.BOOLEAN);
+        when(rsmd.getColumnType(4)).thenReturn(Types.VARCHAR);
+
+        final ResultSet rs = mock(ResultSet.class);
+        final int[] row = {-1};
+        final boolean[] wasNull = {false};
+        when(rs.getMetaData()).thenReturn(rsmd);
+        when(rs.next()).thenAnswer(invocation -> ++row[0] < rows);
+        when(rs.getLong(1)).thenAnswer(invocation -> (long) row[0]);
+        when(rs.getDouble(2)).thenAnswer(invocation -> {
+            wasNull[0] = row[0] % 3 == 0;
+            return wasNull[0] ? 0 : row[0] / 2.0;
+        });
+        when(rs.getBoolean(3)).thenAnswer(invocation -> row[0] % 2 == 0);
+        when(rs.getObject(4)).thenAnswer(invocation -> row[0] % 4 == 0 ? null : "n" + row[0]);
+        when(rs.wasNull()).thenAnswer(invocation -> {
+            final boolean result = wasNull[0];
+            wasNull[0] = false;
+            return result;
+        });
+        return rs;
+    }
+
+    @Test
+    public void testEmptyResultSetHandle() throws SQLException {
+        final Columns columns = new ColumnarHandler().handle(resultSet(0));
+
+        assertEquals(4, columns.getColumnCount());
+        assertEquals(0, columns.getRowCount());
+        assertEquals(0, columns.getLongs(1).length);
+        assertEquals(0, columns.getObjects(4).length);
+    }
+
+    @Test
+    public void testHandle() throws SQLException {
+        final Columns columns = new ColumnarHandler().handle(resultSet(ROWS));
+
+        assertEquals(ROWS, columns.getRowCount());
+        assertEquals("total", columns.getColumnLabel(2));
+        assertEquals(Types.BOOLEAN, columns.getColumnType(3));
+        assertEquals(4, columns.findColumn("NAME"));
+
+        final long[] ids = columns.getLongs(1);
+        final double[] totals = columns.getDoubles(2);
+        final boolean[] active = columns.getBooleans(3);
+        final Object[] names = columns.getObjects(4);
+        assertEquals(ROWS, ids.length);
+        assertEquals(ROWS, names.length);
+        for (int row = 0; row < ROWS; row++) {
+            assertEquals(row, ids[row]);
+            assertFalse(columns.isNull(1, row));
+            assertEquals(row % 3 == 0, columns.isNull(2, row));
+            assertEquals(row % 3 == 0 ? 0 : row / 2.0, totals[row], 0);
+            assertEquals(row % 2 == 0, active[row]);
+            assertEquals(row % 4 == 0, columns.isNull(4, row));
+            assertEquals(row % 4 == 0 ? null : "n" + row, names[row]);
+        }
+        assertEquals(Long.valueOf(7), columns.getObject(1, 7));
+        assertNull(columns.getObject(2, 3));
+        assertEquals(Double.valueOf(2.5), columns.getObject(2, 5));
+        assertEquals(Boolean.TRUE, columns.getObject(3, 2));
+    }
+
+    @Test
+    public void testGrowCapsCapacity() throws SQLException {
+        assertEquals(32, ColumnarHandler.grow(16));
+        assertEquals(Integer.MAX_VALUE - 8, ColumnarHandler.grow(1 << 30));
+        try {
+            ColumnarHandler.grow(Integer.MAX_VALUE - 8);
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            assertTrue(e.getMessage().contains("Too many rows"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownColumn() throws SQLException {
+        new ColumnarHandler().handle(resultSet(1)).findColumn("missing");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongArrayType() throws SQLException {
+        new ColumnarHandler().handle(resultSet(1)).getInts(1);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+
+public class DoubleScalarHandlerTest extends BaseTestCase {
+
+    public void testColumnIndexHandle() throws SQLException {
+        final ResultSetHandler<Double> h = new DoubleScalarHandler(6);
+        assertEquals(Double.valueOf(2.0), h.handle(this.rs));
+    }
+
+    public void testColumnNameHandle() throws SQLException {
+        final ResultSetHandler<Double> h = new DoubleScalarHandler("intTest");
+        assertEquals(Double.valueOf(1.0), h.handle(this.rs));
+    }
+
+    public void testEmptyResultSetHandle() throws SQLException {
+        final ResultSetHandler<Double> h = new DoubleScalarHandler();
+        assertNull(h.handle(this.emptyResultSet));
+    }
+
+    public void testHandle() throws SQLException {
+        final ResultSetHandler<Double> h = new DoubleScalarHandler();
+        assertEquals(Double.valueOf(1.0), h.handle(this.rs));
+    }
+
+    public void testHandlePrimitive() throws SQLException {
+        assertEquals(1.0, new DoubleScalarHandler().handleDouble(this.rs), 0.0);
+        assertEquals(-1.0, new DoubleScalarHandler(1, -1.0).handleDouble(this.emptyResultSet), 0.0);
+        assertEquals(-1.0, new DoubleScalarHandler("nullPrimitiveTest", -1.0).handleDouble(this.rs), 0.0);
+    }
+
+    public void testNullValueHandle() throws SQLException {
+        assertEquals(Double.valueOf(0.0), new DoubleScalarHandler("nullPrimitiveTest").handle(this.rs));
+        assertEquals(Double.valueOf(-1.0), new DoubleScalarHandler("nullPrimitiveTest", -1.0).handle(this.rs));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+
+public class IntColumnArrayHandlerTest extends BaseTestCase {
+
+    public void testColumnIndexHandle() throws SQLException {
+        final ResultSetHandler<int[]> h = new IntColumnArrayHandler(6);
+        assertTrue(Arrays.equals(new int[] {2, 4}, h.handle(this.rs)));
+    }
+
+    public void testColumnNameHandle() throws SQLException {
+        final ResultSetHandler<int[]> h = new IntColumnArrayHandler("intTest");
+        assertTrue(Arrays.equals(new int[] {1, 3}, h.handle(this.rs)));
+    }
+
+    public void testEmptyResultSetHandle() throws SQLException {
+        final ResultSetHandler<int[]> h = new IntColumnArrayHandler();
+        assertEquals(0, h.handle(this.emptyResultSet).length);
+    }
+
+    public void testHandle() throws SQLException {
+        final ResultSetHandler<int[]> h = new IntColumnArrayHandler();
+        assertTrue(Arrays.equals(new int[] {1, 4}, h.handle(this.rs)));
+    }
+
+    public void testNullValueHandle() throws SQLException {
+        final ResultSetHandler<int[]> h = new IntColumnArrayHandler("nullPrimitiveTest", -1);
+        assertTrue(Arrays.equals(new int[] {-1, -1}, h.handle(this.rs)));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IntKeyedMapTest {
+
+    @Test
+    public void testEmpty() {
+        final IntKeyedMap<String> map = new IntKeyedMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertFalse(map.containsKey(1));
+        assertEquals(0, map.keys().length);
+    }
+
+    @Test
+    public void testPut() {
+        final IntKeyedMap<String> map = new IntKeyedMap<>(2);
+        assertNull(map.put(0, "zero"));
+        assertNull(map.put(Integer.MIN_VALUE, "min"));
+        assertNull(map.put(-1, "minus one"));
+        assertEquals("zero", map.put(0, "0"));
+
+        assertEquals(3, map.size());
+        assertEquals("0", map.apply(0));
+        assertEquals("minus one", map.get(-1));
+        final int[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 0}, keys);
+    }
+
+    @Test
+    public void testRandomKeys() {
+        final Random random = new Random(42);
+        final Map<Integer, Object> expected = new HashMap<>();
+        final IntKeyedMap<Object> map = new IntKeyedMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            final int key = i % 3 == 0 ? random.nextInt(1000) : random.nextInt();
+            final Object value = new Object();
+            assertSame(expected.put(Integer.valueOf(key), value), map.put(key, value));
+        }
+        assertEquals(expected.size(), map.size());
+        for (final Map.Entry<Integer, Object> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), map.get(entry.getKey().intValue()));
+        }
+    }
+}
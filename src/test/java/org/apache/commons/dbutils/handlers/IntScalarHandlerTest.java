@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+
+public class IntScalarHandlerTest extends BaseTestCase {
+
+    public void testColumnIndexHandle() throws SQLException {
+        final ResultSetHandler<Integer> h = new IntScalarHandler(6);
+        assertEquals(Integer.valueOf(2), h.handle(this.rs));
+    }
+
+    public void testColumnNameHandle() throws SQLException {
+        final ResultSetHandler<Integer> h = new IntScalarHandler("intTest");
+        assertEquals(Integer.valueOf(1), h.handle(this.rs));
+    }
+
+    public void testEmptyResultSetHandle() throws SQLException {
+        final ResultSetHandler<Integer> h = new IntScalarHandler();
+        assertNull(h.handle(this.emptyResultSet));
+    }
+
+    public void testHandle() throws SQLException {
+        final ResultSetHandler<Integer> h = new IntScalarHandler();
+        assertEquals(Integer.valueOf(1), h.handle(this.rs));
+    }
+
+    public void testHandlePrimitive() throws SQLException {
+        assertEquals(1, new IntScalarHandler().handleInt(this.rs));
+        assertEquals(-1, new IntScalarHandler(1, -1).handleInt(this.emptyResultSet));
+        assertEquals(-1, new IntScalarHandler("nullPrimitiveTest", -1).handleInt(this.rs));
+    }
+
+    public void testNullValueHandle() throws SQLException {
+        assertEquals(Integer.valueOf(0), new IntScalarHandler("nullPrimitiveTest").handle(this.rs));
+        assertEquals(Integer.valueOf(-1), new IntScalarHandler("nullPrimitiveTest", -1).handle(this.rs));
+    }
+}
@@ -16,8 +16,10 @@
  */
 package org.apache.commons.dbutils.handlers;
 
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -103,7 +105,7 @@ public class KeyedHandlerTest extends BaseTestCase {
     }
 
     public void testInjectedRowProcess() throws Exception {
-        final RowProcessor mockProc = mock(RowProcessor.class);
+        final RowProcessor mockProc = mock(RowProcessor.class, CALLS_REAL_METHODS);
         final ResultSetHandler<Map<String,Map<String,Object>>> h = new KeyedHandler<>(mockProc);
         final Map<String,Map<String,Object>> results = h.handle(this.rs);
 
@@ -119,4 +121,49 @@ public class KeyedHandlerTest extends BaseTestCase {
             assertEquals(0, row.size());
         }
     }
+
+    public void testIntKeyedColumnName() throws SQLException {
+        final IntKeyedMap<Map<String,Object>> results = new KeyedHandler<Integer>("intTest").intKeyed(0).handle(this.rs);
+
+        assertEquals(ROWS, results.size());
+        assertEquals("4", results.get(3).get("one"));
+        assertEquals("SIX", results.get(3).get("Three"));
+    }
+
+    public void testLongKeyed() throws SQLException {
+        final LongKeyedMap<Map<String,Object>> results = new KeyedHandler<Long>().longKeyed(ROWS).handle(this.rs);
+
+        assertEquals(ROWS, results.size());
+        assertEquals("2", results.get(1).get("TWO"));
+        assertEquals("SIX", results.get(4).get("three"));
+        assertNull(results.get(2));
+    }
+
+    public void testLongKeyedWithOverriddenCreateKey() throws SQLException {
+        final KeyedHandler<Long> h = new KeyedHandler<Long>() {
+            @Override
+            protected Long createKey(final ResultSet rs) throws SQLException {
+                return Long.valueOf(rs.getLong(1) * 10);
+            }
+        };
+        final LongKeyedMap<Map<String,Object>> results = h.longKeyed(ROWS).handle(this.rs);
+
+        assertEquals(ROWS, results.size());
+        assertEquals("5", results.get(40).get("two"));
+        assertNull(results.get(4));
+    }
+
+    public void testLongKeyedRejectsNullKey() {
+        try {
+            new KeyedHandler<Long>("nullPrimitiveTest").longKeyed(ROWS).handle(this.rs);
+            fail("Exception expected");
+        } catch (final SQLException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("nullPrimitiveTest"));
+        }
+    }
+
+    public void testLongKeyedEmptyResultSet() throws SQLException {
+        final LongKeyedMap<Map<String,Object>> results = new KeyedHandler<Long>().longKeyed(ROWS).handle(this.emptyResultSet);
+        assertTrue(results.isEmpty());
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+
+public class LongColumnArrayHandlerTest extends BaseTestCase {
+
+    public void testColumnIndexHandle() throws SQLException {
+        final ResultSetHandler<long[]> h = new LongColumnArrayHandler(6);
+        assertTrue(Arrays.equals(new long[] {2L, 4L}, h.handle(this.rs)));
+    }
+
+    public void testColumnNameHandle() throws SQLException {
+        final ResultSetHandler<long[]> h = new LongColumnArrayHandler("intTest");
+        assertTrue(Arrays.equals(new long[] {1L, 3L}, h.handle(this.rs)));
+    }
+
+    public void testEmptyResultSetHandle() throws SQLException {
+        final ResultSetHandler<long[]> h = new LongColumnArrayHandler();
+        assertEquals(0, h.handle(this.emptyResultSet).length);
+    }
+
+    public void testHandle() throws SQLException {
+        final ResultSetHandler<long[]> h = new LongColumnArrayHandler();
+        assertTrue(Arrays.equals(new long[] {1L, 4L}, h.handle(this.rs)));
+    }
+
+    public void testNullValueHandle() throws SQLException {
+        final ResultSetHandler<long[]> h = new LongColumnArrayHandler("nullPrimitiveTest", -1L);
+        assertTrue(Arrays.equals(new long[] {-1L, -1L}, h.handle(this.rs)));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongKeyedMapTest {
+
+    @Test
+    public void testCapacity() {
+        assertEquals(16, LongKeyedMap.capacity(0));
+        assertEquals(16, LongKeyedMap.capacity(8));
+        assertEquals(32, LongKeyedMap.capacity(9));
+        assertEquals(1 << 22, LongKeyedMap.capacity(2_000_000));
+        assertEquals(1 << 30, LongKeyedMap.capacity(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testEmpty() {
+        final LongKeyedMap<String> map = new LongKeyedMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(-1));
+        assertEquals(0, map.keys().length);
+        assertEquals("{}", map.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeExpectedSize() {
+        new LongKeyedMap<String>(-1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue() {
+        new LongKeyedMap<String>().put(1, null);
+    }
+
+    @Test
+    public void testPut() {
+        final LongKeyedMap<String> map = new LongKeyedMap<>(2);
+        assertNull(map.put(0, "zero"));
+        assertNull(map.put(Long.MIN_VALUE, "min"));
+        assertNull(map.put(-1, "minus one"));
+        assertEquals("zero", map.put(0, "0"));
+        assertEquals("minus one", map.put(-1, "-1"));
+
+        assertEquals(3, map.size());
+        assertEquals("0", map.get(0));
+        assertEquals("-1", map.apply(-1));
+        assertTrue(map.containsKey(Long.MIN_VALUE));
+        assertFalse(map.containsKey(1));
+        final long[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new long[] {Long.MIN_VALUE, -1, 0}, keys);
+        assertEquals("{" + Long.MIN_VALUE + "=min, -1=-1, 0=0}", map.toString());
+    }
+
+    @Test
+    public void testRandomKeys() {
+        final Random random = new Random(42);
+        final Map<Long, Object> expected = new HashMap<>();
+        final LongKeyedMap<Object> map = new LongKeyedMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            final long key = i % 3 == 0 ? random.nextInt(1000) : random.nextLong();
+            final Object value = new Object();
+            assertSame(expected.put(Long.valueOf(key), value), map.put(key, value));
+        }
+        assertEquals(expected.size(), map.size());
+        for (final Map.Entry<Long, Object> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), map.get(entry.getKey().longValue()));
+        }
+        assertEquals(expected.size(), map.keys().length);
+        assertNull(map.get(1000));
+    }
+
+    @Test
+    public void testSequentialKeys() {
+        final LongKeyedMap<Long> map = new LongKeyedMap<>(1000);
+        for (long key = 1; key <= 100_000; key++) {
+            map.put(key << 32, Long.valueOf(key));
+        }
+        assertEquals(100_000, map.size());
+        for (long key = 1; key <= 100_000; key++) {
+            assertEquals(Long.valueOf(key), map.get(key << 32));
+            assertNull(map.get(key));
+        }
+    }
+}
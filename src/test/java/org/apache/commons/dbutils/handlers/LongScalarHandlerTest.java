@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers;
+
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.BaseTestCase;
+import org.apache.commons.dbutils.ResultSetHandler;
+
+public class LongScalarHandlerTest extends BaseTestCase {
+
+    public void testColumnIndexHandle() throws SQLException {
+        final ResultSetHandler<Long> h = new LongScalarHandler(6);
+        assertEquals(Long.valueOf(2L), h.handle(this.rs));
+    }
+
+    public void testColumnNameHandle() throws SQLException {
+        final ResultSetHandler<Long> h = new LongScalarHandler("intTest");
+        assertEquals(Long.valueOf(1L), h.handle(this.rs));
+    }
+
+    public void testEmptyResultSetHandle() throws SQLException {
+        final ResultSetHandler<Long> h = new LongScalarHandler();
+        assertNull(h.handle(this.emptyResultSet));
+    }
+
+    public void testHandle() throws SQLException {
+        final ResultSetHandler<Long> h = new LongScalarHandler();
+        assertEquals(Long.valueOf(1L), h.handle(this.rs));
+    }
+
+    public void testHandlePrimitive() throws SQLException {
+        assertEquals(1L, new LongScalarHandler().handleLong(this.rs));
+        assertEquals(-1L, new LongScalarHandler(1, -1L).handleLong(this.emptyResultSet));
+        assertEquals(-1L, new LongScalarHandler("nullPrimitiveTest", -1L).handleLong(this.rs));
+    }
+
+    public void testNullValueHandle() throws SQLException {
+        assertEquals(Long.valueOf(0L), new LongScalarHandler("nullPrimitiveTest").handle(this.rs));
+        assertEquals(Long.valueOf(-1L), new LongScalarHandler("nullPrimitiveTest", -1L).handle(this.rs));
+    }
+}
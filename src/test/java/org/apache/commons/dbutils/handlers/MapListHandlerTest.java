@@ -16,7 +16,9 @@
  */
 package org.apache.commons.dbutils.handlers;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +39,19 @@ public class MapListHandlerTest extends BaseTestCase {
         assertTrue(results.isEmpty());
     }
 
+    public void testHandleRowOverride() throws SQLException {
+        final ResultSetHandler<List<Map<String,Object>>> h = new MapListHandler() {
+            @Override
+            protected Map<String, Object> handleRow(final ResultSet resultSet) throws SQLException {
+                return Collections.singletonMap("one", resultSet.getObject(1));
+            }
+        };
+        final List<Map<String,Object>> results = h.handle(this.rs);
+
+        assertEquals(ROWS, results.size());
+        assertEquals(Collections.singletonMap("one", "4"), results.get(1));
+    }
+
     public void testHandle() throws SQLException {
         final ResultSetHandler<List<Map<String,Object>>> h = new MapListHandler();
         final List<Map<String,Object>> results = h.handle(this.rs);
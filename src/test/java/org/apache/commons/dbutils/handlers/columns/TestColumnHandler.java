@@ -18,18 +18,37 @@ package org.apache.commons.dbutils.handlers.columns;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Locale;
 
 import org.apache.commons.dbutils.ColumnHandler;
 
-public class TestColumnHandler implements ColumnHandler<Object> {
+public class TestColumnHandler implements ColumnHandler<TestColumnHandler.Upper> {
+
+    /**
+     * A value only this handler converts to.
+     */
+    public static final class Upper {
+
+        private final String value;
+
+        public Upper(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+    }
 
     @Override
-    public Object apply(final ResultSet rs, final int columnIndex) throws SQLException {
-        return null;
+    public Upper apply(final ResultSet rs, final int columnIndex) throws SQLException {
+        // fails on SQL NULL, which handlers outside DbUtils are never passed
+        return new Upper(rs.getString(columnIndex).toUpperCase(Locale.ROOT));
     }
 
     @Override
     public boolean match(final Class<?> propType) {
-        return false;
+        return propType.equals(Upper.class);
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.handlers.parameters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.PreparedStatement;
+
+import org.apache.commons.dbutils.ParameterBinder;
+import org.junit.Test;
+import org.mockito.Mock;
+
+public abstract class AbstractTestParameterBinder<T> {
+
+    @Mock
+    protected PreparedStatement stmt;
+    protected final ParameterBinder<T> binder;
+    protected final Class<?> matchingType;
+
+    public AbstractTestParameterBinder(final ParameterBinder<T> binder, final Class<?> matchingType) {
+        this.binder = binder;
+        this.matchingType = matchingType;
+    }
+
+    @Test
+    public abstract void testBind() throws Exception;
+
+    @Test
+    public void testMatch() {
+        assertTrue(binder.match(matchingType));
+    }
+
+    @Test
+    public void testMatchNegative() {
+        assertFalse(binder.match(Object.class));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.jmh;
+
+import java.sql.ParameterMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+
+/**
+ * {@code ParameterMetaData} for an {@link ArrayPreparedStatement}, which
+ * reports every parameter as a {@code VARCHAR}.  Anything else throws
+ * {@code SQLFeatureNotSupportedException}.
+ */
+public final class ArrayParameterMetaData implements ParameterMetaData {
+
+    private final int parameterCount;
+
+    /**
+     * Creates metadata for the given number of parameters.
+     *
+     * @param parameterCount The number of parameters.
+     */
+    public ArrayParameterMetaData(final int parameterCount) {
+        this.parameterCount = parameterCount;
+    }
+
+    @Override
+    public String getParameterClassName(final int parameterIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getParameterCount() throws SQLException {
+        return parameterCount;
+    }
+
+    @Override
+    public int getParameterMode(final int parameterIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getParameterType(final int parameterIndex) throws SQLException {
+        return Types.VARCHAR;
+    }
+
+    @Override
+    public String getParameterTypeName(final int parameterIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getPrecision(final int parameterIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getScale(final int parameterIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int isNullable(final int intValue) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public boolean isSigned(final int intValue) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> type) throws SQLException {
+        return type.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> type) throws SQLException {
+        if (isWrapperFor(type)) {
+            return type.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + type.getName());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.jmh;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbutils.BeanProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reflective and compiled bean setters when mapping rows to a
+ * {@link WideBean}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BeanProcessorBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"10", "50"})
+    public int columns;
+
+    private final BeanProcessor compiled = new BeanProcessor(new HashMap<>(), true);
+
+    private final BeanProcessor reflective = new BeanProcessor();
+
+    private ArrayResultSet resultSet;
+
+    @Benchmark
+    public List<WideBean> compiledSetters() throws SQLException {
+        resultSet.beforeFirst();
+        return compiled.toBeanList(resultSet, WideBean.class);
+    }
+
+    @Benchmark
+    public List<WideBean> reflectiveSetters() throws SQLException {
+        resultSet.beforeFirst();
+        return reflective.toBeanList(resultSet, WideBean.class);
+    }
+
+    @Setup
+    public void setUp() {
+        resultSet = WideBean.resultSet(columns, ROWS, false);
+    }
+}
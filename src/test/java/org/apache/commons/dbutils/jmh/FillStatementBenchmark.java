@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.jmh;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code AbstractQueryRunner.fillStatement} binding parameters of
+ * mixed types, every fifth of them {@code null}, with and without asking the
+ * statement for its {@code ParameterMetaData}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FillStatementBenchmark {
+
+    private static final int NULL_EVERY = 5;
+
+    @Param({"1", "10", "50"})
+    public int parameters;
+
+    private Object[] params;
+
+    private final QueryRunner pmdKnownBroken = new QueryRunner(true);
+
+    private final QueryRunner queryRunner = new QueryRunner();
+
+    private ArrayPreparedStatement statement;
+
+    @Benchmark
+    public ArrayPreparedStatement fillStatement() throws SQLException {
+        queryRunner.fillStatement(statement, params);
+        return statement;
+    }
+
+    @Benchmark
+    public ArrayPreparedStatement fillStatementPmdKnownBroken() throws SQLException {
+        pmdKnownBroken.fillStatement(statement, params);
+        return statement;
+    }
+
+    @Setup
+    public void setUp() {
+        statement = new ArrayPreparedStatement(parameters);
+        params = new Object[parameters];
+        for (int i = 0; i < parameters; i++) {
+            params[i] = i % NULL_EVERY == NULL_EVERY - 1 ? null : WideBean.value(i, i);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.jmh;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.handlers.ArrayHandler;
+import org.apache.commons.dbutils.handlers.ArrayListHandler;
+import org.apache.commons.dbutils.handlers.BeanHandler;
+import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.apache.commons.dbutils.handlers.BeanMapHandler;
+import org.apache.commons.dbutils.handlers.ColumnListHandler;
+import org.apache.commons.dbutils.handlers.KeyedHandler;
+import org.apache.commons.dbutils.handlers.MapHandler;
+import org.apache.commons.dbutils.handlers.MapListHandler;
+import org.apache.commons.dbutils.handlers.ScalarHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures each {@link ResultSetHandler} in
+ * {@code org.apache.commons.dbutils.handlers} handling a whole result set,
+ * for varying numbers of columns and rows.  Keyed handlers use the first
+ * column, whose values are unique.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HandlersBenchmark {
+
+    @Param({"5", "20", "50"})
+    public int columns;
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private final ArrayHandler arrayHandler = new ArrayHandler();
+
+    private final ArrayListHandler arrayListHandler = new ArrayListHandler();
+
+    private final BeanHandler<WideBean> beanHandler = new BeanHandler<>(WideBean.class);
+
+    private final BeanListHandler<WideBean> beanListHandler = new BeanListHandler<>(WideBean.class);
+
+    private final BeanMapHandler<Integer, WideBean> beanMapHandler = new BeanMapHandler<>(WideBean.class);
+
+    private final ColumnListHandler<Integer> columnListHandler = new ColumnListHandler<>();
+
+    private final KeyedHandler<Integer> keyedHandler = new KeyedHandler<>();
+
+    private final MapHandler mapHandler = new MapHandler();
+
+    private final MapListHandler mapListHandler = new MapListHandler();
+
+    private ArrayResultSet resultSet;
+
+    private final ScalarHandler<Integer> scalarHandler = new ScalarHandler<>();
+
+    @Benchmark
+    public Object[] arrayHandler() throws SQLException {
+        return handle(arrayHandler);
+    }
+
+    @Benchmark
+    public List<Object[]> arrayListHandler() throws SQLException {
+        return handle(arrayListHandler);
+    }
+
+    @Benchmark
+    public WideBean beanHandler() throws SQLException {
+        return handle(beanHandler);
+    }
+
+    @Benchmark
+    public List<WideBean> beanListHandler() throws SQLException {
+        return handle(beanListHandler);
+    }
+
+    @Benchmark
+    public Map<Integer, WideBean> beanMapHandler() throws SQLException {
+        return handle(beanMapHandler);
+    }
+
+    @Benchmark
+    public List<Integer> columnListHandler() throws SQLException {
+        return handle(columnListHandler);
+    }
+
+    private <T> T handle(final ResultSetHandler<T> handler) throws SQLException {
+        resultSet.beforeFirst();
+        return handler.handle(resultSet);
+    }
+
+    @Benchmark
+    public Map<Integer, Map<String, Object>> keyedHandler() throws SQLException {
+        return handle(keyedHandler);
+    }
+
+    @Benchmark
+    public Map<String, Object> mapHandler() throws SQLException {
+        return handle(mapHandler);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> mapListHandler() throws SQLException {
+        return handle(mapListHandler);
+    }
+
+    @Benchmark
+    public Integer scalarHandler() throws SQLException {
+        return handle(scalarHandler);
+    }
+
+    @Setup
+    public void setUp() {
+        resultSet = WideBean.resultSet(columns, rows, false);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.jmh;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbutils.BasicRowProcessor;
+import org.apache.commons.dbutils.GenerousBeanProcessor;
+import org.apache.commons.dbutils.RowProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link RowProcessor} conversions over every row of a result
+ * set, for varying numbers of columns and rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RowProcessorBenchmark {
+
+    @Param({"5", "20", "50"})
+    public int columns;
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private final RowProcessor basic = new BasicRowProcessor();
+
+    private final RowProcessor generous = new BasicRowProcessor(new GenerousBeanProcessor());
+
+    private ArrayResultSet resultSet;
+
+    private ArrayResultSet underscoredResultSet;
+
+    @Setup
+    public void setUp() {
+        resultSet = WideBean.resultSet(columns, rows, false);
+        underscoredResultSet = WideBean.resultSet(columns, rows, true);
+    }
+
+    @Benchmark
+    public void toArray(final Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(basic.toArray(resultSet));
+        }
+    }
+
+    @Benchmark
+    public void toBean(final Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(basic.toBean(resultSet, WideBean.class));
+        }
+    }
+
+    @Benchmark
+    public List<WideBean> toBeanList() throws SQLException {
+        resultSet.beforeFirst();
+        return basic.toBeanList(resultSet, WideBean.class);
+    }
+
+    @Benchmark
+    public List<WideBean> toBeanListGenerous() throws SQLException {
+        underscoredResultSet.beforeFirst();
+        return generous.toBeanList(underscoredResultSet, WideBean.class);
+    }
+
+    @Benchmark
+    public void toMap(final Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(basic.toMap(resultSet));
+        }
+    }
+}
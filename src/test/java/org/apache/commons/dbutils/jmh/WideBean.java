@@ -0,0 +1,576 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.dbutils.jmh;
+
+/**
+ * A bean with {@value #PROPERTIES} properties named {@code c01} to {@code c50}
+ * whose types cycle through {@code int}, {@code long}, {@code double},
+ * {@code String} and {@code boolean}.
+ */
+public class WideBean {
+
+    /**
+     * The number of properties.
+     */
+    public static final int PROPERTIES = 50;
+
+    /**
+     * Creates a result set with the first {@code columns} properties of this
+     * bean as columns, labeled {@code c01}, {@code c02} and so on, or
+     * {@code c_01}, {@code c_02} and so on for {@code GenerousBeanProcessor}.
+     *
+     * @param columns The number of columns.
+     * @param rows The number of rows.
+     * @param underscores Whether to put an underscore in the column labels.
+     * @return The result set, positioned before its first row.
+     */
+    public static ArrayResultSet resultSet(final int columns, final int rows, final boolean underscores) {
+        final String[] labels = new String[columns];
+        for (int column = 0; column < columns; column++) {
+            labels[column] = String.format(underscores ? "c_%02d" : "c%02d", column + 1);
+        }
+        final Object[][] values = new Object[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                values[row][column] = value(column, row);
+            }
+        }
+        return new ArrayResultSet(labels, values);
+    }
+
+    /**
+     * Creates a value for a column, matching the type of its property.
+     *
+     * @param column The zero-based column index.
+     * @param row The zero-based row index.
+     * @return The value.
+     */
+    public static Object value(final int column, final int row) {
+        switch (column % 5) {
+        case 0:
+            return Integer.valueOf(row);
+        case 1:
+            return Long.valueOf(row);
+        case 2:
+            return Double.valueOf(row);
+        case 3:
+            return "row " + row;
+        default:
+            return Boolean.valueOf(row % 2 == 0);
+        }
+    }
+
+    private int c01;
+
+    private long c02;
+
+    private double c03;
+
+    private String c04;
+
+    private boolean c05;
+
+    private int c06;
+
+    private long c07;
+
+    private double c08;
+
+    private String c09;
+
+    private boolean c10;
+
+    private int c11;
+
+    private long c12;
+
+    private double c13;
+
+    private String c14;
+
+    private boolean c15;
+
+    private int c16;
+
+    private long c17;
+
+    private double c18;
+
+    private String c19;
+
+    private boolean c20;
+
+    private int c21;
+
+    private long c22;
+
+    private double c23;
+
+    private String c24;
+
+    private boolean c25;
+
+    private int c26;
+
+    private long c27;
+
+    private double c28;
+
+    private String c29;
+
+    private boolean c30;
+
+    private int c31;
+
+    private long c32;
+
+    private double c33;
+
+    private String c34;
+
+    private boolean c35;
+
+    private int c36;
+
+    private long c37;
+
+    private double c38;
+
+    private String c39;
+
+    private boolean c40;
+
+    private int c41;
+
+    private long c42;
+
+    private double c43;
+
+    private String c44;
+
+    private boolean c45;
+
+    private int c46;
+
+    private long c47;
+
+    private double c48;
+
+    private String c49;
+
+    private boolean c50;
+
+    public int getC01() {
+        return c01;
+    }
+
+    public long getC02() {
+        return c02;
+    }
+
+    public double getC03() {
+        return c03;
+    }
+
+    public String getC04() {
+        return c04;
+    }
+
+    public boolean isC05() {
+        return c05;
+    }
+
+    public int getC06() {
+        return c06;
+    }
+
+    public long getC07() {
+        return c07;
+    }
+
+    public double getC08() {
+        return c08;
+    }
+
+    public String getC09() {
+        return c09;
+    }
+
+    public boolean isC10() {
+        return c10;
+    }
+
+    public int getC11() {
+        return c11;
+    }
+
+    public long getC12() {
+        return c12;
+    }
+
+    public double getC13() {
+        return c13;
+    }
+
+    public String getC14() {
+        return c14;
+    }
+
+    public boolean isC15() {
+        return c15;
+    }
+
+    public int getC16() {
+        return c16;
+    }
+
+    public long getC17() {
+        return c17;
+    }
+
+    public double getC18() {
+        return c18;
+    }
+
+    public String getC19() {
+        return c19;
+    }
+
+    public boolean isC20() {
+        return c20;
+    }
+
+    public int getC21() {
+        return c21;
+    }
+
+    public long getC22() {
+        return c22;
+    }
+
+    public double getC23() {
+        return c23;
+    }
+
+    public String getC24() {
+        return c24;
+    }
+
+    public boolean isC25() {
+        return c25;
+    }
+
+    public int getC26() {
+        return c26;
+    }
+
+    public long getC27() {
+        return c27;
+    }
+
+    public double getC28() {
+        return c28;
+    }
+
+    public String getC29() {
+        return c29;
+    }
+
+    public boolean isC30() {
+        return c30;
+    }
+
+    public int getC31() {
+        return c31;
+    }
+
+    public long getC32() {
+        return c32;
+    }
+
+    public double getC33() {
+        return c33;
+    }
+
+    public String getC34() {
+        return c34;
+    }
+
+    public boolean isC35() {
+        return c35;
+    }
+
+    public int getC36() {
+        return c36;
+    }
+
+    public long getC37() {
+        return c37;
+    }
+
+    public double getC38() {
+        return c38;
+    }
+
+    public String getC39() {
+        return c39;
+    }
+
+    public boolean isC40() {
+        return c40;
+    }
+
+    public int getC41() {
+        return c41;
+    }
+
+    public long getC42() {
+        return c42;
+    }
+
+    public double getC43() {
+        return c43;
+    }
+
+    public String getC44() {
+        return c44;
+    }
+
+    public boolean isC45() {
+        return c45;
+    }
+
+    public int getC46() {
+        return c46;
+    }
+
+    public long getC47() {
+        return c47;
+    }
+
+    public double getC48() {
+        return c48;
+    }
+
+    public String getC49() {
+        return c49;
+    }
+
+    public boolean isC50() {
+        return c50;
+    }
+
+    public void setC01(final int c01) {
+        this.c01 = c01;
+    }
+
+    public void setC02(final long c02) {
+        this.c02 = c02;
+    }
+
+    public void setC03(final double c03) {
+        this.c03 = c03;
+    }
+
+    public void setC04(final String c04) {
+        this.c04 = c04;
+    }
+
+    public void setC05(final boolean c05) {
+        this.c05 = c05;
+    }
+
+    public void setC06(final int c06) {
+        this.c06 = c06;
+    }
+
+    public void setC07(final long c07) {
+        this.c07 = c07;
+    }
+
+    public void setC08(final double c08) {
+        this.c08 = c08;
+    }
+
+    public void setC09(final String c09) {
+        this.c09 = c09;
+    }
+
+    public void setC10(final boolean c10) {
+        this.c10 = c10;
+    }
+
+    public void setC11(final int c11) {
+        this.c11 = c11;
+    }
+
+    public void setC12(final long c12) {
+        this.c12 = c12;
+    }
+
+    public void setC13(final double c13) {
+        this.c13 = c13;
+    }
+
+    public void setC14(final String c14) {
+        this.c14 = c14;
+    }
+
+    public void setC15(final boolean c15) {
+        this.c15 = c15;
+    }
+
+    public void setC16(final int c16) {
+        this.c16 = c16;
+    }
+
+    public void setC17(final long c17) {
+        this.c17 = c17;
+    }
+
+    public void setC18(final double c18) {
+        this.c18 = c18;
+    }
+
+    public void setC19(final String c19) {
+        this.c19 = c19;
+    }
+
+    public void setC20(final boolean c20) {
+        this.c20 = c20;
+    }
+
+    public void setC21(final int c21) {
+        this.c21 = c21;
+    }
+
+    public void setC22(final long c22) {
+        this.c22 = c22;
+    }
+
+    public void setC23(final double c23) {
+        this.c23 = c23;
+    }
+
+    public void setC24(final String c24) {
+        this.c24 = c24;
+    }
+
+    public void setC25(final boolean c25) {
+        this.c25 = c25;
+    }
+
+    public void setC26(final int c26) {
+        this.c26 = c26;
+    }
+
+    public void setC27(final long c27) {
+        this.c27 = c27;
+    }
+
+    public void setC28(final double c28) {
+        this.c28 = c28;
+    }
+
+    public void setC29(final String c29) {
+        this.c29 = c29;
+    }
+
+    public void setC30(final boolean c30) {
+        this.c30 = c30;
+    }
+
+    public void setC31(final int c31) {
+        this.c31 = c31;
+    }
+
+    public void setC32(final long c32) {
+        this.c32 = c32;
+    }
+
+    public void setC33(final double c33) {
+        this.c33 = c33;
+    }
+
+    public void setC34(final String c34) {
+        this.c34 = c34;
+    }
+
+    public void setC35(final boolean c35) {
+        this.c35 = c35;
+    }
+
+    public void setC36(final int c36) {
+        this.c36 = c36;
+    }
+
+    public void setC37(final long c37) {
+        this.c37 = c37;
+    }
+
+    public void setC38(final double c38) {
+        this.c38 = c38;
+    }
+
+    public void setC39(final String c39) {
+        this.c39 = c39;
+    }
+
+    public void setC40(final boolean c40) {
+        this.c40 = c40;
+    }
+
+    public void setC41(final int c41) {
+        this.c41 = c41;
+    }
+
+    public void setC42(final long c42) {
+        this.c42 = c42;
+    }
+
+    public void setC43(final double c43) {
+        this.c43 = c43;
+    }
+
+    public void setC44(final String c44) {
+        this.c44 = c44;
+    }
+
+    public void setC45(final boolean c45) {
+        this.c45 = c45;
+    }
+
+    public void setC46(final int c46) {
+        this.c46 = c46;
+    }
+
+    public void setC47(final long c47) {
+        this.c47 = c47;
+    }
+
+    public void setC48(final double c48) {
+        this.c48 = c48;
+    }
+
+    public void setC49(final String c49) {
+        this.c49 = c49;
+    }
+
+    public void setC50(final boolean c50) {
+        this.c50 = c50;
+    }
+}
@@ -28,6 +28,7 @@ import java.io.Writer;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -247,6 +248,22 @@ public class SqlNullCheckedResultSetTest extends BaseTestCase {
         rs = ProxyFactory.instance().createResultSet(rs2); // Override superclass field
     }
 
+    /**
+     * Tests that the wrapper checks values without a proxy.
+     */
+    public void testDirectCalls() throws SQLException {
+        rs2.setNullInt(-999);
+        rs2.setNullString("---N/A---");
+        rs2.setNullObject("none");
+
+        assertFalse(Proxy.isProxyClass(SqlNullCheckedResultSet.wrap(rs2).getClass()));
+        assertEquals(-999, rs2.getInt(1));
+        assertEquals("---N/A---", rs2.getString("column"));
+        assertEquals("none", rs2.getObject(1, String.class));
+        assertSame(rs2, rs2.unwrap(SqlNullCheckedResultSet.class));
+        assertTrue(rs2.isWrapperFor(DelegatingResultSet.class));
+    }
+
     /**
      * Tests the getAsciiStream implementation.
      */
@@ -44,6 +44,13 @@ public class StringTrimmedResultSetTest extends BaseTestCase {
         assertEquals("notInBean", rs.getString(4));
     }
 
+    public void testWrapDoesNotCreateProxy() throws SQLException {
+        assertTrue(this.rs instanceof StringTrimmedResultSet);
+        this.rs.next();
+        assertEquals("notInBean", rs.getObject("notInBean"));
+        assertEquals(Integer.valueOf(1), rs.getObject(5));
+    }
+
     /**
      * Make sure 2 wrappers work together.
      * @throws SQLException if a database access error occurs